@@ -2,6 +2,11 @@ package cn.vimor.toolkit.jedis;
 
 import cn.vimor.toolkit.jedis.lock.GlobalLock;
 import cn.vimor.toolkit.jedis.lock.GlobalLockImpl;
+import cn.vimor.toolkit.jedis.lock.GlobalLockedAspect;
+import cn.vimor.toolkit.jedis.lock.GlobalReadWriteLock;
+import cn.vimor.toolkit.jedis.lock.GlobalReadWriteLockImpl;
+import cn.vimor.toolkit.jedis.lock.GlobalSemaphore;
+import cn.vimor.toolkit.jedis.lock.GlobalSemaphoreImpl;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
@@ -20,4 +25,23 @@ public class GlobalLockAutoConfiguration {
     public GlobalLock globalLock() {
         return new GlobalLockImpl();
     }
+
+    @Bean
+    @ConditionalOnMissingBean(GlobalReadWriteLock.class)
+    public GlobalReadWriteLock globalReadWriteLock() {
+        return new GlobalReadWriteLockImpl();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(GlobalSemaphore.class)
+    public GlobalSemaphore globalSemaphore() {
+        return new GlobalSemaphoreImpl();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(GlobalLockedAspect.class)
+    @ConditionalOnClass(name = "org.aspectj.lang.annotation.Aspect")
+    public GlobalLockedAspect globalLockedAspect(GlobalLock globalLock) {
+        return new GlobalLockedAspect(globalLock);
+    }
 }
@@ -1,16 +1,37 @@
 package cn.vimor.toolkit.jedis;
 
+import cn.vimor.toolkit.jedis.cache.NearCache;
+import cn.vimor.toolkit.jedis.codec.BinaryValueCodec;
+import cn.vimor.toolkit.jedis.codec.JavaSerializationCodec;
+import cn.vimor.toolkit.jedis.codec.JsonValueCodec;
+import cn.vimor.toolkit.jedis.codec.ValueCodec;
+import cn.vimor.toolkit.jedis.codec.ValueSerializer;
+import cn.vimor.toolkit.jedis.connection.JedisConnectionProvider;
+import cn.vimor.toolkit.jedis.connection.MultiplexedJedisConnectionProvider;
+import cn.vimor.toolkit.jedis.connection.PooledJedisConnectionProvider;
+import cn.vimor.toolkit.jedis.lock.LockReleaseNotifier;
+import cn.vimor.toolkit.jedis.lock.LockWatchdog;
+import cn.vimor.toolkit.jedis.pipeline.AutoPipeliningExecutor;
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.util.StringUtils;
+import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.HostAndPort;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 
 
 /**
@@ -81,6 +102,96 @@ public class JedisConfigAutoConfiguration {
     @Value("${jedis.clientName}")
     private String clientName;
 
+    /**
+     * 是否开启线程亲和，开启后每个线程固定持有一个连接
+     */
+    @Value("${jedis.threadAffinity:false}")
+    private boolean threadAffinity;
+
+    /**
+     * 线程亲和最多固定持有的连接数，小于等于0时为maxActive的一半；达到上限后其余线程按普通方式借用
+     */
+    @Value("${jedis.threadAffinityMax:-1}")
+    private Integer threadAffinityMax;
+
+    /**
+     * 连接模式：pooled(连接池，默认) / multiplexed(多路复用，多个线程共享少量连接)
+     */
+    @Value("${jedis.mode:pooled}")
+    private String mode;
+
+    /**
+     * 多路复用模式下的连接数
+     */
+    @Value("${jedis.multiplexedConnections:4}")
+    private Integer multiplexedConnections;
+
+    /**
+     * 自动管道收集命令的时间窗口，单位微秒
+     */
+    @Value("${jedis.autoPipeline.windowMicros:100}")
+    private Long autoPipelineWindowMicros;
+
+    /**
+     * 自动管道一次最多发出的命令数
+     */
+    @Value("${jedis.autoPipeline.batchSize:128}")
+    private Integer autoPipelineBatchSize;
+
+    /**
+     * 自动管道同时在途的管道数
+     */
+    @Value("${jedis.autoPipeline.maxInFlight:2}")
+    private Integer autoPipelineMaxInFlight;
+
+    /**
+     * 近端缓存的key前缀，多个以逗号分隔，为空时缓存全部key
+     */
+    @Value("${jedis.nearCache.prefixes:}")
+    private List<String> nearCachePrefixes;
+
+    /**
+     * 近端缓存最多缓存的key数量
+     */
+    @Value("${jedis.nearCache.maxKeys:10000}")
+    private Integer nearCacheMaxKeys;
+
+    /**
+     * 近端缓存的过期时间，单位秒
+     */
+    @Value("${jedis.nearCache.ttlSeconds:60}")
+    private Long nearCacheTtlSeconds;
+
+    /**
+     * 锁续期看门狗管理的锁的持有时间，单位毫秒
+     */
+    @Value("${jedis.lock.watchdog.leaseMillis:30000}")
+    private Long lockWatchdogLeaseMillis;
+
+    /**
+     * 类型化操作中非基本类型使用的编解码器：json / java(Java序列化)
+     */
+    @Value("${jedis.codec.objectCodec:json}")
+    private String objectCodec;
+
+    /**
+     * Java序列化允许反序列化的类名前缀，逗号分隔；objectCodec=java时必须配置
+     */
+    @Value("${jedis.codec.javaAllowedPackages:}")
+    private String javaAllowedPackages;
+
+    /**
+     * 编码结果不小于该大小时压缩，单位字节，不大于0时不压缩
+     */
+    @Value("${jedis.codec.compressThreshold:4096}")
+    private Integer compressThreshold;
+
+    /**
+     * 解压后的最大大小，单位字节，超过时读取失败
+     */
+    @Value("${jedis.codec.maxDecodedSize:" + ValueSerializer.DEFAULT_MAX_DECODED_SIZE + "}")
+    private Integer maxDecodedSize;
+
     /**
      * 初始化jedisPool
      *
@@ -107,11 +218,118 @@ public class JedisConfigAutoConfiguration {
             poolConfig.setMaxWait(Duration.ofMillis(10000));
             poolConfig.setTestOnBorrow(true);
         }
-        if (StringUtils.isEmpty(auth)) {
+        if (!StringUtils.hasLength(auth)) {
             auth = null;
         }
         poolConfig.setJmxEnabled(false);
 
         return new JedisPool(poolConfig, host, port, timeOut, auth, defaultDataBase, clientName);
     }
+
+    /**
+     * 初始化连接提供者
+     *
+     * @param jedisPool jedis连接池
+     * @return {@link JedisConnectionProvider}
+     */
+    @Bean
+    @ConditionalOnMissingBean(JedisConnectionProvider.class)
+    public JedisConnectionProvider jedisConnectionProvider(JedisPool jedisPool) {
+        if ("multiplexed".equalsIgnoreCase(mode)) {
+            return new MultiplexedJedisConnectionProvider(new HostAndPort(host, port), clientConfig(),
+                    multiplexedConnections);
+        }
+        return new PooledJedisConnectionProvider(jedisPool, threadAffinity, threadAffinityMax);
+    }
+
+    /**
+     * 初始化自动管道执行器，jedis.autoPipeline.enabled=true时开启
+     *
+     * @param connectionProvider 连接提供者
+     * @return {@link AutoPipeliningExecutor}
+     */
+    @Bean
+    @ConditionalOnMissingBean(AutoPipeliningExecutor.class)
+    @ConditionalOnProperty(name = "jedis.autoPipeline.enabled", havingValue = "true")
+    public AutoPipeliningExecutor autoPipeliningExecutor(JedisConnectionProvider connectionProvider) {
+        return new AutoPipeliningExecutor(connectionProvider, autoPipelineWindowMicros, TimeUnit.MICROSECONDS,
+                autoPipelineBatchSize, autoPipelineMaxInFlight, 2L * timeOut);
+    }
+
+    /**
+     * 初始化近端缓存，jedis.nearCache.enabled=true时开启，需要Redis 6.0及以上版本
+     *
+     * @return {@link NearCache}
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean(NearCache.class)
+    @ConditionalOnProperty(name = "jedis.nearCache.enabled", havingValue = "true")
+    public NearCache nearCache() {
+        return new NearCache(new HostAndPort(host, port), clientConfig(), nearCachePrefixes, nearCacheMaxKeys,
+                nearCacheTtlSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 初始化锁释放通知，jedis.lock.notify=false时关闭，等待锁的线程只依靠退避重试
+     *
+     * @return {@link LockReleaseNotifier}
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean(LockReleaseNotifier.class)
+    @ConditionalOnProperty(name = "jedis.lock.notify", havingValue = "true", matchIfMissing = true)
+    public LockReleaseNotifier lockReleaseNotifier() {
+        return new LockReleaseNotifier(new HostAndPort(host, port), clientConfig());
+    }
+
+    /**
+     * 初始化锁续期看门狗，jedis.lock.watchdog.enabled=true时开启
+     *
+     * @param connectionProvider 连接提供者
+     * @return {@link LockWatchdog}
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean(LockWatchdog.class)
+    @ConditionalOnProperty(name = "jedis.lock.watchdog.enabled", havingValue = "true")
+    public LockWatchdog lockWatchdog(JedisConnectionProvider connectionProvider) {
+        return new LockWatchdog(connectionProvider, lockWatchdogLeaseMillis);
+    }
+
+    /**
+     * 初始化值序列化器，容器中的{@link ValueCodec}优先于内置编解码器
+     *
+     * @param customCodecs 自定义编解码器
+     * @return {@link ValueSerializer}
+     */
+    @Bean
+    @ConditionalOnMissingBean(ValueSerializer.class)
+    public ValueSerializer valueSerializer(ObjectProvider<ValueCodec> customCodecs) {
+        List<ValueCodec> codecs = new ArrayList<>(customCodecs.orderedStream().collect(Collectors.toList()));
+        codecs.add(new BinaryValueCodec());
+        //Java序列化只在显式配置时注册，否则Redis中头字节为其id的值会触发反序列化
+        if ("java".equalsIgnoreCase(objectCodec)) {
+            String[] allowedPrefixes = StringUtils.commaDelimitedListToStringArray(
+                    StringUtils.trimAllWhitespace(javaAllowedPackages));
+            //不限制可反序列化的类时，Redis中的任意值都可以触发反序列化漏洞
+            AbstractAssertUtils.isTrue(allowedPrefixes.length > 0,
+                    "'jedis.codec.javaAllowedPackages' must not be empty when 'jedis.codec.objectCodec' is java");
+            codecs.add(new JavaSerializationCodec(allowedPrefixes));
+        }
+        codecs.add(new JsonValueCodec());
+        return new ValueSerializer(codecs, compressThreshold, maxDecodedSize);
+    }
+
+    /**
+     * 连接池之外的独立连接使用的客户端配置
+     *
+     * @return {@link DefaultJedisClientConfig}
+     */
+    private DefaultJedisClientConfig clientConfig() {
+        return DefaultJedisClientConfig.builder()
+                .connectionTimeoutMillis(timeOut)
+                .socketTimeoutMillis(timeOut)
+                .password(StringUtils.hasLength(auth) ? auth : null)
+                .database(defaultDataBase)
+                .clientName(clientName)
+                .build();
+    }
 }
@@ -0,0 +1,314 @@
+package cn.vimor.toolkit.jedis.cache;
+
+import cn.vimor.toolkit.jedis.service.impl.JedisServiceImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.params.SetParams;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 旁路缓存加载器，防止热点key过期时的缓存击穿
+ * <p>
+ * 同一JVM内对同一key的并发加载合并为一次loader调用；跨JVM由短期租约({@code key:load-lease})保证同一时刻只有一个实例加载，
+ * 未取得租约的实例轮询等待新值，超过租约时间仍未等到时自行加载。读到旧值或触发提前刷新时，未取得租约的调用方直接返回当前值。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class CacheAsideLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheAsideLoader.class);
+
+    private static final String LEASE_SUFFIX = ":load-lease";
+
+    /**
+     * 未取得租约时轮询的最小、最大间隔，单位毫秒
+     */
+    private static final long MIN_POLL_MILLIS = 10;
+    private static final long MAX_POLL_MILLIS = 100;
+
+    /**
+     * 租约异常时使用的本地令牌，不需要释放
+     */
+    private static final String LOCAL_TOKEN = "";
+
+    /**
+     * 释放租约：租约仍为自己所持有时删除，判断与删除在同一个脚本中完成，不会删除已过期并被其他实例重新取得的租约
+     */
+    private static final String RELEASE_LEASE_SCRIPT = "if redis.call('get', KEYS[1]) == ARGV[1] then "
+            + "return redis.call('del', KEYS[1]) "
+            + "end "
+            + "return 0";
+
+    private final JedisServiceImpl jedisService;
+
+    /**
+     * 本JVM内正在进行的加载
+     */
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    public CacheAsideLoader(JedisServiceImpl jedisService) {
+        this.jedisService = jedisService;
+    }
+
+    /**
+     * 读取缓存，未命中、过期或需要提前刷新时调用loader加载并写回
+     *
+     * @param key     key
+     * @param options 加载选项
+     * @param store   缓存的读写方式
+     * @param loader  加载器，返回null时不写入缓存
+     * @param <T>     值类型
+     * @return 值
+     */
+    public <T> T getOrLoad(String key, LoadOptions options, CacheStore<T> store, Supplier<T> loader) {
+        Entry<T> entry;
+        try {
+            entry = read(key, store);
+        } catch (JedisException e) {
+            logger.error("'getOrLoad' key fail, load without cache, key: {}", key);
+            logger.error(e.getMessage(), e);
+            return singleFlight(key, loader);
+        }
+        if (entry.value == null) {
+            return singleFlight(key, () -> loadOnMiss(key, options, store, loader));
+        }
+        long freshMillis = entry.pttl < 0 ? Long.MAX_VALUE : entry.pttl - options.getStaleTtl().toMillis();
+        if (freshMillis > 0 && !refreshEarly(freshMillis, options)) {
+            return entry.value;
+        }
+        //已有本地调用方在刷新，直接返回当前值
+        if (inFlight.containsKey(key)) {
+            return entry.value;
+        }
+        return singleFlight(key, () -> refresh(key, options, store, loader, entry.value));
+    }
+
+    /**
+     * 按XFetch判断是否提前刷新：-loadTime * beta * ln(random) >= 剩余新鲜时间
+     *
+     * @param freshMillis 剩余新鲜时间
+     * @param options     加载选项
+     * @return boolean
+     */
+    private boolean refreshEarly(long freshMillis, LoadOptions options) {
+        if (options.getBeta() <= 0) {
+            return false;
+        }
+        double random = ThreadLocalRandom.current().nextDouble();
+        return -options.getLoadTime().toMillis() * options.getBeta() * Math.log(random) >= freshMillis;
+    }
+
+    private <T> T loadOnMiss(String key, LoadOptions options, CacheStore<T> store, Supplier<T> loader) {
+        String token = tryLease(key, options);
+        if (token != null) {
+            return loadAndWrite(key, options, store, loader, token);
+        }
+        //其它实例正在加载，等待其写回
+        long deadline = System.nanoTime() + options.getLease().toNanos();
+        long pollMillis = MIN_POLL_MILLIS;
+        try {
+            while (System.nanoTime() - deadline < 0) {
+                TimeUnit.MILLISECONDS.sleep(pollMillis);
+                T value = read(key, store).value;
+                if (value != null) {
+                    return value;
+                }
+                pollMillis = Math.min(pollMillis * 2, MAX_POLL_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (JedisException e) {
+            logger.error("'getOrLoad' wait key fail, key: {}", key);
+            logger.error(e.getMessage(), e);
+        }
+        return loadAndWrite(key, options, store, loader, LOCAL_TOKEN);
+    }
+
+    private <T> T refresh(String key, LoadOptions options, CacheStore<T> store, Supplier<T> loader, T current) {
+        String token = tryLease(key, options);
+        if (token == null) {
+            return current;
+        }
+        return loadAndWrite(key, options, store, loader, token);
+    }
+
+    private <T> T loadAndWrite(String key, LoadOptions options, CacheStore<T> store, Supplier<T> loader,
+                               String token) {
+        try {
+            T value = loader.get();
+            if (value != null) {
+                write(key, options, store, value);
+            }
+            return value;
+        } finally {
+            releaseLease(key, token);
+        }
+    }
+
+    private <T> Entry<T> read(String key, CacheStore<T> store) {
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return store.read(jedis, key);
+        } finally {
+            jedisService.closeJedis(jedis);
+        }
+    }
+
+    private <T> void write(String key, LoadOptions options, CacheStore<T> store, T value) {
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            store.write(jedis, key, value, options.retainMillis());
+        } catch (JedisException e) {
+            logger.error("'getOrLoad' write key fail, key: {}", key);
+            logger.error(e.getMessage(), e);
+        } finally {
+            jedisService.invalidateNearCache(key);
+            jedisService.closeJedis(jedis);
+        }
+    }
+
+    /**
+     * 尝试取得加载租约
+     *
+     * @param key     key
+     * @param options 加载选项
+     * @return 租约令牌，未取得时返回null
+     */
+    private String tryLease(String key, LoadOptions options) {
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            String token = UUID.randomUUID().toString();
+            SetParams setParams = new SetParams();
+            setParams.nx();
+            setParams.px(options.getLease().toMillis());
+            return jedis.set(key + LEASE_SUFFIX, token, setParams) == null ? null : token;
+        } catch (JedisException e) {
+            logger.error("'getOrLoad' lease key fail, key: {}", key);
+            logger.error(e.getMessage(), e);
+            return LOCAL_TOKEN;
+        } finally {
+            jedisService.closeJedis(jedis);
+        }
+    }
+
+    private void releaseLease(String key, String token) {
+        if (LOCAL_TOKEN.equals(token)) {
+            return;
+        }
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            jedis.eval(RELEASE_LEASE_SCRIPT, Collections.singletonList(key + LEASE_SUFFIX),
+                    Collections.singletonList(token));
+        } catch (JedisException e) {
+            logger.error("'getOrLoad' release lease fail, key: {}", key);
+            logger.error(e.getMessage(), e);
+        } finally {
+            jedisService.closeJedis(jedis);
+        }
+    }
+
+    /**
+     * 合并本JVM内对同一key的并发调用，只有第一个调用方执行supplier，其余调用方等待其结果
+     *
+     * @param key      key
+     * @param supplier 执行体
+     * @param <T>      值类型
+     * @return 值
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T singleFlight(String key, Supplier<T> supplier) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        try {
+            T value = supplier.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * 缓存的读写方式
+     *
+     * @param <T> 值类型
+     */
+    public interface CacheStore<T> {
+
+        /**
+         * 读取值与剩余存活时间
+         *
+         * @param jedis jedis
+         * @param key   key
+         * @return {@link Entry}
+         */
+        Entry<T> read(Jedis jedis, String key);
+
+        /**
+         * 写入值并设置存活时间
+         *
+         * @param jedis        jedis
+         * @param key          key
+         * @param value        值
+         * @param retainMillis 存活时间，单位毫秒
+         */
+        void write(Jedis jedis, String key, T value, long retainMillis);
+    }
+
+    /**
+     * 缓存的值
+     *
+     * @param <T> 值类型
+     */
+    public static final class Entry<T> {
+
+        private final T value;
+
+        /**
+         * 剩余存活时间(PTTL)，单位毫秒；-1表示未设置过期，-2表示不存在
+         */
+        private final long pttl;
+
+        public Entry(T value, long pttl) {
+            this.value = value;
+            this.pttl = pttl;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public long getPttl() {
+            return pttl;
+        }
+    }
+}
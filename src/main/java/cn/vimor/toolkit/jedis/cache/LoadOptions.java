@@ -0,0 +1,126 @@
+package cn.vimor.toolkit.jedis.cache;
+
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+
+import java.time.Duration;
+
+/**
+ * getOrLoad的加载选项
+ * <p>
+ * 值在Redis中实际保留{@code ttl + staleTtl}，前ttl内为新鲜值，之后的staleTtl内为旧值：
+ * 读到旧值时只有取得租约的调用方重新加载，其余调用方直接返回旧值。
+ * 开启提前刷新后，新鲜值临近过期时按概率提前重新加载(XFetch)，加载耗时越长、越接近过期，提前的概率越大。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public final class LoadOptions {
+
+    /**
+     * 新鲜时间
+     */
+    private final Duration ttl;
+
+    /**
+     * 过期后仍可返回旧值的时间
+     */
+    private Duration staleTtl = Duration.ZERO;
+
+    /**
+     * 跨JVM加载租约的时间，租约期间其它实例等待而不是同时加载
+     */
+    private Duration lease = Duration.ofSeconds(3);
+
+    /**
+     * 提前刷新系数，为0时不提前刷新
+     */
+    private double beta;
+
+    /**
+     * 预计的加载耗时
+     */
+    private Duration loadTime = Duration.ofMillis(100);
+
+    private LoadOptions(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    /**
+     * 以新鲜时间创建选项
+     *
+     * @param ttl 新鲜时间
+     * @return {@link LoadOptions}
+     */
+    public static LoadOptions ttl(Duration ttl) {
+        AbstractAssertUtils.isTrue(ttl != null && ttl.toMillis() > 0, "'ttl' must be greater than 0");
+        return new LoadOptions(ttl);
+    }
+
+    /**
+     * 过期后staleTtl内返回旧值，同时由一个调用方重新加载
+     *
+     * @param staleTtl 旧值保留时间
+     * @return {@link LoadOptions}
+     */
+    public LoadOptions staleWhileRefresh(Duration staleTtl) {
+        AbstractAssertUtils.isTrue(staleTtl != null && !staleTtl.isNegative(), "'staleTtl' must not be negative");
+        this.staleTtl = staleTtl;
+        return this;
+    }
+
+    /**
+     * 跨JVM加载租约的时间，应大于加载耗时
+     *
+     * @param lease 租约时间
+     * @return {@link LoadOptions}
+     */
+    public LoadOptions lease(Duration lease) {
+        AbstractAssertUtils.isTrue(lease != null && lease.toMillis() > 0, "'lease' must be greater than 0");
+        this.lease = lease;
+        return this;
+    }
+
+    /**
+     * 开启概率提前刷新
+     *
+     * @param beta     系数，通常为1，越大越早刷新
+     * @param loadTime 预计的加载耗时
+     * @return {@link LoadOptions}
+     */
+    public LoadOptions earlyRefresh(double beta, Duration loadTime) {
+        AbstractAssertUtils.isTrue(beta >= 0, "'beta' must not be negative");
+        AbstractAssertUtils.isTrue(loadTime != null && !loadTime.isNegative(), "'loadTime' must not be negative");
+        this.beta = beta;
+        this.loadTime = loadTime;
+        return this;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public Duration getStaleTtl() {
+        return staleTtl;
+    }
+
+    public Duration getLease() {
+        return lease;
+    }
+
+    public double getBeta() {
+        return beta;
+    }
+
+    public Duration getLoadTime() {
+        return loadTime;
+    }
+
+    /**
+     * 值在Redis中的实际保留时间，单位毫秒
+     *
+     * @return long
+     */
+    public long retainMillis() {
+        return ttl.toMillis() + staleTtl.toMillis();
+    }
+}
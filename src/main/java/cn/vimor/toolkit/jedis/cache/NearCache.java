@@ -0,0 +1,406 @@
+package cn.vimor.toolkit.jedis.cache;
+
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.JedisClientConfig;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 近端缓存(客户端缓存)
+ * <p>
+ * 在JVM内缓存热点key的读取结果，由Redis客户端追踪(CLIENT TRACKING)的广播模式负责失效：
+ * 独立的追踪连接订阅{@code __redis__:invalidate}，任意实例修改、过期或淘汰了匹配前缀的key时都会收到失效消息。
+ * 追踪连接断开期间不使用缓存，重连后清空全部缓存。缓存同时受key数量上限与TTL约束：
+ * 达到上限时由一个在各次淘汰之间持续前进的游标扫描若干key，移除途经的已过期key，没有过期key时淘汰采样中最久未读取的一个。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class NearCache implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(NearCache.class);
+
+    /**
+     * 字符串值的子key
+     */
+    public static final String VALUE = "";
+
+    /**
+     * 整个hash的子key
+     */
+    public static final String HASH_ALL = "*";
+
+    /**
+     * hash的filed子key前缀，避免与{@link #HASH_ALL}冲突
+     */
+    private static final String FIELD_PREFIX = "h:";
+
+    private static final String INVALIDATE_CHANNEL = "__redis__:invalidate";
+
+    /**
+     * 缓存的null值
+     */
+    private static final Object NULL = new Object();
+
+    /**
+     * 淘汰时采样的key数量
+     */
+    private static final int EVICTION_SAMPLES = 8;
+
+    /**
+     * 一次淘汰最多扫描的key数量(包括已过期的key)
+     */
+    private static final int EVICTION_SCAN_LIMIT = 64;
+
+    private final Map<String, Holder> holders = new ConcurrentHashMap<>();
+
+    /**
+     * 淘汰游标，在各次淘汰之间持续前进，扫描到末尾后从头开始
+     */
+    private Iterator<Map.Entry<String, Holder>> evictionCursor;
+
+    private final HostAndPort hostAndPort;
+
+    private final JedisClientConfig clientConfig;
+
+    /**
+     * 需要缓存的key前缀，为空时缓存全部key
+     */
+    private final List<String> prefixes;
+
+    private final int maxKeys;
+
+    private final long ttlNanos;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder invalidations = new LongAdder();
+
+    private final Thread tracker;
+
+    private volatile Connection trackingConnection;
+
+    /**
+     * 追踪连接是否已就绪，未就绪时不使用缓存
+     */
+    private volatile boolean ready;
+
+    private volatile boolean running = true;
+
+    public NearCache(HostAndPort hostAndPort, JedisClientConfig clientConfig, List<String> prefixes, int maxKeys,
+                     long ttl, TimeUnit timeUnit) {
+        AbstractAssertUtils.isTrue(maxKeys > 0, "'maxKeys' must be greater than 0");
+        AbstractAssertUtils.isTrue(ttl > 0, "'ttl' must be greater than 0");
+        this.hostAndPort = hostAndPort;
+        this.clientConfig = clientConfig;
+        this.prefixes = new ArrayList<>();
+        if (prefixes != null) {
+            for (String prefix : prefixes) {
+                if (prefix != null && !prefix.trim().isEmpty()) {
+                    this.prefixes.add(prefix.trim());
+                }
+            }
+        }
+        this.maxKeys = maxKeys;
+        this.ttlNanos = timeUnit.toNanos(ttl);
+        this.tracker = new Thread(this::trackLoop, "jedis-near-cache-tracker");
+        this.tracker.setDaemon(true);
+        this.tracker.start();
+    }
+
+    /**
+     * key是否在缓存范围内
+     *
+     * @param key key
+     * @return boolean
+     */
+    public boolean accepts(String key) {
+        if (prefixes.isEmpty()) {
+            return true;
+        }
+        for (String prefix : prefixes) {
+            if (key.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * hash的filed对应的子key
+     *
+     * @param filedKey filed
+     * @return {@link String}
+     */
+    public static String field(String filedKey) {
+        return FIELD_PREFIX + filedKey;
+    }
+
+    /**
+     * 读取缓存，未命中时调用loader加载并缓存结果(包括null)
+     *
+     * @param key    key
+     * @param subKey 子key，字符串值为{@link #VALUE}，hash的filed为{@link #field(String)}，整个hash为{@link #HASH_ALL}
+     * @param loader 加载器，异常时不缓存
+     * @param <T>    值类型
+     * @return 值
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, String subKey, Supplier<T> loader) {
+        if (!ready || !accepts(key)) {
+            return loader.get();
+        }
+        long now = System.nanoTime();
+        Holder holder = holders.get(key);
+        if (holder != null) {
+            Cached cached = holder.values.get(subKey);
+            if (cached != null && cached.expiresAt - now > 0) {
+                holder.accessedAt = now;
+                hits.increment();
+                return cached.value == NULL ? null : (T) cached.value;
+            }
+        } else {
+            if (holders.size() >= maxKeys) {
+                evict();
+            }
+            holder = holders.computeIfAbsent(key, k -> new Holder(now + ttlNanos));
+        }
+        misses.increment();
+        T value = loader.get();
+        //加载期间若已失效，holder已被移除，写入的是脱离缓存的holder，不会被读到
+        if (ready && holders.get(key) == holder) {
+            holder.values.put(subKey, new Cached(value == null ? NULL : value, now + ttlNanos));
+            holder.expiresAt = now + ttlNanos;
+        }
+        return value;
+    }
+
+    /**
+     * 使key的全部缓存失效
+     *
+     * @param key key
+     */
+    public void invalidate(String key) {
+        if (holders.remove(key) != null) {
+            invalidations.increment();
+        }
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void clear() {
+        holders.clear();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getInvalidationCount() {
+        return invalidations.sum();
+    }
+
+    /**
+     * 当前缓存的key数量
+     *
+     * @return int
+     */
+    public int size() {
+        return holders.size();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        ready = false;
+        Connection connection = trackingConnection;
+        if (connection != null) {
+            connection.disconnect();
+        }
+        tracker.interrupt();
+        clear();
+    }
+
+    /**
+     * 从游标位置开始扫描，移除途经的已过期key；没有过期key时淘汰采样中最久未读取的一个
+     */
+    private synchronized void evict() {
+        long now = System.nanoTime();
+        String victimKey = null;
+        Holder victim = null;
+        int expired = 0;
+        int samples = 0;
+        int restarts = 0;
+        for (int scanned = 0; samples < EVICTION_SAMPLES && scanned < EVICTION_SCAN_LIMIT; scanned++) {
+            if (evictionCursor == null || !evictionCursor.hasNext()) {
+                //一次淘汰内最多从头开始一次，避免key很少时反复扫描
+                if (restarts++ > 0) {
+                    break;
+                }
+                evictionCursor = holders.entrySet().iterator();
+                if (!evictionCursor.hasNext()) {
+                    break;
+                }
+            }
+            Map.Entry<String, Holder> entry = evictionCursor.next();
+            Holder holder = entry.getValue();
+            if (holder.expiresAt - now <= 0) {
+                if (holders.remove(entry.getKey(), holder)) {
+                    expired++;
+                }
+                continue;
+            }
+            samples++;
+            if (victim == null || holder.accessedAt - victim.accessedAt < 0) {
+                victim = holder;
+                victimKey = entry.getKey();
+            }
+        }
+        if (expired == 0 && victim != null) {
+            holders.remove(victimKey, victim);
+        }
+    }
+
+    private void trackLoop() {
+        while (running) {
+            Connection connection = null;
+            try {
+                connection = new Connection(hostAndPort, clientConfig);
+                trackingConnection = connection;
+                subscribe(connection);
+                readInvalidations(connection);
+            } catch (JedisException e) {
+                if (running) {
+                    logger.error("Near cache tracking connection fail, retry in 1s", e);
+                }
+            } finally {
+                ready = false;
+                clear();
+                if (connection != null) {
+                    connection.disconnect();
+                }
+            }
+            if (running) {
+                try {
+                    TimeUnit.SECONDS.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 开启广播模式的客户端追踪并把失效消息重定向到本连接
+     *
+     * @param connection 追踪连接
+     */
+    private void subscribe(Connection connection) {
+        connection.sendCommand(Protocol.Command.CLIENT, "ID");
+        long clientId = connection.getIntegerReply();
+        List<String> args = new ArrayList<>();
+        Collections.addAll(args, "TRACKING", "ON", "REDIRECT", String.valueOf(clientId), "BCAST");
+        for (String prefix : prefixes) {
+            args.add("PREFIX");
+            args.add(prefix);
+        }
+        connection.sendCommand(Protocol.Command.CLIENT, args.toArray(new String[0]));
+        connection.getStatusCodeReply();
+        connection.setTimeoutInfinite();
+        connection.sendCommand(Protocol.Command.SUBSCRIBE, INVALIDATE_CHANNEL);
+        //读取订阅确认，此前的写入都已被Redis追踪
+        connection.getObjectMultiBulkReply();
+        clear();
+        ready = true;
+        logger.info("Near cache tracking started, prefixes: {}", prefixes);
+    }
+
+    private void readInvalidations(Connection connection) {
+        while (running) {
+            List<Object> reply = connection.getUnflushedObjectMultiBulkReply();
+            if ("message".equalsIgnoreCase(SafeEncoder.encode((byte[]) reply.get(0)))) {
+                onInvalidate(reply.get(2));
+            }
+        }
+    }
+
+    /**
+     * 处理失效消息，内容为key数组；为null时表示整个库被清空(FLUSHDB/FLUSHALL)
+     *
+     * @param payload 消息内容
+     */
+    private void onInvalidate(Object payload) {
+        if (payload instanceof List) {
+            for (Object key : (List<?>) payload) {
+                invalidate(SafeEncoder.encode((byte[]) key));
+            }
+        } else if (payload instanceof byte[]) {
+            invalidate(SafeEncoder.encode((byte[]) payload));
+        } else {
+            invalidations.add(holders.size());
+            clear();
+        }
+    }
+
+    /**
+     * 一个key下缓存的值
+     */
+    private static final class Holder {
+
+        private final Map<String, Cached> values = new ConcurrentHashMap<>(4);
+
+        /**
+         * 最近一次命中的时间
+         */
+        private volatile long accessedAt = System.nanoTime();
+
+        /**
+         * 最后写入的值的过期时间，之前写入的值都已过期
+         */
+        private volatile long expiresAt;
+
+        private Holder(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final class Cached {
+
+        private final Object value;
+
+        private final long expiresAt;
+
+        private Cached(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package cn.vimor.toolkit.jedis.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 二进制编解码器，支持byte[]、String与基本类型，byte[]原样写入，String按UTF-8编码，数值按大端定长编码
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class BinaryValueCodec implements ValueCodec {
+
+    public static final byte ID = 1;
+
+    private static final Map<Class<?>, Class<?>> WRAPPERS = new HashMap<>(16);
+
+    static {
+        WRAPPERS.put(long.class, Long.class);
+        WRAPPERS.put(int.class, Integer.class);
+        WRAPPERS.put(short.class, Short.class);
+        WRAPPERS.put(byte.class, Byte.class);
+        WRAPPERS.put(double.class, Double.class);
+        WRAPPERS.put(float.class, Float.class);
+        WRAPPERS.put(boolean.class, Boolean.class);
+        WRAPPERS.put(char.class, Character.class);
+    }
+
+    @Override
+    public byte id() {
+        return ID;
+    }
+
+    @Override
+    public boolean supports(Class<?> type) {
+        return type == byte[].class || type == String.class || WRAPPERS.containsKey(type)
+                || WRAPPERS.containsValue(type);
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        if (value instanceof byte[]) {
+            return (byte[]) value;
+        }
+        if (value instanceof String) {
+            return ((String) value).getBytes(StandardCharsets.UTF_8);
+        }
+        if (value instanceof Long) {
+            return ByteBuffer.allocate(Long.BYTES).putLong((Long) value).array();
+        }
+        if (value instanceof Integer) {
+            return ByteBuffer.allocate(Integer.BYTES).putInt((Integer) value).array();
+        }
+        if (value instanceof Short) {
+            return ByteBuffer.allocate(Short.BYTES).putShort((Short) value).array();
+        }
+        if (value instanceof Byte) {
+            return new byte[]{(Byte) value};
+        }
+        if (value instanceof Double) {
+            return ByteBuffer.allocate(Double.BYTES).putDouble((Double) value).array();
+        }
+        if (value instanceof Float) {
+            return ByteBuffer.allocate(Float.BYTES).putFloat((Float) value).array();
+        }
+        if (value instanceof Boolean) {
+            return new byte[]{(byte) ((Boolean) value ? 1 : 0)};
+        }
+        if (value instanceof Character) {
+            return ByteBuffer.allocate(Character.BYTES).putChar((Character) value).array();
+        }
+        throw new IllegalArgumentException("unsupported type: " + value.getClass().getName());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T decode(byte[] bytes, int offset, int length, Class<T> type) {
+        Class<?> target = WRAPPERS.containsKey(type) ? WRAPPERS.get(type) : type;
+        Object value;
+        if (target == byte[].class) {
+            value = Arrays.copyOfRange(bytes, offset, offset + length);
+        } else if (target == String.class) {
+            value = new String(bytes, offset, length, StandardCharsets.UTF_8);
+        } else {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes, offset, length);
+            if (target == Long.class) {
+                value = buffer.getLong();
+            } else if (target == Integer.class) {
+                value = buffer.getInt();
+            } else if (target == Short.class) {
+                value = buffer.getShort();
+            } else if (target == Byte.class) {
+                value = buffer.get();
+            } else if (target == Double.class) {
+                value = buffer.getDouble();
+            } else if (target == Float.class) {
+                value = buffer.getFloat();
+            } else if (target == Boolean.class) {
+                value = buffer.get() != 0;
+            } else if (target == Character.class) {
+                value = buffer.getChar();
+            } else {
+                throw new IllegalArgumentException("unsupported type: " + type.getName());
+            }
+        }
+        return (T) value;
+    }
+}
@@ -0,0 +1,120 @@
+package cn.vimor.toolkit.jedis.codec;
+
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Java序列化编解码器，支持实现了{@link Serializable}的类型
+ * <p>
+ * 反序列化Redis中的任意字节存在远程代码执行风险，只应在jedis.codec.objectCodec=java时注册，
+ * 并且必须指定允许的类名前缀，只有匹配的类可以反序列化；数组按元素类型判断，基本类型与基本类型数组总是允许。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class JavaSerializationCodec implements ValueCodec {
+
+    public static final byte ID = 3;
+
+    /**
+     * 允许反序列化的类名前缀
+     */
+    private final List<String> allowedPrefixes;
+
+    /**
+     * @param allowedPrefixes 允许反序列化的类名前缀，不能为空
+     */
+    public JavaSerializationCodec(String... allowedPrefixes) {
+        AbstractAssertUtils.isTrue(allowedPrefixes != null && allowedPrefixes.length > 0,
+                "'allowedPrefixes' must have elements");
+        this.allowedPrefixes = Arrays.asList(allowedPrefixes);
+    }
+
+    @Override
+    public byte id() {
+        return ID;
+    }
+
+    @Override
+    public boolean supports(Class<?> type) {
+        return Serializable.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream stream = new ObjectOutputStream(out)) {
+            stream.writeObject(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, int offset, int length, Class<T> type) {
+        try (ObjectInputStream stream = new FilteredObjectInputStream(new ByteArrayInputStream(bytes, offset, length))) {
+            return type.cast(stream.readObject());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 是否允许反序列化该类
+     *
+     * @param className 类名
+     * @return boolean
+     */
+    private boolean allowed(String className) {
+        String name = className;
+        //数组按元素类型判断，例如[Lcom.foo.Bar;
+        int dimensions = 0;
+        while (dimensions < name.length() && name.charAt(dimensions) == '[') {
+            dimensions++;
+        }
+        if (dimensions > 0) {
+            if (name.charAt(dimensions) != 'L') {
+                return true;
+            }
+            name = name.substring(dimensions + 1, name.length() - 1);
+        }
+        for (String prefix : allowedPrefixes) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 解析类之前检查允许的类名前缀
+     */
+    private final class FilteredObjectInputStream extends ObjectInputStream {
+
+        private FilteredObjectInputStream(ByteArrayInputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            if (!allowed(desc.getName())) {
+                throw new InvalidClassException(desc.getName(), "class is not allowed to be deserialized");
+            }
+            return super.resolveClass(desc);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package cn.vimor.toolkit.jedis.codec;
+
+import com.google.gson.Gson;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JSON编解码器，基于jedis自带的Gson，支持任意类型
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class JsonValueCodec implements ValueCodec {
+
+    public static final byte ID = 2;
+
+    private final Gson gson;
+
+    public JsonValueCodec() {
+        this(new Gson());
+    }
+
+    public JsonValueCodec(Gson gson) {
+        this.gson = gson;
+    }
+
+    @Override
+    public byte id() {
+        return ID;
+    }
+
+    @Override
+    public boolean supports(Class<?> type) {
+        return true;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        return gson.toJson(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, int offset, int length, Class<T> type) {
+        return gson.fromJson(new String(bytes, offset, length, StandardCharsets.UTF_8), type);
+    }
+}
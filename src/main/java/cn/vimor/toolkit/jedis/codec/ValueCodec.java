@@ -0,0 +1,48 @@
+package cn.vimor.toolkit.jedis.codec;
+
+/**
+ * 值编解码器
+ * <p>
+ * 编码结果前由{@link ValueSerializer}加一个头字节记录编解码器id与是否压缩，读取时按头字节选择编解码器，
+ * 因此更换默认编解码器后旧数据仍可读取。自定义编解码器注册为Spring Bean即可生效，id需在1~127之间且不与内置编解码器重复。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public interface ValueCodec {
+
+    /**
+     * 编解码器id，写入头字节，取值1~127
+     *
+     * @return byte
+     */
+    byte id();
+
+    /**
+     * 是否支持该类型
+     *
+     * @param type 类型
+     * @return boolean
+     */
+    boolean supports(Class<?> type);
+
+    /**
+     * 编码
+     *
+     * @param value 值，不为null
+     * @return byte[]
+     */
+    byte[] encode(Object value);
+
+    /**
+     * 解码
+     *
+     * @param bytes  字节
+     * @param offset 开始位置
+     * @param length 长度
+     * @param type   类型
+     * @param <T>    值类型
+     * @return 值
+     */
+    <T> T decode(byte[] bytes, int offset, int length, Class<T> type);
+}
@@ -0,0 +1,225 @@
+package cn.vimor.toolkit.jedis.codec;
+
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 值序列化器
+ * <p>
+ * 写入格式为{@code [头字节][内容]}，头字节低7位为编解码器id，最高位表示内容经过Deflate压缩。
+ * 编码结果不小于压缩阈值且压缩后更短时才压缩。写入时按类型选择第一个支持该类型的编解码器，读取时按头字节选择。
+ * 解压时结果超过{@link #maxDecodedSize}即失败，避免很小的压缩值在读取方解压出巨大的数据。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class ValueSerializer {
+
+    /**
+     * 头字节中的压缩标记
+     */
+    private static final int COMPRESSED = 0x80;
+
+    private static final int ID_MASK = 0x7F;
+
+    /**
+     * 默认的解压后最大大小，64MB
+     */
+    public static final int DEFAULT_MAX_DECODED_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * 按写入优先级排列的编解码器
+     */
+    private final List<ValueCodec> codecs;
+
+    private final ValueCodec[] codecsById = new ValueCodec[ID_MASK + 1];
+
+    private final Map<Class<?>, ValueCodec> codecsByType = new ConcurrentHashMap<>();
+
+    /**
+     * 压缩阈值，单位字节，不大于0时不压缩
+     */
+    private final int compressThreshold;
+
+    /**
+     * 解压后的最大大小，单位字节
+     */
+    private final int maxDecodedSize;
+
+    public ValueSerializer(List<ValueCodec> codecs, int compressThreshold) {
+        this(codecs, compressThreshold, DEFAULT_MAX_DECODED_SIZE);
+    }
+
+    /**
+     * @param codecs            按写入优先级排列的编解码器
+     * @param compressThreshold 压缩阈值，单位字节，不大于0时不压缩
+     * @param maxDecodedSize    解压后的最大大小，单位字节
+     */
+    public ValueSerializer(List<ValueCodec> codecs, int compressThreshold, int maxDecodedSize) {
+        AbstractAssertUtils.notEmpty(codecs, "'codecs' must have elements");
+        AbstractAssertUtils.isTrue(maxDecodedSize > 0, "'maxDecodedSize' must be greater than 0");
+        this.codecs = new ArrayList<>(codecs);
+        this.compressThreshold = compressThreshold;
+        this.maxDecodedSize = maxDecodedSize;
+        for (ValueCodec codec : codecs) {
+            int id = codec.id();
+            AbstractAssertUtils.isTrue(id > 0 && id <= ID_MASK, "codec id must be between 1 and 127");
+            //同一id只登记第一个，保证自定义编解码器优先
+            if (codecsById[id] == null) {
+                codecsById[id] = codec;
+            }
+        }
+    }
+
+    /**
+     * 默认序列化器：基本类型使用二进制编码，其它类型使用JSON；不包含Java序列化，头字节为Java序列化id的值读取时失败
+     *
+     * @param compressThreshold 压缩阈值
+     * @return {@link ValueSerializer}
+     */
+    public static ValueSerializer createDefault(int compressThreshold) {
+        return new ValueSerializer(Arrays.asList(new BinaryValueCodec(), new JsonValueCodec()), compressThreshold);
+    }
+
+    /**
+     * 序列化
+     *
+     * @param value 值
+     * @return byte[]，值为null时返回null
+     * @throws JedisDataException 没有支持该类型的编解码器或编码失败时
+     */
+    public byte[] serialize(Object value) {
+        if (value == null) {
+            return null;
+        }
+        ValueCodec codec;
+        try {
+            codec = codecFor(value.getClass());
+        } catch (IllegalArgumentException e) {
+            throw new JedisDataException(e.getMessage(), e);
+        }
+        byte[] payload;
+        try {
+            payload = codec.encode(value);
+        } catch (RuntimeException e) {
+            throw new JedisDataException("encode fail, codec: " + codec.id() + ", type: " + value.getClass().getName(), e);
+        }
+        int header = codec.id();
+        if (compressThreshold > 0 && payload.length >= compressThreshold) {
+            byte[] compressed = deflate(payload);
+            if (compressed.length < payload.length) {
+                payload = compressed;
+                header |= COMPRESSED;
+            }
+        }
+        byte[] bytes = new byte[payload.length + 1];
+        bytes[0] = (byte) header;
+        System.arraycopy(payload, 0, bytes, 1, payload.length);
+        return bytes;
+    }
+
+    /**
+     * 反序列化
+     *
+     * @param bytes 字节
+     * @param type  类型
+     * @param <T>   值类型
+     * @return 值，bytes为null时返回null
+     * @throws JedisDataException 头字节未知、解压失败、解压后超过最大大小或解码失败时
+     */
+    public <T> T deserialize(byte[] bytes, Class<T> type) {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length == 0) {
+            throw new JedisDataException("missing codec header");
+        }
+        int header = bytes[0] & 0xFF;
+        ValueCodec codec = codecsById[header & ID_MASK];
+        if (codec == null) {
+            throw new JedisDataException("unknown codec id: " + (header & ID_MASK));
+        }
+        try {
+            if ((header & COMPRESSED) != 0) {
+                byte[] payload = inflate(bytes, 1, bytes.length - 1, maxDecodedSize);
+                return codec.decode(payload, 0, payload.length, type);
+            }
+            return codec.decode(bytes, 1, bytes.length - 1, type);
+        } catch (JedisDataException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new JedisDataException("decode fail, codec: " + codec.id() + ", type: " + type.getName(), e);
+        }
+    }
+
+    /**
+     * 类型对应的编解码器
+     *
+     * @param type 类型
+     * @return {@link ValueCodec}
+     * @throws IllegalArgumentException 没有支持该类型的编解码器时
+     */
+    public ValueCodec codecFor(Class<?> type) {
+        ValueCodec codec = codecsByType.get(type);
+        if (codec != null) {
+            return codec;
+        }
+        for (ValueCodec candidate : codecs) {
+            if (candidate.supports(type)) {
+                codecsByType.put(type, candidate);
+                return candidate;
+            }
+        }
+        throw new IllegalArgumentException("no codec supports type: " + type.getName());
+    }
+
+    private static byte[] deflate(byte[] payload) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(payload);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 2);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes, int offset, int length, int maxDecodedSize) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, offset, length);
+            ByteArrayOutputStream out = new ByteArrayOutputStream((int) Math.min(length * 4L, maxDecodedSize));
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int count = inflater.inflate(buffer);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new JedisDataException("truncated compressed value");
+                }
+                if (out.size() + count > maxDecodedSize) {
+                    throw new JedisDataException("decompressed value exceeds max decoded size: " + maxDecodedSize);
+                }
+                out.write(buffer, 0, count);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new JedisDataException("corrupt compressed value", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
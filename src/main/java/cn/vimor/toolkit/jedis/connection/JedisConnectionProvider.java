@@ -0,0 +1,37 @@
+package cn.vimor.toolkit.jedis.connection;
+
+import redis.clients.jedis.Jedis;
+
+import java.io.Closeable;
+
+/**
+ * Jedis连接提供者
+ * <p>
+ * 统一{@link cn.vimor.toolkit.jedis.service.JedisService}、{@link cn.vimor.toolkit.jedis.lock.GlobalLock}
+ * 以及各个操作类获取与归还连接的入口，实现类需保证借用路径线程安全且不依赖全局监视器锁。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public interface JedisConnectionProvider extends Closeable {
+
+    /**
+     * 借用一个Jedis连接，使用完毕后必须调用{@link #release(Jedis)}归还
+     *
+     * @return {@link Jedis}
+     */
+    Jedis getResource();
+
+    /**
+     * 归还Jedis连接
+     *
+     * @param jedis Jedis
+     */
+    void release(Jedis jedis);
+
+    /**
+     * 释放提供者持有的所有连接
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,248 @@
+package cn.vimor.toolkit.jedis.connection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.DefaultJedisSocketFactory;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.JedisClientConfig;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.util.RedisInputStream;
+import redis.clients.jedis.util.RedisOutputStream;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.Socket;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 多路复用通道
+ * <p>
+ * 一个通道对应一个socket，多个线程共享：写入时在锁内按顺序登记回复并把命令写入缓冲区，每条命令得到一个写入序号，
+ * 由独立的读线程按RESP协议顺序读取回复，依次完成登记的{@link CompletableFuture}。
+ * 刷出时一次刷出缓冲区中全部命令并记录已刷出的序号，排队等待刷出的线程发现自己的命令已被前一个线程刷出时直接返回，
+ * 使并发命令合并为一次网络写。
+ * socket读取不设超时，调用方等待回复超时且等待期间没有读到任何回复时，认为连接已失效(如半开连接)并标记通道损坏，
+ * 由{@link MultiplexedJedisConnectionProvider}在下次借用时重建。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class MultiplexedChannel implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(MultiplexedChannel.class);
+
+    private final Socket socket;
+
+    private final RedisOutputStream outputStream;
+
+    private final RedisInputStream inputStream;
+
+    /**
+     * 等待回复的命令，顺序与写出顺序一致
+     */
+    private final Queue<CompletableFuture<Object>> pending = new ConcurrentLinkedQueue<>();
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /**
+     * 已写入缓冲区的命令序号，只在写锁内修改
+     */
+    private long written;
+
+    /**
+     * 已刷出到socket的命令序号
+     */
+    private volatile long flushed;
+
+    /**
+     * 最近一次读到回复的时间
+     */
+    private volatile long lastReadNanos = System.nanoTime();
+
+    private volatile boolean broken;
+
+    public MultiplexedChannel(HostAndPort hostAndPort, JedisClientConfig config, String name) {
+        this.socket = new DefaultJedisSocketFactory(hostAndPort, config).createSocket();
+        try {
+            this.outputStream = new RedisOutputStream(socket.getOutputStream());
+            this.inputStream = new RedisInputStream(socket.getInputStream());
+            handshake(config);
+            //回复由读线程持续读取，超时由调用方在等待回复时控制
+            socket.setSoTimeout(0);
+        } catch (IOException e) {
+            closeSocket();
+            throw new JedisConnectionException(e);
+        } catch (RuntimeException e) {
+            closeSocket();
+            throw e;
+        }
+        Thread reader = new Thread(this::readLoop, name);
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    /**
+     * 把命令写入缓冲区，需随后调用{@link #flush(long)}刷出
+     *
+     * @param args   命令参数
+     * @param future 命令回复，收到回复时完成
+     * @return 命令的写入序号
+     */
+    public long send(CommandArguments args, CompletableFuture<Object> future) {
+        writeLock.lock();
+        try {
+            if (broken) {
+                throw new JedisConnectionException("Multiplexed channel is broken");
+            }
+            pending.add(future);
+            Protocol.sendCommand(outputStream, args);
+            return ++written;
+        } catch (JedisConnectionException e) {
+            fail(e);
+            throw e;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 刷出缓冲区，序号不超过sequence的命令已被其他线程刷出时直接返回
+     *
+     * @param sequence {@link #send(CommandArguments, CompletableFuture)}返回的写入序号
+     */
+    public void flush(long sequence) {
+        if (flushed >= sequence) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            if (!broken && flushed < sequence) {
+                outputStream.flush();
+                flushed = written;
+            }
+        } catch (IOException e) {
+            fail(new JedisConnectionException(e));
+            throw new JedisConnectionException(e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public boolean isBroken() {
+        return broken;
+    }
+
+    /**
+     * 等待回复超时，从since起没有读到任何回复时标记通道损坏
+     *
+     * @param since 开始等待的时间
+     */
+    public void timedOut(long since) {
+        if (lastReadNanos - since < 0) {
+            logger.error("Multiplexed channel read no reply while waiting, marking it broken");
+            fail(new JedisConnectionException("Multiplexed channel read timed out"));
+        }
+    }
+
+    /**
+     * 等待回复的命令数
+     *
+     * @return int
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public void close() {
+        fail(new JedisConnectionException("Multiplexed channel closed"));
+    }
+
+    private void readLoop() {
+        while (!broken) {
+            Object reply = null;
+            JedisDataException error = null;
+            try {
+                reply = Protocol.read(inputStream);
+            } catch (JedisDataException e) {
+                error = e;
+            } catch (RuntimeException e) {
+                if (!broken) {
+                    logger.error("Multiplexed channel read fail", e);
+                }
+                fail(e instanceof JedisConnectionException ? (JedisConnectionException) e : new JedisConnectionException(e));
+                return;
+            }
+            lastReadNanos = System.nanoTime();
+            CompletableFuture<Object> future = pending.poll();
+            if (future == null) {
+                logger.warn("Multiplexed channel received an unexpected reply: {}", reply);
+                continue;
+            }
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(reply);
+            }
+        }
+    }
+
+    /**
+     * 标记通道损坏并以异常完成所有等待中的命令
+     *
+     * @param cause 原因
+     */
+    private void fail(JedisConnectionException cause) {
+        writeLock.lock();
+        try {
+            if (broken) {
+                return;
+            }
+            broken = true;
+        } finally {
+            writeLock.unlock();
+        }
+        closeSocket();
+        CompletableFuture<Object> future;
+        while ((future = pending.poll()) != null) {
+            future.completeExceptionally(cause);
+        }
+    }
+
+    private void handshake(JedisClientConfig config) throws IOException {
+        if (StringUtils.hasLength(config.getPassword())) {
+            CommandArguments auth = new CommandArguments(Protocol.Command.AUTH);
+            if (StringUtils.hasLength(config.getUser())) {
+                auth.add(config.getUser());
+            }
+            request(auth.add(config.getPassword()));
+        }
+        if (config.getDatabase() != Protocol.DEFAULT_DATABASE) {
+            request(new CommandArguments(Protocol.Command.SELECT).add(config.getDatabase()));
+        }
+        if (StringUtils.hasLength(config.getClientName())) {
+            request(new CommandArguments(Protocol.Command.CLIENT).add(Protocol.Keyword.SETNAME).add(config.getClientName()));
+        }
+    }
+
+    private void request(CommandArguments args) throws IOException {
+        Protocol.sendCommand(outputStream, args);
+        outputStream.flush();
+        Protocol.read(inputStream);
+    }
+
+    private void closeSocket() {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            logger.error("Multiplexed channel close fail", e);
+        }
+    }
+}
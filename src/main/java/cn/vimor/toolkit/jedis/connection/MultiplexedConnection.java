@@ -0,0 +1,151 @@
+package cn.vimor.toolkit.jedis.connection;
+
+import redis.clients.jedis.CommandArguments;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.commands.ProtocolCommand;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 多路复用的虚拟连接
+ * <p>
+ * 每次借用创建一个轻量实例包装为{@link redis.clients.jedis.Jedis}，命令写入共享的{@link MultiplexedChannel}，
+ * 本实例只记录自己发出命令的回复顺序，因此{@code Jedis}的普通命令与{@link redis.clients.jedis.Pipeline}均可直接使用。
+ * 事务、订阅、阻塞命令以及切换库会影响共享socket上的其他调用方，在此模式下不支持。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class MultiplexedConnection extends Connection {
+
+    /**
+     * 共享socket上不允许执行的命令
+     */
+    private static final Set<Protocol.Command> UNSUPPORTED_COMMANDS = EnumSet.of(Protocol.Command.MULTI,
+            Protocol.Command.EXEC, Protocol.Command.DISCARD, Protocol.Command.WATCH, Protocol.Command.UNWATCH,
+            Protocol.Command.SUBSCRIBE, Protocol.Command.PSUBSCRIBE, Protocol.Command.MONITOR,
+            Protocol.Command.SELECT, Protocol.Command.QUIT, Protocol.Command.AUTH);
+
+    private final MultiplexedChannel channel;
+
+    /**
+     * 本连接已发出、尚未读取的回复
+     */
+    private final Deque<CompletableFuture<Object>> replies = new ArrayDeque<>();
+
+    /**
+     * 本连接最近一条命令的写入序号
+     */
+    private long lastSequence;
+
+    private int soTimeout;
+
+    public MultiplexedConnection(MultiplexedChannel channel, int soTimeout) {
+        this.channel = channel;
+        this.soTimeout = soTimeout;
+    }
+
+    @Override
+    public void sendCommand(CommandArguments args) {
+        ProtocolCommand command = args.getCommand();
+        if (args.isBlocking() || (command instanceof Protocol.Command && UNSUPPORTED_COMMANDS.contains(command))) {
+            throw new JedisException("Command is not supported on a multiplexed connection: " + command);
+        }
+        CompletableFuture<Object> reply = new CompletableFuture<>();
+        lastSequence = channel.send(args, reply);
+        replies.add(reply);
+    }
+
+    @Override
+    protected void flush() {
+        channel.flush(lastSequence);
+    }
+
+    @Override
+    protected Object readProtocolWithCheckingBroken() {
+        CompletableFuture<Object> reply = replies.poll();
+        if (reply == null) {
+            throw new JedisConnectionException("No pending reply on multiplexed connection");
+        }
+        long start = System.nanoTime();
+        try {
+            return soTimeout > 0 ? reply.get(soTimeout, TimeUnit.MILLISECONDS) : reply.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JedisConnectionException(e);
+        } catch (TimeoutException e) {
+            channel.timedOut(start);
+            throw new JedisConnectionException("Read timed out on multiplexed connection", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof JedisDataException || cause instanceof JedisConnectionException) {
+                throw (JedisException) cause;
+            }
+            throw new JedisConnectionException(cause);
+        }
+    }
+
+    @Override
+    public int getSoTimeout() {
+        return soTimeout;
+    }
+
+    @Override
+    public void setSoTimeout(int soTimeout) {
+        this.soTimeout = soTimeout;
+    }
+
+    @Override
+    public void setTimeoutInfinite() {
+        //超时由等待回复时控制，无需修改socket
+    }
+
+    @Override
+    public void rollbackTimeout() {
+        //超时由等待回复时控制，无需修改socket
+    }
+
+    @Override
+    public void connect() {
+        if (channel.isBroken()) {
+            throw new JedisConnectionException("Multiplexed channel is broken");
+        }
+    }
+
+    @Override
+    public boolean isConnected() {
+        return !channel.isBroken();
+    }
+
+    @Override
+    public boolean isBroken() {
+        return channel.isBroken();
+    }
+
+    @Override
+    public void disconnect() {
+        //共享socket由MultiplexedJedisConnectionProvider管理
+        replies.clear();
+    }
+
+    @Override
+    public void close() {
+        disconnect();
+    }
+
+    @Override
+    public String toString() {
+        return "MultiplexedConnection{channel=" + channel + "}";
+    }
+}
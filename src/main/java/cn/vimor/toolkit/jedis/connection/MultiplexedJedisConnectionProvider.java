@@ -0,0 +1,102 @@
+package cn.vimor.toolkit.jedis.connection;
+
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisClientConfig;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 多路复用连接提供者
+ * <p>
+ * 所有线程共享少量{@link MultiplexedChannel}，每次借用只创建一个包装了{@link MultiplexedConnection}的{@link Jedis}，
+ * 不再占用独立socket，成千上万的并发调用方只需要几个到Redis的连接。通道损坏后在下次借用时重建。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class MultiplexedJedisConnectionProvider implements JedisConnectionProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(MultiplexedJedisConnectionProvider.class);
+
+    private final HostAndPort hostAndPort;
+
+    private final JedisClientConfig clientConfig;
+
+    private final AtomicReferenceArray<MultiplexedChannel> channels;
+
+    /**
+     * 通道重建时使用的锁，每个通道一把
+     */
+    private final Object[] channelLocks;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    private volatile boolean closed;
+
+    public MultiplexedJedisConnectionProvider(HostAndPort hostAndPort, JedisClientConfig clientConfig, int channelCount) {
+        AbstractAssertUtils.isTrue(channelCount > 0, "'channelCount' must be greater than 0");
+        this.hostAndPort = hostAndPort;
+        this.clientConfig = clientConfig;
+        this.channels = new AtomicReferenceArray<>(channelCount);
+        this.channelLocks = new Object[channelCount];
+        for (int i = 0; i < channelCount; i++) {
+            channelLocks[i] = new Object();
+        }
+    }
+
+    @Override
+    public Jedis getResource() {
+        return new Jedis(new MultiplexedConnection(nextChannel(), clientConfig.getSocketTimeoutMillis()));
+    }
+
+    @Override
+    public void release(Jedis jedis) {
+        if (jedis != null) {
+            jedis.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        for (int i = 0; i < channels.length(); i++) {
+            MultiplexedChannel channel = channels.getAndSet(i, null);
+            if (channel != null) {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * 轮询选择通道
+     *
+     * @return {@link MultiplexedChannel}
+     */
+    private MultiplexedChannel nextChannel() {
+        int index = (next.getAndIncrement() & Integer.MAX_VALUE) % channels.length();
+        MultiplexedChannel channel = channels.get(index);
+        if (channel != null && !channel.isBroken()) {
+            return channel;
+        }
+        synchronized (channelLocks[index]) {
+            channel = channels.get(index);
+            if (channel == null || channel.isBroken()) {
+                if (closed) {
+                    throw new JedisException("Multiplexed connection provider is closed");
+                }
+                if (channel != null) {
+                    logger.warn("Multiplexed channel {} is broken, reconnecting to {}", index, hostAndPort);
+                }
+                channel = new MultiplexedChannel(hostAndPort, clientConfig, "jedis-multiplexed-" + index);
+                channels.set(index, channel);
+            }
+            return channel;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package cn.vimor.toolkit.jedis.connection;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 基于{@link JedisPool}的连接提供者
+ * <p>
+ * 借用路径不再加{@code synchronized}，直接交给连接池自身的并发控制；
+ * 开启线程亲和(threadAffinity)后，每个线程会固定持有一个连接，借用时只读取{@link ThreadLocal}，不再访问连接池。
+ * 同一线程嵌套借用时，内层借用会从连接池另取连接，避免与外层的pipeline/事务状态冲突。
+ * 固定持有的连接数有上限(默认为连接池最大连接数的一半)，达到上限后其余线程按普通方式从连接池借用和归还，
+ * 避免存活线程数超过连接池大小时连接被固定持有耗尽。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class PooledJedisConnectionProvider implements JedisConnectionProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(PooledJedisConnectionProvider.class);
+
+    /**
+     * jedis连接池
+     */
+    private final JedisPool jedisPool;
+
+    /**
+     * 是否开启线程亲和
+     */
+    private final boolean threadAffinity;
+
+    /**
+     * 最多固定持有的连接数
+     */
+    private final int maxAffinityConnections;
+
+    /**
+     * 当前固定持有的连接数
+     */
+    private final AtomicInteger affinityConnections = new AtomicInteger();
+
+    /**
+     * 下一次允许回收已结束线程连接的时间，达到上限后借用时最多每秒回收一次
+     */
+    private volatile long nextPurgeNanos;
+
+    /**
+     * 当前线程固定持有的连接
+     */
+    private final ThreadLocal<AffinityHolder> affinity = new ThreadLocal<>();
+
+    /**
+     * 所有线程固定持有的连接，用于回收已结束线程的连接以及关闭时统一释放
+     */
+    private final Map<Thread, AffinityHolder> affinityHolders = new ConcurrentHashMap<>();
+
+    public PooledJedisConnectionProvider(JedisPool jedisPool) {
+        this(jedisPool, false);
+    }
+
+    public PooledJedisConnectionProvider(JedisPool jedisPool, boolean threadAffinity) {
+        this(jedisPool, threadAffinity, -1);
+    }
+
+    /**
+     * @param jedisPool              jedis连接池
+     * @param threadAffinity         是否开启线程亲和
+     * @param maxAffinityConnections 最多固定持有的连接数，小于等于0时为连接池最大连接数的一半
+     */
+    public PooledJedisConnectionProvider(JedisPool jedisPool, boolean threadAffinity, int maxAffinityConnections) {
+        this.jedisPool = jedisPool;
+        this.threadAffinity = threadAffinity;
+        if (maxAffinityConnections <= 0) {
+            int maxTotal = jedisPool.getMaxTotal();
+            maxAffinityConnections = maxTotal < 0 ? Integer.MAX_VALUE : Math.max(1, maxTotal / 2);
+        }
+        this.maxAffinityConnections = maxAffinityConnections;
+    }
+
+    @Override
+    public Jedis getResource() {
+        if (!threadAffinity) {
+            return jedisPool.getResource();
+        }
+        AffinityHolder holder = affinity.get();
+        if (holder == null) {
+            if (!reserveAffinity()) {
+                //固定持有的连接数已达上限，按普通方式借用
+                return jedisPool.getResource();
+            }
+            try {
+                holder = new AffinityHolder(jedisPool.getResource());
+            } catch (RuntimeException e) {
+                affinityConnections.decrementAndGet();
+                throw e;
+            }
+            affinity.set(holder);
+            affinityHolders.put(Thread.currentThread(), holder);
+            purgeTerminatedThreads();
+        } else if (holder.inUse) {
+            //嵌套借用，另取连接
+            return jedisPool.getResource();
+        } else if (holder.jedis.isBroken()) {
+            closeQuietly(holder.jedis);
+            holder.jedis = jedisPool.getResource();
+        }
+        holder.inUse = true;
+        return holder.jedis;
+    }
+
+    @Override
+    public void release(Jedis jedis) {
+        if (jedis == null) {
+            return;
+        }
+        AffinityHolder holder = threadAffinity ? affinity.get() : null;
+        if (holder == null || holder.jedis != jedis) {
+            closeQuietly(jedis);
+            return;
+        }
+        if (!jedis.isBroken()) {
+            //与归还连接池时一致，清理未完成的pipeline与事务，避免残留的回复错位到之后的命令
+            try {
+                jedis.resetState();
+            } catch (RuntimeException e) {
+                holder.inUse = false;
+                releaseThreadAffinity();
+                return;
+            }
+        }
+        holder.inUse = false;
+        if (jedis.isBroken()) {
+            //损坏的连接交还连接池销毁，下次借用时重新获取
+            releaseThreadAffinity();
+        }
+    }
+
+    /**
+     * 释放当前线程固定持有的连接，适用于线程池中即将长时间空闲的线程
+     */
+    public void releaseThreadAffinity() {
+        AffinityHolder holder = affinity.get();
+        if (holder != null) {
+            affinity.remove();
+            if (affinityHolders.remove(Thread.currentThread()) != null) {
+                affinityConnections.decrementAndGet();
+            }
+            closeQuietly(holder.jedis);
+        }
+    }
+
+    @Override
+    public void close() {
+        for (AffinityHolder holder : affinityHolders.values()) {
+            closeQuietly(holder.jedis);
+        }
+        affinityHolders.clear();
+        affinityConnections.set(0);
+        jedisPool.close();
+    }
+
+    /**
+     * 占用一个固定持有的名额，达到上限时先回收已结束线程的连接再重试一次
+     *
+     * @return 是否占用成功
+     */
+    private boolean reserveAffinity() {
+        if (tryReserveAffinity()) {
+            return true;
+        }
+        long now = System.nanoTime();
+        if (now - nextPurgeNanos < 0) {
+            return false;
+        }
+        nextPurgeNanos = now + TimeUnit.SECONDS.toNanos(1);
+        purgeTerminatedThreads();
+        return tryReserveAffinity();
+    }
+
+    private boolean tryReserveAffinity() {
+        for (; ; ) {
+            int current = affinityConnections.get();
+            if (current >= maxAffinityConnections) {
+                return false;
+            }
+            if (affinityConnections.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 回收已结束线程固定持有的连接，在新线程登记时以及达到上限时执行
+     */
+    private void purgeTerminatedThreads() {
+        Iterator<Map.Entry<Thread, AffinityHolder>> iterator = affinityHolders.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Thread, AffinityHolder> entry = iterator.next();
+            if (!entry.getKey().isAlive() && affinityHolders.remove(entry.getKey(), entry.getValue())) {
+                affinityConnections.decrementAndGet();
+                closeQuietly(entry.getValue().jedis);
+            }
+        }
+    }
+
+    private void closeQuietly(Jedis jedis) {
+        try {
+            jedis.close();
+        } catch (JedisException e) {
+            logger.error("Jedis close fail", e);
+        }
+    }
+
+    /**
+     * 线程固定持有的连接
+     */
+    private static final class AffinityHolder {
+
+        private Jedis jedis;
+
+        private boolean inUse;
+
+        private AffinityHolder(Jedis jedis) {
+            this.jedis = jedis;
+        }
+    }
+}
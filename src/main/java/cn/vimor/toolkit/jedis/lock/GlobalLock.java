@@ -1,5 +1,8 @@
 package cn.vimor.toolkit.jedis.lock;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -8,7 +11,7 @@ import java.util.concurrent.TimeUnit;
 public interface GlobalLock {
 
     /**
-     * 加锁
+     * 加锁，持有时间为默认值；开启看门狗时自动续期直到释放
      *
      * @param key 关键
      */
@@ -23,9 +26,28 @@ public interface GlobalLock {
      */
     void lock(String key, long time, TimeUnit timeUnit);
 
+    /**
+     * 加锁，最多等待waitTimeout，持有时间为默认值；开启看门狗时自动续期直到释放
+     *
+     * @param key         关键
+     * @param waitTimeout 最长等待时间
+     * @return 是否取得锁
+     */
+    boolean lock(String key, Duration waitTimeout);
 
     /**
-     * 锁没有等待
+     * 加锁，最多等待waitTimeout
+     *
+     * @param key         关键
+     * @param lease       持有时间
+     * @param waitTimeout 最长等待时间
+     * @return 是否取得锁
+     */
+    boolean lock(String key, Duration lease, Duration waitTimeout);
+
+
+    /**
+     * 锁没有等待，持有时间为默认值；开启看门狗时自动续期直到释放
      *
      * @param key key
      * @return boolean
@@ -73,4 +95,49 @@ public interface GlobalLock {
      * @return boolean
      */
     Boolean unLock(String key);
+
+    /**
+     * 不等待，一次取得多个锁，全部取得或一个也不取得；公平锁时按固定顺序逐个取得
+     *
+     * @param keys  关键
+     * @param lease 持有时间
+     * @return 是否全部取得
+     */
+    boolean lockAll(Collection<String> keys, Duration lease);
+
+    /**
+     * 一次取得多个锁，全部取得或一个也不取得，最多等待waitTimeout；公平锁时按固定顺序逐个取得，未全部取得时释放已取得的锁
+     *
+     * @param keys        关键
+     * @param lease       持有时间
+     * @param waitTimeout 最长等待时间
+     * @return 是否全部取得
+     */
+    boolean lockAll(Collection<String> keys, Duration lease, Duration waitTimeout);
+
+    /**
+     * 释放多个锁，未持有的锁忽略
+     *
+     * @param keys 关键
+     * @return 持有的锁是否全部释放
+     */
+    Boolean unLockAll(Collection<String> keys);
+
+    /**
+     * 异步加锁，最多等待waitTimeout，等待期间不占用调用线程
+     *
+     * @param key         关键
+     * @param lease       持有时间
+     * @param waitTimeout 最长等待时间
+     * @return 取得锁时完成为锁句柄，等待超时完成为null，访问Redis失败时以原异常完成；取消后不再等待
+     */
+    CompletableFuture<LockHandle> lockAsync(String key, Duration lease, Duration waitTimeout);
+
+    /**
+     * 释放异步取得的锁，可以在任意线程调用
+     *
+     * @param handle 锁句柄
+     * @return 是否释放
+     */
+    Boolean unLock(LockHandle handle);
 }
@@ -1,21 +1,37 @@
 package cn.vimor.toolkit.jedis.lock;
 
+import cn.vimor.toolkit.jedis.connection.JedisConnectionProvider;
 import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.ObjectUtils;
 import redis.clients.jedis.Jedis;
-import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.exceptions.JedisException;
 import redis.clients.jedis.params.SetParams;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.annotation.Resource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 分布式锁实现
@@ -31,9 +47,9 @@ public class GlobalLockImpl implements GlobalLock {
      */
     private final static String LOCK_KEY = "vlightv:global:lock:";
     /**
-     * threadLocal当前线程持有
+     * 当前线程持有的锁，锁key -> 持有信息；不持有任何锁时移除
      */
-    private final ThreadLocal<String> threadLocal = new ThreadLocal<>();
+    private final ThreadLocal<Map<String, Hold>> holds = new ThreadLocal<>();
     /**
      * 消息
      */
@@ -48,26 +64,246 @@ public class GlobalLockImpl implements GlobalLock {
      */
     private long defaultEx = 3000;
     /**
-     * jedis连接池
+     * 释放锁：锁为当前版本时删除并发布释放通知，返回1；否则返回0
+     */
+    private static final LockScript UNLOCK_SCRIPT = new LockScript(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "redis.call('del', KEYS[1]) "
+                    + "redis.call('publish', ARGV[2], KEYS[1]) "
+                    + "return 1 "
+                    + "end "
+                    + "return 0");
+    /**
+     * 延长锁：锁为当前版本时重新设置持有时间(毫秒)，返回1；否则返回0
+     */
+    private static final LockScript EXTEND_SCRIPT = new LockScript(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('pexpire', KEYS[1], ARGV[2]) "
+                    + "end "
+                    + "return 0");
+    /**
+     * 公平锁：移除队首已超过期限的等待方(等待方崩溃或放弃后不再刷新期限)，KEYS[2]为等待队列，KEYS[3]为等待方期限
+     */
+    private static final String PURGE_WAITERS = purgeWaiters("KEYS[2]", "KEYS[3]");
+    /**
+     * 公平锁：唤醒队首等待方，发布的消息为队首的锁版本
+     */
+    private static final String SIGNAL_HEAD = "local waiter = redis.call('lindex', KEYS[2], 0) "
+            + "if waiter then "
+            + "redis.call('publish', ARGV[2], waiter) "
+            + "end ";
+    /**
+     * 公平锁取得锁：KEYS为锁、等待队列、等待方期限，ARGV为锁版本、持有时间(毫秒)、等待方期限(毫秒)、是否排队；
+     * 锁空闲且等待队列为空或当前版本为队首时取得锁并出队，返回1；否则按需入队(已在队列中时只刷新期限)，返回0
+     */
+    private static final LockScript FAIR_LOCK_SCRIPT = new LockScript(LockScript.NOW
+            + PURGE_WAITERS
+            + "if redis.call('exists', KEYS[1]) == 0 then "
+            + "local head = redis.call('lindex', KEYS[2], 0) "
+            + "if not head or head == ARGV[1] then "
+            + "if head then "
+            + "redis.call('lpop', KEYS[2]) "
+            + "redis.call('zrem', KEYS[3], ARGV[1]) "
+            + "end "
+            + "redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[2]) "
+            + "return 1 "
+            + "end "
+            + "end "
+            + "if ARGV[4] == '1' then "
+            + "if not redis.call('zscore', KEYS[3], ARGV[1]) then "
+            + "redis.call('rpush', KEYS[2], ARGV[1]) "
+            + "end "
+            + "redis.call('zadd', KEYS[3], now + tonumber(ARGV[3]), ARGV[1]) "
+            + "redis.call('pexpire', KEYS[2], ARGV[3]) "
+            + "redis.call('pexpire', KEYS[3], ARGV[3]) "
+            + "end "
+            + "return 0");
+    /**
+     * 公平锁释放锁：KEYS为锁、等待队列、等待方期限，ARGV为锁版本、通知频道；锁为当前版本时删除并只唤醒队首，返回1；否则返回0
+     */
+    private static final LockScript FAIR_UNLOCK_SCRIPT = new LockScript(LockScript.NOW
+            + "if redis.call('get', KEYS[1]) ~= ARGV[1] then "
+            + "return 0 "
+            + "end "
+            + "redis.call('del', KEYS[1]) "
+            + PURGE_WAITERS
+            + SIGNAL_HEAD
+            + "return 1");
+    /**
+     * 公平锁放弃等待：KEYS为锁、等待队列、等待方期限，ARGV为锁版本、通知频道；出队，锁空闲时唤醒新的队首
+     */
+    private static final LockScript FAIR_LEAVE_SCRIPT = new LockScript(LockScript.NOW
+            + "redis.call('lrem', KEYS[2], 1, ARGV[1]) "
+            + "redis.call('zrem', KEYS[3], ARGV[1]) "
+            + "if redis.call('exists', KEYS[1]) == 0 then "
+            + PURGE_WAITERS
+            + SIGNAL_HEAD
+            + "end "
+            + "return 1");
+    /**
+     * 一次取得多个锁：KEYS为按顺序排列的锁，ARGV为锁版本、持有时间(毫秒)、锁数量；
+     * 全部空闲时以同一个版本全部取得，返回0；否则返回第一个被占用的锁的序号
+     */
+    private static final LockScript LOCK_ALL_SCRIPT = new LockScript(
+            "local n = tonumber(ARGV[3]) "
+                    + "for i = 1, n do "
+                    + "if redis.call('exists', KEYS[i]) == 1 then "
+                    + "return i "
+                    + "end "
+                    + "end "
+                    + "for i = 1, n do "
+                    + "redis.call('set', KEYS[i], ARGV[1], 'PX', ARGV[2]) "
+                    + "end "
+                    + "return 0");
+    /**
+     * 释放多个锁：KEYS同上，ARGV为锁版本、通知频道、锁数量；删除其中为当前版本的锁并通知等待方，返回释放的数量
+     */
+    private static final LockScript UNLOCK_ALL_SCRIPT = new LockScript(
+            "local n = tonumber(ARGV[3]) "
+                    + "local released = 0 "
+                    + "for i = 1, n do "
+                    + "if redis.call('get', KEYS[i]) == ARGV[1] then "
+                    + "redis.call('del', KEYS[i]) "
+                    + "released = released + 1 "
+                    + "redis.call('publish', ARGV[2], KEYS[i]) "
+                    + "end "
+                    + "end "
+                    + "return released");
+    /**
+     * 公平锁释放多个锁：KEYS为n个锁、对应的n个等待队列、对应的n个等待方期限，ARGV同上；
+     * 删除其中为当前版本的锁，与{@link #FAIR_UNLOCK_SCRIPT}一样先移除已超过期限的等待方再只唤醒队首，返回释放的数量
+     */
+    private static final LockScript FAIR_UNLOCK_ALL_SCRIPT = new LockScript(LockScript.NOW
+            + "local n = tonumber(ARGV[3]) "
+            + "local released = 0 "
+            + "for i = 1, n do "
+            + "if redis.call('get', KEYS[i]) == ARGV[1] then "
+            + "redis.call('del', KEYS[i]) "
+            + "released = released + 1 "
+            + purgeWaiters("KEYS[n + i]", "KEYS[2 * n + i]")
+            + "local waiter = redis.call('lindex', KEYS[n + i], 0) "
+            + "if waiter then "
+            + "redis.call('publish', ARGV[2], waiter) "
+            + "end "
+            + "end "
+            + "end "
+            + "return released");
+    /**
+     * 等待锁时的最大退避时间，单位毫秒
+     */
+    @Value("${jedis.lock.maxBackoffMillis:200}")
+    private long maxBackoffMillis = 200;
+    /**
+     * 是否可重入：开启时线程再次取得已持有的锁只增加持有次数，不访问Redis，最后一次释放时才在Redis中释放
+     */
+    @Value("${jedis.lock.reentrant:false}")
+    private boolean reentrant;
+    /**
+     * 是否开启本地排队：同一个JVM内竞争同一个锁的线程只有一个到Redis中竞争，释放时优先交给本地等待的线程
+     */
+    @Value("${jedis.lock.localQueue:true}")
+    private boolean localQueueEnabled = true;
+    /**
+     * 是否为公平锁：开启时等待方在Redis中按到达顺序排队，锁只交给队首，释放时只唤醒队首；开启时不使用本地排队
+     */
+    @Value("${jedis.lock.fair:false}")
+    private boolean fair;
+    /**
+     * 异步加锁的调度线程数：每次尝试在调度线程上借用连接并访问一次Redis，线程数决定同时进行的尝试数
+     */
+    @Value("${jedis.lock.asyncThreads:1}")
+    private int asyncThreads = 1;
+    /**
+     * 本地排队，未开启时为null
+     */
+    private volatile LocalLockQueue localQueue;
+    /**
+     * 锁释放通知，未开启时只依靠退避重试
+     */
+    @Autowired(required = false)
+    private volatile LockReleaseNotifier releaseNotifier;
+    /**
+     * 锁续期看门狗，开启时未指定持有时间的锁自动续期
+     */
+    @Autowired(required = false)
+    private volatile LockWatchdog watchdog;
+    /**
+     * jedis连接提供者
      */
     @Resource
-    private volatile JedisPool jedisPool;
+    private volatile JedisConnectionProvider connectionProvider;
+    /**
+     * 异步加锁的调度线程，第一次异步加锁时创建
+     */
+    private ScheduledThreadPoolExecutor asyncScheduler;
 
     @PostConstruct
     public void init() {
         if (!ObjectUtils.isEmpty(lockEx)) {
             defaultEx = lockEx;
         }
+        //公平锁不使用本地排队，本地交接会越过Redis中的等待队列
+        if (localQueueEnabled && !fair) {
+            localQueue = new LocalLockQueue();
+        }
+    }
+
+    @PreDestroy
+    public synchronized void destroy() {
+        if (asyncScheduler != null) {
+            asyncScheduler.shutdownNow();
+        }
     }
 
     @Override
     public void lock(String key) {
-        lock(key, defaultEx);
+        LockWatchdog current = watchdog;
+        lock(key, leaseMillis(current), current);
     }
 
     @Override
     public void lock(String key, long time, TimeUnit timeUnit) {
-        lock(key, timeUnit.toMillis(time));
+        lock(key, timeUnit.toMillis(time), (LockWatchdog) null);
+    }
+
+    @Override
+    public boolean lock(String key, Duration waitTimeout) {
+        LockWatchdog current = watchdog;
+        return lock(key, Duration.ofMillis(leaseMillis(current)), waitTimeout, current);
+    }
+
+    @Override
+    public boolean lock(String key, Duration lease, Duration waitTimeout) {
+        return lock(key, lease, waitTimeout, null);
+    }
+
+    /**
+     * 锁，最多等待waitTimeout
+     *
+     * @param key         key
+     * @param lease       持有时间
+     * @param waitTimeout 最长等待时间
+     * @param current     续期的看门狗，为null时不续期
+     * @return 是否取得锁
+     */
+    private boolean lock(String key, Duration lease, Duration waitTimeout, LockWatchdog current) {
+        AbstractAssertUtils.notEmpty(key, message);
+        AbstractAssertUtils.isTrue(lease != null && lease.toMillis() > 0, "'lease' must be greater than 0");
+        AbstractAssertUtils.isTrue(waitTimeout != null && !waitTimeout.isNegative(),
+                "'waitTimeout' must not be negative");
+        String lockKey = getLockKey(key);
+        if (reenter(lockKey)) {
+            return true;
+        }
+        try {
+            if (acquire(lockKey, lease.toMillis(), waitTimeout.toNanos(), current)) {
+                return true;
+            }
+        } catch (JedisException e) {
+            logger.error("'lock' key fail, key: {} , lease:{}, waitTimeout:{}", key, lease, waitTimeout);
+            logger.error(e.getMessage(), e);
+        }
+        return false;
     }
 
     /**
@@ -75,45 +311,270 @@ public class GlobalLockImpl implements GlobalLock {
      *
      * @param key             key
      * @param secondsToExpire 秒
+     * @param current         续期的看门狗，为null时不续期
      */
-    private void lock(String key, long secondsToExpire) {
+    private void lock(String key, long secondsToExpire, LockWatchdog current) {
         AbstractAssertUtils.notEmpty(key, message);
-        Jedis jedis = null;
+        String lockKey = getLockKey(key);
+        if (reenter(lockKey)) {
+            return;
+        }
         try {
-            jedis = getJedis();
-            //获取锁的key
-            String lockKey = getLockKey(key);
-            //获取锁版本
+            acquire(lockKey, secondsToExpire, -1, current);
+        } catch (JedisException e) {
+            logger.error("'expire' key fail, key: {} , seconds:{}", key, secondsToExpire);
+            logger.error(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 取得锁并记录为当前线程持有
+     * <p>
+     * 开启本地排队时先在本地等待成为队首，只有队首到Redis中等待；最后离开排队时如果还有未被取走的交接，在Redis中释放。
+     *
+     * @param lockKey     锁key
+     * @param leaseMillis 锁的持有时间，单位毫秒
+     * @param waitNanos   最长等待时间，单位纳秒，小于0时一直等待
+     * @param current     续期的看门狗，为null时不续期
+     * @return 是否取得锁
+     */
+    private boolean acquire(String lockKey, long leaseMillis, long waitNanos, LockWatchdog current) {
+        LocalLockQueue queue = localQueue;
+        if (queue == null) {
             String lockVersion = getLockVersion();
-            threadLocal.set(lockVersion);
-            //自旋
+            String acquired = null;
+            try {
+                acquired = waitLock(lockKey, lockVersion, leaseMillis, waitNanos, null);
+            } finally {
+                //公平锁未取得时退出等待队列，否则队首要等到期限过后才会被移除
+                if (acquired == null && fair) {
+                    leaveFairQueue(lockKey, lockVersion);
+                }
+            }
+            if (acquired == null) {
+                return false;
+            }
+            hold(lockKey, acquired, current);
+            return true;
+        }
+        long deadline = System.nanoTime() + waitNanos;
+        LocalLockQueue.Gate gate = queue.join(lockKey);
+        String lockVersion = null;
+        try {
+            if (gate.enter(waitNanos)) {
+                try {
+                    long remaining = waitNanos < 0 ? -1 : Math.max(0, deadline - System.nanoTime());
+                    lockVersion = waitLock(lockKey, getLockVersion(), leaseMillis, remaining, gate);
+                } finally {
+                    gate.exit();
+                }
+            }
+        } finally {
+            releaseHandoff(lockKey, queue.leave(lockKey, gate));
+        }
+        if (lockVersion == null) {
+            return false;
+        }
+        hold(lockKey, lockVersion, current);
+        return true;
+    }
+
+    /**
+     * 等待取得锁
+     * <p>
+     * 每次尝试只借用一次连接，失败后归还连接，等待释放通知或退避时间后再次尝试；
+     * 退避时间从{@link ReleaseAwaiter#MIN_BACKOFF_MILLIS}起按指数增长，不超过maxBackoffMillis，用于锁过期或通知丢失的情况。
+     * 本地交接的锁只需延长持有时间，延长失败说明交接的锁已过期，之后按正常方式竞争。
+     * 公平锁以锁版本登记释放通知，只有成为队首时才会被唤醒，每次尝试同时刷新在等待队列中的期限。
+     *
+     * @param lockKey     锁key
+     * @param lockVersion 锁版本
+     * @param leaseMillis 锁的持有时间，单位毫秒
+     * @param waitNanos   最长等待时间，单位纳秒，小于0时一直等待(等待期间被中断时保留中断标记并继续等待)
+     * @param gate        本地排队，当前线程为队首，为null时不接收交接
+     * @return 取得的锁版本，未取得时为null
+     */
+    private String waitLock(String lockKey, String lockVersion, long leaseMillis, long waitNanos,
+                            LocalLockQueue.Gate gate) {
+        long deadline = System.nanoTime() + waitNanos;
+        long backoffMillis = ReleaseAwaiter.MIN_BACKOFF_MILLIS;
+        boolean interrupted = false;
+        LockReleaseNotifier notifier = releaseNotifier;
+        CompletableFuture<Void> handoff = null;
+        String notifyId = fair ? lockVersion : lockKey;
+        try {
             for (; ; ) {
-                //尝试取得锁 nx不存在则设定成功 px失效
-                SetParams setParams = new SetParams();
-                setParams.nx();
-                setParams.px(secondsToExpire);
-                String result = jedis.set(lockKey, lockVersion, setParams);
-                if (!Objects.isNull(result)) {
-                    return;
+                //先登记再尝试，避免错过两者之间的释放通知
+                CompletableFuture<Void> released = notifier == null ? null : notifier.register(notifyId);
+                boolean waiting = true;
+                try {
+                    if (gate != null) {
+                        //先登记唤醒再取交接，避免错过两者之间的交接
+                        if (handoff == null || handoff.isDone()) {
+                            handoff = gate.awaitHandoff();
+                        }
+                        String handedVersion = gate.takeHandoff();
+                        if (handedVersion != null && extendLock(lockKey, handedVersion, leaseMillis)) {
+                            waiting = false;
+                            return handedVersion;
+                        }
+                    }
+                    if (setLock(lockKey, lockVersion, leaseMillis)) {
+                        waiting = false;
+                        return lockVersion;
+                    }
+                    long sleepMillis = backoffMillis / 2 + ThreadLocalRandom.current().nextLong(backoffMillis / 2 + 1);
+                    if (waitNanos >= 0) {
+                        long remaining = deadline - System.nanoTime();
+                        if (remaining <= 0) {
+                            return null;
+                        }
+                        sleepMillis = Math.min(sleepMillis, TimeUnit.NANOSECONDS.toMillis(remaining) + 1);
+                    }
+                    //同时等待释放通知与本地交接，交接只唤醒队首，不经过释放通知
+                    CompletableFuture<?> wakeup = released == null ? handoff
+                            : handoff == null ? released : CompletableFuture.anyOf(released, handoff);
+                    if (!ReleaseAwaiter.awaitRelease(wakeup, sleepMillis)) {
+                        backoffMillis = Math.min(backoffMillis * 2, maxBackoffMillis);
+                    }
+                    waiting = false;
+                } catch (InterruptedException e) {
+                    if (waitNanos >= 0) {
+                        Thread.currentThread().interrupt();
+                        return null;
+                    }
+                    interrupted = true;
+                    waiting = false;
+                } finally {
+                    if (released != null) {
+                        if (waiting) {
+                            notifier.abandon(notifyId, released);
+                        } else {
+                            notifier.unregister(notifyId, released);
+                        }
+                    }
                 }
             }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 尝试取得锁 nx不存在则设定成功 px失效；公平锁未取得时进入等待队列
+     *
+     * @param lockKey     锁key
+     * @param lockVersion 锁版本
+     * @param leaseMillis 持有时间，单位毫秒
+     * @return 是否取得锁
+     */
+    private boolean setLock(String lockKey, String lockVersion, long leaseMillis) {
+        Jedis jedis = null;
+        try {
+            jedis = getJedis();
+            if (fair) {
+                return Long.valueOf(1L).equals(FAIR_LOCK_SCRIPT.eval(jedis, getFairKeys(lockKey),
+                        Arrays.asList(lockVersion, String.valueOf(leaseMillis), String.valueOf(waiterMillis()), "1")));
+            }
+            SetParams setParams = new SetParams();
+            setParams.nx();
+            setParams.px(leaseMillis);
+            return !Objects.isNull(jedis.set(lockKey, lockVersion, setParams));
+        } finally {
+            closeJedis(jedis);
+        }
+    }
+
+    /**
+     * 锁为指定版本时延长持有时间
+     *
+     * @param lockKey     锁key
+     * @param lockVersion 锁版本
+     * @param leaseMillis 持有时间，单位毫秒
+     * @return 是否延长成功
+     */
+    private boolean extendLock(String lockKey, String lockVersion, long leaseMillis) {
+        Jedis jedis = null;
+        try {
+            jedis = getJedis();
+            return Long.valueOf(1L).equals(EXTEND_SCRIPT.eval(jedis, Collections.singletonList(lockKey),
+                    Arrays.asList(lockVersion, String.valueOf(leaseMillis))));
+        } finally {
+            closeJedis(jedis);
+        }
+    }
+
+    /**
+     * 锁为指定版本时释放并通知等待方
+     *
+     * @param lockKey     锁key
+     * @param lockVersion 锁版本
+     * @return 是否释放
+     */
+    private boolean releaseLock(String lockKey, String lockVersion) {
+        Jedis jedis = null;
+        try {
+            jedis = getJedis();
+            //判断与释放在同一个脚本中完成
+            if (fair) {
+                return Long.valueOf(1L).equals(FAIR_UNLOCK_SCRIPT.eval(jedis, getFairKeys(lockKey),
+                        Arrays.asList(lockVersion, LockReleaseNotifier.CHANNEL)));
+            }
+            return Long.valueOf(1L).equals(UNLOCK_SCRIPT.eval(jedis, Collections.singletonList(lockKey),
+                    Arrays.asList(lockVersion, LockReleaseNotifier.CHANNEL)));
+        } finally {
+            closeJedis(jedis);
+        }
+    }
+
+    /**
+     * 公平锁退出等待队列，锁空闲时唤醒新的队首
+     *
+     * @param lockKey     锁key
+     * @param lockVersion 锁版本
+     */
+    private void leaveFairQueue(String lockKey, String lockVersion) {
+        Jedis jedis = null;
+        try {
+            jedis = getJedis();
+            FAIR_LEAVE_SCRIPT.eval(jedis, getFairKeys(lockKey), Arrays.asList(lockVersion, LockReleaseNotifier.CHANNEL));
         } catch (JedisException e) {
-            logger.error("'expire' key fail, key: {} , seconds:{}", key, secondsToExpire);
+            logger.error("'leaveQueue' key fail, key: {}", lockKey);
             logger.error(e.getMessage(), e);
         } finally {
             closeJedis(jedis);
         }
     }
 
+    /**
+     * 释放交接后没有线程取走的锁
+     *
+     * @param lockKey     锁key
+     * @param lockVersion 交接的锁版本，为null时忽略
+     */
+    private void releaseHandoff(String lockKey, String lockVersion) {
+        if (lockVersion == null) {
+            return;
+        }
+        try {
+            releaseLock(lockKey, lockVersion);
+        } catch (JedisException e) {
+            logger.error("'unLock' key fail, key: {}", lockKey);
+            logger.error(e.getMessage(), e);
+        }
+    }
 
     @Override
     public boolean lockNoWait(String key) {
-        return lockNoWait(key, defaultEx);
+        LockWatchdog current = watchdog;
+        return lockNoWait(key, leaseMillis(current), current);
     }
 
     @Override
     public boolean lockNoWait(String key, long time, TimeUnit timeUnit) {
-        return lockNoWait(key, timeUnit.toMillis(time));
+        return lockNoWait(key, timeUnit.toMillis(time), (LockWatchdog) null);
     }
 
     /**
@@ -121,24 +582,65 @@ public class GlobalLockImpl implements GlobalLock {
      *
      * @param key             key
      * @param secondsToExpire 秒到期
+     * @param current         续期的看门狗，为null时不续期
      * @return boolean
      */
-    private boolean lockNoWait(String key, long secondsToExpire) {
+    private boolean lockNoWait(String key, long secondsToExpire, LockWatchdog current) {
         AbstractAssertUtils.notEmpty(key, message);
+        //获取锁的key
+        String lockKey = getLockKey(key);
+        if (reenter(lockKey)) {
+            return true;
+        }
+        LocalLockQueue queue = localQueue;
+        if (queue == null) {
+            return setLockNoWait(key, lockKey, secondsToExpire, current);
+        }
+        LocalLockQueue.Gate gate = queue.join(lockKey);
+        try {
+            //本地已有线程在竞争时不访问Redis
+            if (!gate.tryEnter()) {
+                return false;
+            }
+            try {
+                return setLockNoWait(key, lockKey, secondsToExpire, current);
+            } finally {
+                gate.exit();
+            }
+        } finally {
+            releaseHandoff(lockKey, queue.leave(lockKey, gate));
+        }
+    }
+
+    /**
+     * 尝试一次取得锁
+     *
+     * @param key             key
+     * @param lockKey         锁key
+     * @param secondsToExpire 秒到期
+     * @param current         续期的看门狗，为null时不续期
+     * @return boolean
+     */
+    private boolean setLockNoWait(String key, String lockKey, long secondsToExpire, LockWatchdog current) {
         Jedis jedis = null;
         try {
             jedis = getJedis();
-            //获取锁的key
-            String lockKey = getLockKey(key);
             //获取锁版本
             String lockVersion = getLockVersion();
-            threadLocal.set(lockVersion);
-            //尝试取得锁 nx不存在则设定成功 px失效
-            SetParams setParams = new SetParams();
-            setParams.nx();
-            setParams.px(secondsToExpire);
-            String result = jedis.set(lockKey, lockVersion, setParams);
-            if (!Objects.isNull(result)) {
+            boolean locked;
+            if (fair) {
+                //公平锁只在没有等待方时取得，不进入等待队列
+                locked = Long.valueOf(1L).equals(FAIR_LOCK_SCRIPT.eval(jedis, getFairKeys(lockKey),
+                        Arrays.asList(lockVersion, String.valueOf(secondsToExpire), "0", "0")));
+            } else {
+                //尝试取得锁 nx不存在则设定成功 px失效
+                SetParams setParams = new SetParams();
+                setParams.nx();
+                setParams.px(secondsToExpire);
+                locked = !Objects.isNull(jedis.set(lockKey, lockVersion, setParams));
+            }
+            if (locked) {
+                hold(lockKey, lockVersion, current);
                 return true;
             }
         } catch (JedisException e) {
@@ -147,7 +649,6 @@ public class GlobalLockImpl implements GlobalLock {
         } finally {
             closeJedis(jedis);
         }
-        threadLocal.remove();
         return false;
     }
 
@@ -170,17 +671,17 @@ public class GlobalLockImpl implements GlobalLock {
      */
     public void delayLock(String key, long secondsToExpire) {
         AbstractAssertUtils.notEmpty(key, message);
+        String lockKey = getLockKey(key);
+        Hold hold = getHold(lockKey);
+        if (hold == null) {
+            return;
+        }
         Jedis jedis = null;
         try {
             jedis = getJedis();
-            String lockVersion = threadLocal.get();
-            String lockKey = getLockKey(key);
-            //判断锁是否为当前线程所持有
-            if (lockVersion.equals(jedis.get(lockKey))) {
-                SetParams setParams = new SetParams();
-                setParams.px(secondsToExpire);
-                jedis.set(lockKey, lockVersion, setParams);
-            }
+            //锁为当前线程所持有时延长，判断与延长在同一个脚本中完成
+            EXTEND_SCRIPT.eval(jedis, Collections.singletonList(lockKey),
+                    Arrays.asList(hold.version, String.valueOf(secondsToExpire)));
         } catch (JedisException e) {
             logger.error("'expire' key fail, key: {}", key);
             logger.error(e.getMessage(), e);
@@ -211,26 +712,365 @@ public class GlobalLockImpl implements GlobalLock {
     public Boolean unLock(String key) {
 
         AbstractAssertUtils.notEmpty(key, message);
-        Jedis jedis = null;
+        String lockKey = getLockKey(key);
+        Hold hold = getHold(lockKey);
+        if (hold == null) {
+            return false;
+        }
+        //重入的锁只减少持有次数
+        if (hold.count > 1) {
+            hold.count--;
+            return true;
+        }
+        LockWatchdog current = watchdog;
+        if (current != null) {
+            current.unwatch(lockKey, hold.version);
+        }
+        //本地有线程在等待时直接交接，不在Redis中释放
+        if (handoff(lockKey, hold.version)) {
+            removeHold(lockKey);
+            return true;
+        }
         boolean result = false;
         try {
-            jedis = getJedis();
+            //锁为当前线程所持有时释放并通知等待方
+            result = releaseLock(lockKey, hold.version);
+            //未释放说明锁已过期，同样不再由当前线程持有
+            removeHold(lockKey);
+        } catch (JedisException e) {
+            logger.error("'expire' key fail, key: {}", key);
+            logger.error(e.getMessage(), e);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean lockAll(Collection<String> keys, Duration lease) {
+        return lockAll(keys, lease, Duration.ZERO);
+    }
+
+    /**
+     * 一次取得多个锁
+     * <p>
+     * 锁key去重并排序后在一个脚本中全部取得，所有锁使用同一个版本，分别记录为当前线程持有，可以用{@link #unLock(String)}分别释放；
+     * 可重入时已持有的锁只增加持有次数。未取得时等待第一个被占用的锁的释放通知。
+     * 公平锁时多个锁无法同时在各自的等待队列中排队，改为按相同顺序逐个取得(各自在等待队列中排队)，任一个未取得时释放已取得的锁。
+     *
+     * @param keys        关键
+     * @param lease       持有时间
+     * @param waitTimeout 最长等待时间
+     * @return 是否全部取得
+     */
+    @Override
+    public boolean lockAll(Collection<String> keys, Duration lease, Duration waitTimeout) {
+        AbstractAssertUtils.notEmpty(keys, "'keys' must not be null and empty");
+        AbstractAssertUtils.isTrue(lease != null && lease.toMillis() > 0, "'lease' must be greater than 0");
+        AbstractAssertUtils.isTrue(waitTimeout != null && !waitTimeout.isNegative(),
+                "'waitTimeout' must not be negative");
+        if (fair) {
+            return lockInOrder(keys, lease, waitTimeout);
+        }
+        //按固定顺序排列，与其他调用方以相同顺序竞争
+        TreeSet<String> lockKeys = new TreeSet<>();
+        for (String key : keys) {
+            AbstractAssertUtils.notEmpty(key, message);
+            lockKeys.add(getLockKey(key));
+        }
+        List<String> reentered = new ArrayList<>();
+        if (reentrant) {
+            for (String lockKey : lockKeys) {
+                if (getHold(lockKey) != null) {
+                    reentered.add(lockKey);
+                }
+            }
+            lockKeys.removeAll(reentered);
+        }
+        if (lockKeys.isEmpty()) {
+            reentered.forEach(this::reenter);
+            return true;
+        }
+        List<String> ordered = new ArrayList<>(lockKeys);
+        String lockVersion = getLockVersion();
+        List<String> args = Arrays.asList(lockVersion, String.valueOf(lease.toMillis()),
+                String.valueOf(lockKeys.size()));
+        String[] blocking = {ordered.get(0)};
+        try {
+            if (ReleaseAwaiter.await(releaseNotifier, () -> blocking[0], waitTimeout.toNanos(), maxBackoffMillis,
+                    () -> {
+                        long busy = (Long) evalAll(LOCK_ALL_SCRIPT, ordered, args);
+                        if (busy == 0) {
+                            return true;
+                        }
+                        blocking[0] = ordered.get((int) busy - 1);
+                        return false;
+                    })) {
+                reentered.forEach(this::reenter);
+                for (String lockKey : lockKeys) {
+                    hold(lockKey, lockVersion, null);
+                }
+                return true;
+            }
+        } catch (JedisException e) {
+            logger.error("'lockAll' key fail, keys: {} , lease:{}, waitTimeout:{}", keys, lease, waitTimeout);
+            logger.error(e.getMessage(), e);
+        }
+        return false;
+    }
+
+    /**
+     * 公平锁时按固定顺序逐个取得多个锁，任一个未取得时按相反顺序释放已取得的锁
+     *
+     * @param keys        关键
+     * @param lease       持有时间
+     * @param waitTimeout 全部锁共用的最长等待时间
+     * @return 是否全部取得
+     */
+    private boolean lockInOrder(Collection<String> keys, Duration lease, Duration waitTimeout) {
+        TreeSet<String> ordered = new TreeSet<>();
+        for (String key : keys) {
+            AbstractAssertUtils.notEmpty(key, message);
+            ordered.add(key);
+        }
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        List<String> acquired = new ArrayList<>(ordered.size());
+        for (String key : ordered) {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            if (!lock(key, lease, Duration.ofNanos(remaining))) {
+                for (int i = acquired.size() - 1; i >= 0; i--) {
+                    unLock(acquired.get(i));
+                }
+                return false;
+            }
+            acquired.add(key);
+        }
+        return true;
+    }
+
+    @Override
+    public Boolean unLockAll(Collection<String> keys) {
+        AbstractAssertUtils.notEmpty(keys, "'keys' must not be null and empty");
+        //锁版本 -> 要在Redis中释放的锁，分别取得的锁版本不同
+        Map<String, TreeSet<String>> releases = new HashMap<>(4);
+        for (String key : keys) {
+            AbstractAssertUtils.notEmpty(key, message);
             String lockKey = getLockKey(key);
-            String lockVersion = threadLocal.get();
-            //判断锁是否为当前线程所持有
-            if (!ObjectUtils.isEmpty(lockVersion) && lockVersion.equals(jedis.get(lockKey))) {
-                //尝试释放锁
-                result = jedis.del(lockKey) > 0;
-                //锁释放成功
-                threadLocal.remove();
+            Hold hold = getHold(lockKey);
+            if (hold == null) {
+                continue;
+            }
+            //重入的锁只减少持有次数
+            if (hold.count > 1) {
+                hold.count--;
+                continue;
+            }
+            LockWatchdog current = watchdog;
+            if (current != null) {
+                current.unwatch(lockKey, hold.version);
+            }
+            releases.computeIfAbsent(hold.version, v -> new TreeSet<>()).add(lockKey);
+            //未释放说明锁已过期，同样不再由当前线程持有
+            removeHold(lockKey);
+        }
+        boolean result = true;
+        for (Map.Entry<String, TreeSet<String>> release : releases.entrySet()) {
+            try {
+                Object released = evalAll(fair ? FAIR_UNLOCK_ALL_SCRIPT : UNLOCK_ALL_SCRIPT,
+                        getAllKeys(release.getValue()),
+                        Arrays.asList(release.getKey(), LockReleaseNotifier.CHANNEL,
+                                String.valueOf(release.getValue().size())));
+                result &= ((Long) released).intValue() == release.getValue().size();
+            } catch (JedisException e) {
+                logger.error("'unLockAll' key fail, keys: {}", release.getValue());
+                logger.error(e.getMessage(), e);
+                result = false;
             }
+        }
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<LockHandle> lockAsync(String key, Duration lease, Duration waitTimeout) {
+        AbstractAssertUtils.notEmpty(key, message);
+        AbstractAssertUtils.isTrue(lease != null && lease.toMillis() > 0, "'lease' must be greater than 0");
+        AbstractAssertUtils.isTrue(waitTimeout != null && !waitTimeout.isNegative(),
+                "'waitTimeout' must not be negative");
+        AsyncAcquire acquire = new AsyncAcquire(key, lease.toMillis(), waitTimeout.toNanos());
+        getAsyncScheduler().execute(acquire::attempt);
+        return acquire.future;
+    }
+
+    @Override
+    public Boolean unLock(LockHandle handle) {
+        if (handle == null || !handle.markReleased()) {
+            return false;
+        }
+        try {
+            return releaseLock(getLockKey(handle.getKey()), handle.getLockVersion());
         } catch (JedisException e) {
-            logger.error("'expire' key fail, key: {}", key);
+            logger.error("'unLock' key fail, key: {}", handle.getKey());
             logger.error(e.getMessage(), e);
+        }
+        return false;
+    }
+
+    /**
+     * 异步加锁的调度线程，所有异步加锁共用{@link #asyncThreads}个守护线程，只用于发起尝试，等待期间不占用线程
+     *
+     * @return {@link ScheduledThreadPoolExecutor}
+     */
+    private synchronized ScheduledThreadPoolExecutor getAsyncScheduler() {
+        if (asyncScheduler == null) {
+            AtomicInteger threadIndex = new AtomicInteger();
+            asyncScheduler = new ScheduledThreadPoolExecutor(Math.max(1, asyncThreads), runnable -> {
+                Thread thread = new Thread(runnable, "jedis-lock-async-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            //收到释放通知后取消的退避定时不保留在队列中
+            asyncScheduler.setRemoveOnCancelPolicy(true);
+        }
+        return asyncScheduler;
+    }
+
+    /**
+     * 多个锁的脚本的KEYS：锁，公平锁时之后为对应的等待队列与等待方期限
+     *
+     * @param lockKeys 锁key
+     * @return KEYS
+     */
+    private List<String> getAllKeys(Collection<String> lockKeys) {
+        List<String> scriptKeys = new ArrayList<>(lockKeys);
+        if (fair) {
+            for (String lockKey : lockKeys) {
+                scriptKeys.add(lockKey + ":queue");
+            }
+            for (String lockKey : lockKeys) {
+                scriptKeys.add(lockKey + ":waiters");
+            }
+        }
+        return scriptKeys;
+    }
+
+    /**
+     * 公平锁：移除队首已超过期限的等待方的脚本片段，需要已定义now
+     *
+     * @param queue   等待队列的KEYS表达式
+     * @param waiters 等待方期限的KEYS表达式
+     * @return 脚本片段
+     */
+    private static String purgeWaiters(String queue, String waiters) {
+        return "while true do "
+                + "local head = redis.call('lindex', " + queue + ", 0) "
+                + "if not head then break end "
+                + "local deadline = redis.call('zscore', " + waiters + ", head) "
+                + "if deadline and tonumber(deadline) > now then break end "
+                + "redis.call('lpop', " + queue + ") "
+                + "redis.call('zrem', " + waiters + ", head) "
+                + "end ";
+    }
+
+    /**
+     * 执行多个锁的脚本
+     *
+     * @param script 脚本
+     * @param keys   KEYS
+     * @param args   ARGV
+     * @return 脚本返回值
+     */
+    private Object evalAll(LockScript script, List<String> keys, List<String> args) {
+        Jedis jedis = null;
+        try {
+            jedis = getJedis();
+            return script.eval(jedis, keys, args);
         } finally {
             closeJedis(jedis);
         }
-        return result;
+    }
+
+    /**
+     * 未指定持有时间的锁使用的持有时间，开启看门狗时使用看门狗的持有时间
+     *
+     * @param current 看门狗
+     * @return 毫秒
+     */
+    private long leaseMillis(LockWatchdog current) {
+        return current == null ? defaultEx : current.getLeaseMillis();
+    }
+
+    /**
+     * 把锁交给本地等待的队首，由{@link LocalLockQueue}直接唤醒队首；
+     * 不发送释放通知，同一个锁key上lockAsync、lockAll登记的等待者会取走通知，队首可能收不到
+     *
+     * @param lockKey     锁key
+     * @param lockVersion 锁版本
+     * @return 是否已交接
+     */
+    private boolean handoff(String lockKey, String lockVersion) {
+        LocalLockQueue queue = localQueue;
+        return queue != null && queue.handoff(lockKey, lockVersion);
+    }
+
+    /**
+     * 可重入时，当前线程已持有锁则增加持有次数
+     *
+     * @param lockKey 锁key
+     * @return 是否已持有
+     */
+    private boolean reenter(String lockKey) {
+        if (!reentrant) {
+            return false;
+        }
+        Hold hold = getHold(lockKey);
+        if (hold == null) {
+            return false;
+        }
+        hold.count++;
+        return true;
+    }
+
+    /**
+     * 记录当前线程取得的锁，并交给看门狗续期
+     *
+     * @param lockKey     锁key
+     * @param lockVersion 锁版本
+     * @param current     看门狗，为null时不续期
+     */
+    private void hold(String lockKey, String lockVersion, LockWatchdog current) {
+        Map<String, Hold> held = holds.get();
+        if (held == null) {
+            held = new HashMap<>(4);
+            holds.set(held);
+        }
+        held.put(lockKey, new Hold(lockVersion));
+        if (current != null) {
+            current.watch(lockKey, lockVersion);
+        }
+    }
+
+    /**
+     * 当前线程对锁的持有信息
+     *
+     * @param lockKey 锁key
+     * @return 未持有时为null
+     */
+    private Hold getHold(String lockKey) {
+        Map<String, Hold> held = holds.get();
+        return held == null ? null : held.get(lockKey);
+    }
+
+    /**
+     * 移除当前线程对锁的持有信息
+     *
+     * @param lockKey 锁key
+     */
+    private void removeHold(String lockKey) {
+        Map<String, Hold> held = holds.get();
+        if (held != null) {
+            held.remove(lockKey);
+            if (held.isEmpty()) {
+                holds.remove();
+            }
+        }
     }
 
     /**
@@ -243,6 +1083,25 @@ public class GlobalLockImpl implements GlobalLock {
         return LOCK_KEY + key;
     }
 
+    /**
+     * 公平锁脚本的KEYS：锁、等待队列(锁版本列表)、等待方期限(锁版本 -> 以Redis服务端时间计算的期限)
+     *
+     * @param lockKey 锁key
+     * @return KEYS
+     */
+    private List<String> getFairKeys(String lockKey) {
+        return Arrays.asList(lockKey, lockKey + ":queue", lockKey + ":waiters");
+    }
+
+    /**
+     * 公平锁等待方的期限，超过期限未刷新的等待方视为已崩溃，到达队首时被移除；大于最大退避时间，等待方每次尝试都会刷新
+     *
+     * @return 毫秒
+     */
+    private long waiterMillis() {
+        return Math.max(1000, maxBackoffMillis * 5);
+    }
+
     /**
      * 获取锁版本
      *
@@ -259,10 +1118,10 @@ public class GlobalLockImpl implements GlobalLock {
      *
      * @return {@link Jedis}
      */
-    public synchronized Jedis getJedis() {
+    public Jedis getJedis() {
         Jedis jedis = null;
-        if (!ObjectUtils.isEmpty(jedisPool)) {
-            jedis = jedisPool.getResource();
+        if (!ObjectUtils.isEmpty(connectionProvider)) {
+            jedis = connectionProvider.getResource();
         }
         return jedis;
     }
@@ -276,10 +1135,155 @@ public class GlobalLockImpl implements GlobalLock {
     private void closeJedis(Jedis jedis) {
         if (jedis != null) {
             try {
-                jedis.close();
+                connectionProvider.release(jedis);
             } catch (JedisException e) {
                 logger.error("ShardedJedis close fail", e);
             }
         }
     }
+
+    /**
+     * 一次异步加锁
+     * <p>
+     * 每次尝试在调度线程上执行，失败后同时等待释放通知与退避定时，先到的一个发起下一次尝试，等待期间不占用任何线程；
+     * 取得锁后才完成future，future已被取消时立即释放取得的锁。
+     */
+    private final class AsyncAcquire {
+
+        private final CompletableFuture<LockHandle> future = new CompletableFuture<>();
+
+        private final String key;
+
+        private final String lockKey;
+
+        private final String lockVersion;
+
+        private final long leaseMillis;
+
+        private final long deadline;
+
+        /**
+         * 当前等待的轮次，释放通知与退避定时中只有先把轮次加一的一方发起下一次尝试
+         */
+        private final AtomicInteger round = new AtomicInteger();
+
+        private long backoffMillis = ReleaseAwaiter.MIN_BACKOFF_MILLIS;
+
+        private AsyncAcquire(String key, long leaseMillis, long waitNanos) {
+            this.key = key;
+            this.lockKey = getLockKey(key);
+            this.lockVersion = getLockVersion();
+            this.leaseMillis = leaseMillis;
+            this.deadline = System.nanoTime() + waitNanos;
+        }
+
+        private void attempt() {
+            //已被取消
+            if (future.isDone()) {
+                giveUp();
+                return;
+            }
+            LockReleaseNotifier notifier = releaseNotifier;
+            String notifyId = fair ? lockVersion : lockKey;
+            //先登记再尝试，避免错过两者之间的释放通知
+            CompletableFuture<Void> released = notifier == null ? null : notifier.register(notifyId);
+            boolean locked;
+            try {
+                locked = setLock(lockKey, lockVersion, leaseMillis);
+            } catch (JedisException e) {
+                logger.error("'lockAsync' key fail, key: {} , lease:{}", key, leaseMillis);
+                logger.error(e.getMessage(), e);
+                //与等待超时区分，以异常完成
+                finish(notifier, notifyId, released, null, e);
+                return;
+            }
+            if (locked) {
+                finish(notifier, notifyId, released, new LockHandle(GlobalLockImpl.this, key, lockVersion), null);
+                return;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                finish(notifier, notifyId, released, null, null);
+                return;
+            }
+            long sleepMillis = backoffMillis / 2 + ThreadLocalRandom.current().nextLong(backoffMillis / 2 + 1);
+            sleepMillis = Math.min(sleepMillis, TimeUnit.NANOSECONDS.toMillis(remaining) + 1);
+            int current = round.get();
+            ScheduledThreadPoolExecutor scheduler = getAsyncScheduler();
+            ScheduledFuture<?> timer = scheduler.schedule(() -> {
+                if (round.compareAndSet(current, current + 1)) {
+                    if (released != null) {
+                        notifier.abandon(notifyId, released);
+                    }
+                    backoffMillis = Math.min(backoffMillis * 2, maxBackoffMillis);
+                    attempt();
+                }
+            }, sleepMillis, TimeUnit.MILLISECONDS);
+            if (released != null) {
+                //通知在订阅线程上完成，转到调度线程再尝试
+                released.thenRun(() -> scheduler.execute(() -> {
+                    if (round.compareAndSet(current, current + 1)) {
+                        timer.cancel(false);
+                        notifier.unregister(notifyId, released);
+                        attempt();
+                    }
+                }));
+            }
+        }
+
+        /**
+         * 结束等待
+         *
+         * @param notifier 释放通知
+         * @param notifyId 释放通知的消息
+         * @param released 本次登记的释放通知
+         * @param handle   取得的锁，未取得时为null
+         * @param error    访问Redis失败的异常，不为null时以该异常完成
+         */
+        private void finish(LockReleaseNotifier notifier, String notifyId, CompletableFuture<Void> released,
+                            LockHandle handle, JedisException error) {
+            if (released != null) {
+                notifier.unregister(notifyId, released);
+            }
+            if (error != null) {
+                giveUp();
+                future.completeExceptionally(error);
+            } else if (handle == null) {
+                giveUp();
+                future.complete(null);
+            } else if (!future.complete(handle)) {
+                //等待期间已被取消
+                unLock(handle);
+            }
+        }
+
+        /**
+         * 未取得锁，公平锁时退出等待队列
+         */
+        private void giveUp() {
+            if (fair) {
+                leaveFairQueue(lockKey, lockVersion);
+            }
+        }
+    }
+
+    /**
+     * 线程对一个锁的持有信息
+     */
+    private static final class Hold {
+
+        /**
+         * 锁版本
+         */
+        private final String version;
+
+        /**
+         * 持有次数，不可重入时始终为1
+         */
+        private int count = 1;
+
+        private Hold(String version) {
+            this.version = version;
+        }
+    }
 }
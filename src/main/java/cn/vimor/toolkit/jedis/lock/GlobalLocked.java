@@ -0,0 +1,77 @@
+package cn.vimor.toolkit.jedis.lock;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 方法执行期间持有分布式锁
+ * <p>
+ * 由{@link GlobalLockedAspect}在方法执行前取得{@link GlobalLock}，执行后释放；锁key为SpEL表达式，
+ * 可以用参数名(需要以-parameters编译)或#p0/#a0引用参数，字符串常量需要加单引号，例如{@code "'order:' + #order.id"}。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface GlobalLocked {
+
+    /**
+     * 锁key，SpEL表达式
+     *
+     * @return {@link String}
+     */
+    String key();
+
+    /**
+     * 持有时间，小于等于0时使用默认持有时间(开启看门狗时自动续期)；{@link Mode#RENEW}时忽略
+     *
+     * @return long
+     */
+    long lease() default -1;
+
+    /**
+     * 最长等待时间，{@link Mode#SKIP}时忽略
+     *
+     * @return long
+     */
+    long waitTime() default 3000;
+
+    /**
+     * lease与waitTime的时间单位
+     *
+     * @return {@link TimeUnit}
+     */
+    TimeUnit timeUnit() default TimeUnit.MILLISECONDS;
+
+    /**
+     * 取锁方式
+     *
+     * @return {@link Mode}
+     */
+    Mode mode() default Mode.WAIT;
+
+    /**
+     * 取锁方式
+     */
+    enum Mode {
+        /**
+         * 只尝试一次，未取得时不执行方法，返回null(基本类型返回默认值)
+         */
+        SKIP,
+        /**
+         * 最多等待waitTime，未取得时抛出{@link IllegalStateException}
+         */
+        WAIT,
+        /**
+         * 同WAIT，忽略lease，由看门狗续期直到方法返回；需要开启看门狗(jedis.lock.watchdog.enabled)，
+         * 未开启时第一次执行方法抛出{@link IllegalStateException}
+         */
+        RENEW
+    }
+}
@@ -0,0 +1,187 @@
+package cn.vimor.toolkit.jedis.lock;
+
+import cn.vimor.toolkit.jedis.metrics.JedisMetrics;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link GlobalLocked}的切面
+ * <p>
+ * 每个方法第一次执行时解析锁key表达式、参数名、持有时间与等待时间并缓存，之后每次执行只计算表达式；
+ * 表达式以MIXED模式编译，执行多次后编译为字节码。每次取锁的等待时间通过{@link JedisMetrics#recordLockWait}上报。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+@Aspect
+public class GlobalLockedAspect {
+
+    private static final SpelExpressionParser PARSER = new SpelExpressionParser(
+            new SpelParserConfiguration(SpelCompilerMode.MIXED, GlobalLockedAspect.class.getClassLoader()));
+    /**
+     * 方法 -> 解析后的锁定信息
+     */
+    private final Map<Method, LockedMethod> methods = new ConcurrentHashMap<>();
+
+    private final GlobalLock globalLock;
+    /**
+     * 指标回调
+     */
+    @Autowired(required = false)
+    private volatile JedisMetrics metrics = JedisMetrics.NOOP;
+    /**
+     * 锁续期看门狗，{@link GlobalLocked.Mode#RENEW}需要开启
+     */
+    @Autowired(required = false)
+    private volatile LockWatchdog watchdog;
+
+    public GlobalLockedAspect(GlobalLock globalLock) {
+        this.globalLock = globalLock;
+    }
+
+    @Around("@annotation(locked)")
+    public Object around(ProceedingJoinPoint joinPoint, GlobalLocked locked) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        LockedMethod lockedMethod = methods.computeIfAbsent(signature.getMethod(),
+                method -> new LockedMethod(signature, locked));
+        String key = lockedMethod.key(joinPoint.getArgs());
+        long start = System.nanoTime();
+        boolean acquired = lockedMethod.lock(globalLock, key);
+        metrics.recordLockWait(lockedMethod.operation, acquired, System.nanoTime() - start);
+        if (!acquired) {
+            if (lockedMethod.mode == GlobalLocked.Mode.SKIP) {
+                return lockedMethod.skipValue;
+            }
+            throw new IllegalStateException("global lock not acquired, key: " + key);
+        }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            globalLock.unLock(key);
+        }
+    }
+
+    /**
+     * 解析后的锁定信息
+     */
+    private final class LockedMethod {
+
+        private final Expression key;
+
+        private final String[] parameterNames;
+
+        private final String operation;
+
+        private final GlobalLocked.Mode mode;
+
+        private final Duration lease;
+
+        private final Duration wait;
+
+        /**
+         * 未取得锁时的返回值
+         */
+        private final Object skipValue;
+
+        private LockedMethod(MethodSignature signature, GlobalLocked locked) {
+            this.key = PARSER.parseExpression(locked.key());
+            this.parameterNames = signature.getParameterNames();
+            this.operation = signature.getDeclaringType().getSimpleName() + "." + signature.getName();
+            this.mode = locked.mode();
+            this.lease = locked.lease() > 0 ? Duration.ofMillis(locked.timeUnit().toMillis(locked.lease())) : null;
+            this.wait = Duration.ofMillis(Math.max(0, locked.timeUnit().toMillis(locked.waitTime())));
+            this.skipValue = defaultValue(signature.getReturnType());
+            //未开启看门狗时RENEW与WAIT相同，持有时间到期后锁会在方法执行期间释放
+            if (mode == GlobalLocked.Mode.RENEW && watchdog == null) {
+                throw new IllegalStateException("'jedis.lock.watchdog.enabled' must be true for RENEW mode, method: "
+                        + operation);
+            }
+        }
+
+        /**
+         * 计算锁key
+         *
+         * @param args 参数
+         * @return {@link String}
+         */
+        private String key(Object[] args) {
+            StandardEvaluationContext context = new StandardEvaluationContext(args);
+            for (int i = 0; i < args.length; i++) {
+                context.setVariable("p" + i, args[i]);
+                context.setVariable("a" + i, args[i]);
+                if (parameterNames != null) {
+                    context.setVariable(parameterNames[i], args[i]);
+                }
+            }
+            Object value = key.getValue(context);
+            return value == null ? null : value.toString();
+        }
+
+        /**
+         * 取得锁
+         *
+         * @param globalLock 分布式锁
+         * @param key        锁key
+         * @return 是否取得锁
+         */
+        private boolean lock(GlobalLock globalLock, String key) {
+            switch (mode) {
+                case SKIP:
+                    return lease == null ? globalLock.lockNoWait(key)
+                            : globalLock.lockNoWait(key, lease.toMillis(), TimeUnit.MILLISECONDS);
+                case RENEW:
+                    return globalLock.lock(key, wait);
+                default:
+                    return lease == null ? globalLock.lock(key, wait) : globalLock.lock(key, lease, wait);
+            }
+        }
+    }
+
+    /**
+     * 返回类型的默认值，基本类型不能返回null
+     *
+     * @param type 返回类型
+     * @return 默认值
+     */
+    private static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == float.class) {
+            return 0F;
+        }
+        if (type == double.class) {
+            return 0D;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,71 @@
+package cn.vimor.toolkit.jedis.lock;
+
+import java.time.Duration;
+
+/**
+ * 分布式读写锁
+ * <p>
+ * 读锁可以被多个线程(跨JVM)同时持有，写锁与读锁、写锁互斥；有写锁在等待时不再授予新的读锁，避免写锁饥饿。
+ * 同一线程可以重入读锁、重入写锁、持有写锁时取得读锁(降级)，但不能在持有读锁时取得写锁(升级)。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public interface GlobalReadWriteLock {
+
+    /**
+     * 加读锁，最多等待waitTimeout，持有时间为默认值
+     *
+     * @param key         关键
+     * @param waitTimeout 最长等待时间
+     * @return 是否取得锁
+     */
+    boolean lockRead(String key, Duration waitTimeout);
+
+    /**
+     * 加读锁，最多等待waitTimeout
+     *
+     * @param key         关键
+     * @param lease       持有时间
+     * @param waitTimeout 最长等待时间
+     * @return 是否取得锁
+     */
+    boolean lockRead(String key, Duration lease, Duration waitTimeout);
+
+    /**
+     * 释放读锁
+     *
+     * @param key 关键
+     * @return boolean
+     */
+    Boolean unLockRead(String key);
+
+    /**
+     * 加写锁，最多等待waitTimeout，持有时间为默认值
+     *
+     * @param key         关键
+     * @param waitTimeout 最长等待时间
+     * @return 是否取得锁
+     * @throws IllegalStateException 当前线程持有该key的读锁
+     */
+    boolean lockWrite(String key, Duration waitTimeout);
+
+    /**
+     * 加写锁，最多等待waitTimeout
+     *
+     * @param key         关键
+     * @param lease       持有时间
+     * @param waitTimeout 最长等待时间
+     * @return 是否取得锁
+     * @throws IllegalStateException 当前线程持有该key的读锁
+     */
+    boolean lockWrite(String key, Duration lease, Duration waitTimeout);
+
+    /**
+     * 释放写锁
+     *
+     * @param key 关键
+     * @return boolean
+     */
+    Boolean unLockWrite(String key);
+}
@@ -0,0 +1,409 @@
+package cn.vimor.toolkit.jedis.lock;
+
+import cn.vimor.toolkit.jedis.connection.JedisConnectionProvider;
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ObjectUtils;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisException;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Resource;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 分布式读写锁实现
+ * <p>
+ * 每个key使用三个Redis key(以{key}为hash tag)：写锁为字符串，值为锁版本；读锁为有序集合，成员为锁版本，分数为过期时间(毫秒)；
+ * 写意向为字符串，等待中的写锁写入自己的版本，存在时不再授予新的读锁。加锁与释放都在一个脚本中完成，
+ * 过期时间使用Redis服务端时间，不受客户端时钟偏差影响。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+@Service
+public class GlobalReadWriteLockImpl implements GlobalReadWriteLock {
+
+    private static final Logger logger = LoggerFactory.getLogger(GlobalReadWriteLockImpl.class);
+    /**
+     * 锁key
+     */
+    private final static String LOCK_KEY = "vlightv:global:rwlock:";
+    /**
+     * 写意向的最短保留时间，单位毫秒；等待中的写锁每次尝试时刷新
+     */
+    private static final long MIN_INTENT_MILLIS = 1000;
+    /**
+     * 加读锁：KEYS为写锁、读锁、写意向，ARGV为锁版本、持有时间(毫秒)、当前线程持有的写锁版本(没有时为空)；
+     * 其他线程持有写锁或有写锁在等待时返回0
+     */
+    private static final LockScript READ_LOCK_SCRIPT = new LockScript(LockScript.NOW
+            + "local writer = redis.call('get', KEYS[1]) "
+            + "if writer ~= ARGV[3] and (writer or redis.call('exists', KEYS[3]) == 1) then "
+            + "return 0 "
+            + "end "
+            + "redis.call('zremrangebyscore', KEYS[2], '-inf', now) "
+            + "redis.call('zadd', KEYS[2], now + tonumber(ARGV[2]), ARGV[1]) "
+            + "if redis.call('pttl', KEYS[2]) < tonumber(ARGV[2]) then "
+            + "redis.call('pexpire', KEYS[2], ARGV[2]) "
+            + "end "
+            + "return 1");
+    /**
+     * 加写锁：KEYS为写锁、读锁、写意向，ARGV为锁版本、持有时间(毫秒)、写意向保留时间(毫秒)；
+     * 有其他写锁在等待时返回0，有写锁或未过期的读锁时登记写意向并返回0
+     */
+    private static final LockScript WRITE_LOCK_SCRIPT = new LockScript(LockScript.NOW
+            + "local intent = redis.call('get', KEYS[3]) "
+            + "if intent and intent ~= ARGV[1] then "
+            + "return 0 "
+            + "end "
+            + "redis.call('zremrangebyscore', KEYS[2], '-inf', now) "
+            + "if redis.call('exists', KEYS[1]) == 1 or redis.call('zcard', KEYS[2]) > 0 then "
+            + "redis.call('set', KEYS[3], ARGV[1], 'PX', ARGV[3]) "
+            + "return 0 "
+            + "end "
+            + "redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[2]) "
+            + "if intent then "
+            + "redis.call('del', KEYS[3]) "
+            + "end "
+            + "return 1");
+    /**
+     * 释放读锁：KEYS为读锁，ARGV为锁版本、通知频道、通知消息；没有读锁时通知等待方，返回是否释放了未过期的读锁
+     */
+    private static final LockScript READ_UNLOCK_SCRIPT = new LockScript(LockScript.NOW
+            + "redis.call('zremrangebyscore', KEYS[1], '-inf', now) "
+            + "local removed = redis.call('zrem', KEYS[1], ARGV[1]) "
+            + "if redis.call('zcard', KEYS[1]) == 0 then "
+            + "redis.call('publish', ARGV[2], ARGV[3]) "
+            + "end "
+            + "return removed");
+    /**
+     * 释放写锁或写意向：KEYS为写锁或写意向，ARGV为锁版本、通知频道、通知消息；为当前版本时删除并通知等待方，返回1
+     */
+    private static final LockScript WRITE_UNLOCK_SCRIPT = new LockScript(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "redis.call('del', KEYS[1]) "
+                    + "redis.call('publish', ARGV[2], ARGV[3]) "
+                    + "return 1 "
+                    + "end "
+                    + "return 0");
+    /**
+     * 当前线程持有的读锁，锁key -> 持有信息
+     */
+    private final ThreadLocal<Map<String, Hold>> readHolds = new ThreadLocal<>();
+    /**
+     * 当前线程持有的写锁，锁key -> 持有信息
+     */
+    private final ThreadLocal<Map<String, Hold>> writeHolds = new ThreadLocal<>();
+    /**
+     * 消息
+     */
+    private final String message = "'key' must not be null and empty";
+    /**
+     * 释放锁时间
+     */
+    @Value("${jedis.lock.px}")
+    private Long lockEx;
+    /**
+     * 默认释放锁的时间
+     */
+    private long defaultEx = 3000;
+    /**
+     * 等待锁时的最大退避时间，单位毫秒
+     */
+    @Value("${jedis.lock.maxBackoffMillis:200}")
+    private long maxBackoffMillis = 200;
+    /**
+     * 锁释放通知，未开启时只依靠退避重试
+     */
+    @Autowired(required = false)
+    private volatile LockReleaseNotifier releaseNotifier;
+    /**
+     * jedis连接提供者
+     */
+    @Resource
+    private volatile JedisConnectionProvider connectionProvider;
+
+    @PostConstruct
+    public void init() {
+        if (!ObjectUtils.isEmpty(lockEx)) {
+            defaultEx = lockEx;
+        }
+    }
+
+    @Override
+    public boolean lockRead(String key, Duration waitTimeout) {
+        return lockRead(key, Duration.ofMillis(defaultEx), waitTimeout);
+    }
+
+    @Override
+    public boolean lockRead(String key, Duration lease, Duration waitTimeout) {
+        checkLock(key, lease, waitTimeout);
+        String lockKey = getLockKey(key);
+        Hold hold = getHold(readHolds, lockKey);
+        if (hold != null) {
+            hold.count++;
+            return true;
+        }
+        Hold writeHold = getHold(writeHolds, lockKey);
+        String lockVersion = getLockVersion();
+        try {
+            List<String> args = Arrays.asList(lockVersion, String.valueOf(lease.toMillis()),
+                    writeHold == null ? "" : writeHold.version);
+            if (waitLock(lockKey, READ_LOCK_SCRIPT, keys(lockKey), args, waitTimeout.toNanos())) {
+                putHold(readHolds, lockKey, lockVersion);
+                return true;
+            }
+        } catch (JedisException e) {
+            logger.error("'lockRead' key fail, key: {} , lease:{}, waitTimeout:{}", key, lease, waitTimeout);
+            logger.error(e.getMessage(), e);
+        }
+        return false;
+    }
+
+    @Override
+    public Boolean unLockRead(String key) {
+        AbstractAssertUtils.notEmpty(key, message);
+        String lockKey = getLockKey(key);
+        Hold hold = getHold(readHolds, lockKey);
+        if (hold == null) {
+            return false;
+        }
+        if (hold.count > 1) {
+            hold.count--;
+            return true;
+        }
+        boolean result = false;
+        try {
+            result = eval(READ_UNLOCK_SCRIPT, Collections.singletonList(getReadKey(lockKey)),
+                    Arrays.asList(hold.version, LockReleaseNotifier.BROADCAST_CHANNEL, lockKey));
+            //未释放说明读锁已过期，同样不再由当前线程持有
+            removeHold(readHolds, lockKey);
+        } catch (JedisException e) {
+            logger.error("'unLockRead' key fail, key: {}", key);
+            logger.error(e.getMessage(), e);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean lockWrite(String key, Duration waitTimeout) {
+        return lockWrite(key, Duration.ofMillis(defaultEx), waitTimeout);
+    }
+
+    @Override
+    public boolean lockWrite(String key, Duration lease, Duration waitTimeout) {
+        checkLock(key, lease, waitTimeout);
+        String lockKey = getLockKey(key);
+        Hold hold = getHold(writeHolds, lockKey);
+        if (hold != null) {
+            hold.count++;
+            return true;
+        }
+        if (getHold(readHolds, lockKey) != null) {
+            throw new IllegalStateException("read lock can not be upgraded to write lock, key: " + key);
+        }
+        String lockVersion = getLockVersion();
+        try {
+            long intentMillis = Math.max(MIN_INTENT_MILLIS, maxBackoffMillis * 5);
+            List<String> args = Arrays.asList(lockVersion, String.valueOf(lease.toMillis()),
+                    String.valueOf(intentMillis));
+            if (waitLock(lockKey, WRITE_LOCK_SCRIPT, keys(lockKey), args, waitTimeout.toNanos())) {
+                putHold(writeHolds, lockKey, lockVersion);
+                return true;
+            }
+            //放弃等待时撤销写意向，让被阻挡的读锁继续
+            eval(WRITE_UNLOCK_SCRIPT, Collections.singletonList(getIntentKey(lockKey)),
+                    Arrays.asList(lockVersion, LockReleaseNotifier.BROADCAST_CHANNEL, lockKey));
+        } catch (JedisException e) {
+            logger.error("'lockWrite' key fail, key: {} , lease:{}, waitTimeout:{}", key, lease, waitTimeout);
+            logger.error(e.getMessage(), e);
+        }
+        return false;
+    }
+
+    @Override
+    public Boolean unLockWrite(String key) {
+        AbstractAssertUtils.notEmpty(key, message);
+        String lockKey = getLockKey(key);
+        Hold hold = getHold(writeHolds, lockKey);
+        if (hold == null) {
+            return false;
+        }
+        if (hold.count > 1) {
+            hold.count--;
+            return true;
+        }
+        boolean result = false;
+        try {
+            result = eval(WRITE_UNLOCK_SCRIPT, Collections.singletonList(getWriteKey(lockKey)),
+                    Arrays.asList(hold.version, LockReleaseNotifier.BROADCAST_CHANNEL, lockKey));
+            //未释放说明写锁已过期，同样不再由当前线程持有
+            removeHold(writeHolds, lockKey);
+        } catch (JedisException e) {
+            logger.error("'unLockWrite' key fail, key: {}", key);
+            logger.error(e.getMessage(), e);
+        }
+        return result;
+    }
+
+    /**
+     * 等待取得锁，每次尝试只借用一次连接执行一次脚本
+     *
+     * @param lockKey   锁key，同时是释放通知的消息
+     * @param script    加锁脚本
+     * @param keys      KEYS
+     * @param args      ARGV
+     * @param waitNanos 最长等待时间，单位纳秒
+     * @return 是否取得锁
+     */
+    private boolean waitLock(String lockKey, LockScript script, List<String> keys, List<String> args,
+                             long waitNanos) {
+        return ReleaseAwaiter.await(releaseNotifier, lockKey, waitNanos, maxBackoffMillis,
+                () -> eval(script, keys, args));
+    }
+
+    /**
+     * 执行脚本
+     *
+     * @param script 脚本
+     * @param keys   KEYS
+     * @param args   ARGV
+     * @return 脚本是否返回1
+     */
+    private boolean eval(LockScript script, List<String> keys, List<String> args) {
+        Jedis jedis = null;
+        try {
+            jedis = getJedis();
+            return Long.valueOf(1L).equals(script.eval(jedis, keys, args));
+        } finally {
+            closeJedis(jedis);
+        }
+    }
+
+    private void checkLock(String key, Duration lease, Duration waitTimeout) {
+        AbstractAssertUtils.notEmpty(key, message);
+        AbstractAssertUtils.isTrue(lease != null && lease.toMillis() > 0, "'lease' must be greater than 0");
+        AbstractAssertUtils.isTrue(waitTimeout != null && !waitTimeout.isNegative(),
+                "'waitTimeout' must not be negative");
+    }
+
+    /**
+     * 得到锁key，以{key}为hash tag保证三个key在同一个slot
+     *
+     * @param key key
+     * @return {@link String}
+     */
+    private String getLockKey(String key) {
+        return LOCK_KEY + "{" + key + "}";
+    }
+
+    private String getWriteKey(String lockKey) {
+        return lockKey + ":write";
+    }
+
+    private String getReadKey(String lockKey) {
+        return lockKey + ":read";
+    }
+
+    private String getIntentKey(String lockKey) {
+        return lockKey + ":intent";
+    }
+
+    /**
+     * 加锁脚本的KEYS：写锁、读锁、写意向
+     *
+     * @param lockKey 锁key
+     * @return {@link List}
+     */
+    private List<String> keys(String lockKey) {
+        return Arrays.asList(getWriteKey(lockKey), getReadKey(lockKey), getIntentKey(lockKey));
+    }
+
+    /**
+     * 获取锁版本
+     *
+     * @return {@link String}
+     */
+    private String getLockVersion() {
+        return UUID.randomUUID().toString() + Thread.currentThread().getId();
+    }
+
+    private Hold getHold(ThreadLocal<Map<String, Hold>> holds, String lockKey) {
+        Map<String, Hold> held = holds.get();
+        return held == null ? null : held.get(lockKey);
+    }
+
+    private void putHold(ThreadLocal<Map<String, Hold>> holds, String lockKey, String lockVersion) {
+        Map<String, Hold> held = holds.get();
+        if (held == null) {
+            held = new HashMap<>(4);
+            holds.set(held);
+        }
+        held.put(lockKey, new Hold(lockVersion));
+    }
+
+    private void removeHold(ThreadLocal<Map<String, Hold>> holds, String lockKey) {
+        Map<String, Hold> held = holds.get();
+        if (held != null) {
+            held.remove(lockKey);
+            if (held.isEmpty()) {
+                holds.remove();
+            }
+        }
+    }
+
+    /**
+     * 得到Jedis
+     *
+     * @return {@link Jedis}
+     */
+    private Jedis getJedis() {
+        return connectionProvider.getResource();
+    }
+
+    /**
+     * 关闭Jedis
+     *
+     * @param jedis Jedis
+     */
+    private void closeJedis(Jedis jedis) {
+        if (jedis != null) {
+            try {
+                connectionProvider.release(jedis);
+            } catch (JedisException e) {
+                logger.error("Jedis close fail", e);
+            }
+        }
+    }
+
+    /**
+     * 线程对一个锁的持有信息
+     */
+    private static final class Hold {
+
+        /**
+         * 锁版本
+         */
+        private final String version;
+
+        /**
+         * 持有次数
+         */
+        private int count = 1;
+
+        private Hold(String version) {
+            this.version = version;
+        }
+    }
+}
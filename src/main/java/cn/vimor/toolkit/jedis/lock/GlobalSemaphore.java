@@ -0,0 +1,74 @@
+package cn.vimor.toolkit.jedis.lock;
+
+import java.time.Duration;
+
+/**
+ * 分布式信号量
+ * <p>
+ * 同一个key最多同时发放limit个许可(跨JVM)，每个许可都是一个有持有时间的租约，持有方崩溃后许可在持有时间后自动回收。
+ * 同一个key的各次调用应使用相同的limit。取得的许可通过{@link PermitLease}释放，也可以用于try-with-resources。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public interface GlobalSemaphore {
+
+    /**
+     * 不等待，取得一个许可，持有时间为默认值
+     *
+     * @param key   关键
+     * @param limit 许可总数
+     * @return 许可租约，未取得时为null
+     */
+    PermitLease tryAcquire(String key, int limit);
+
+    /**
+     * 不等待，一次取得多个许可，全部取得或一个也不取得
+     *
+     * @param key     关键
+     * @param limit   许可总数
+     * @param permits 许可数量
+     * @param lease   持有时间
+     * @return 许可租约，未取得时为null
+     */
+    PermitLease tryAcquire(String key, int limit, int permits, Duration lease);
+
+    /**
+     * 取得一个许可，最多等待waitTimeout，持有时间为默认值
+     *
+     * @param key         关键
+     * @param limit       许可总数
+     * @param waitTimeout 最长等待时间
+     * @return 许可租约，未取得时为null
+     */
+    PermitLease acquire(String key, int limit, Duration waitTimeout);
+
+    /**
+     * 一次取得多个许可，全部取得或一个也不取得，最多等待waitTimeout
+     *
+     * @param key         关键
+     * @param limit       许可总数
+     * @param permits     许可数量
+     * @param lease       持有时间
+     * @param waitTimeout 最长等待时间
+     * @return 许可租约，未取得时为null
+     */
+    PermitLease acquire(String key, int limit, int permits, Duration lease, Duration waitTimeout);
+
+    /**
+     * 可用的许可数量
+     *
+     * @param key   关键
+     * @param limit 许可总数
+     * @return 可用数量，失败时为0
+     */
+    int availablePermits(String key, int limit);
+
+    /**
+     * 释放许可
+     *
+     * @param lease 许可租约
+     * @return 释放的未过期许可数量
+     */
+    int release(PermitLease lease);
+}
@@ -0,0 +1,239 @@
+package cn.vimor.toolkit.jedis.lock;
+
+import cn.vimor.toolkit.jedis.connection.JedisConnectionProvider;
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ObjectUtils;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisException;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.Resource;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 分布式信号量实现
+ * <p>
+ * 每个key一个有序集合，成员为许可(租约标识:序号)，分数为以Redis服务端时间计算的过期时间(毫秒)；
+ * 取得与释放N个许可都只需一次脚本调用，取得前先清除已过期的许可。释放时向{@link LockReleaseNotifier#BROADCAST_CHANNEL}
+ * 发布一次释放通知，唤醒全部等待方：等待方需要的许可数量不同，只唤醒一个时可能唤醒到许可仍不足的等待方。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+@Service
+public class GlobalSemaphoreImpl implements GlobalSemaphore {
+
+    private static final Logger logger = LoggerFactory.getLogger(GlobalSemaphoreImpl.class);
+    /**
+     * 信号量key
+     */
+    private final static String SEMAPHORE_KEY = "vlightv:global:semaphore:";
+    /**
+     * 取得许可：KEYS为许可集合，ARGV为许可总数、持有时间(毫秒)、租约标识、许可数量；许可不足时返回0
+     */
+    private static final LockScript ACQUIRE_SCRIPT = new LockScript(LockScript.NOW
+            + "redis.call('zremrangebyscore', KEYS[1], '-inf', now) "
+            + "local permits = tonumber(ARGV[4]) "
+            + "if redis.call('zcard', KEYS[1]) + permits > tonumber(ARGV[1]) then "
+            + "return 0 "
+            + "end "
+            + "local expiry = now + tonumber(ARGV[2]) "
+            + "for i = 1, permits do "
+            + "redis.call('zadd', KEYS[1], expiry, ARGV[3] .. ':' .. i) "
+            + "end "
+            + "if redis.call('pttl', KEYS[1]) < tonumber(ARGV[2]) then "
+            + "redis.call('pexpire', KEYS[1], ARGV[2]) "
+            + "end "
+            + "return 1");
+    /**
+     * 释放许可：KEYS为许可集合，ARGV为租约标识、许可数量、通知频道、通知消息；返回释放的未过期许可数量
+     */
+    private static final LockScript RELEASE_SCRIPT = new LockScript(LockScript.NOW
+            + "redis.call('zremrangebyscore', KEYS[1], '-inf', now) "
+            + "local released = 0 "
+            + "for i = 1, tonumber(ARGV[2]) do "
+            + "released = released + redis.call('zrem', KEYS[1], ARGV[1] .. ':' .. i) "
+            + "end "
+            + "if released > 0 then "
+            + "redis.call('publish', ARGV[3], ARGV[4]) "
+            + "end "
+            + "return released");
+    /**
+     * 可用许可数量：KEYS为许可集合，ARGV为许可总数
+     */
+    private static final LockScript AVAILABLE_SCRIPT = new LockScript(LockScript.NOW
+            + "local available = tonumber(ARGV[1]) - redis.call('zcount', KEYS[1], '(' .. now, '+inf') "
+            + "if available < 0 then "
+            + "return 0 "
+            + "end "
+            + "return available");
+    /**
+     * 消息
+     */
+    private final String message = "'key' must not be null and empty";
+    /**
+     * 释放锁时间
+     */
+    @Value("${jedis.lock.px}")
+    private Long lockEx;
+    /**
+     * 默认的许可持有时间
+     */
+    private long defaultEx = 3000;
+    /**
+     * 等待许可时的最大退避时间，单位毫秒
+     */
+    @Value("${jedis.lock.maxBackoffMillis:200}")
+    private long maxBackoffMillis = 200;
+    /**
+     * 许可释放通知，未开启时只依靠退避重试
+     */
+    @Autowired(required = false)
+    private volatile LockReleaseNotifier releaseNotifier;
+    /**
+     * jedis连接提供者
+     */
+    @Resource
+    private volatile JedisConnectionProvider connectionProvider;
+
+    @PostConstruct
+    public void init() {
+        if (!ObjectUtils.isEmpty(lockEx)) {
+            defaultEx = lockEx;
+        }
+    }
+
+    @Override
+    public PermitLease tryAcquire(String key, int limit) {
+        return acquire(key, limit, 1, Duration.ofMillis(defaultEx), Duration.ZERO);
+    }
+
+    @Override
+    public PermitLease tryAcquire(String key, int limit, int permits, Duration lease) {
+        return acquire(key, limit, permits, lease, Duration.ZERO);
+    }
+
+    @Override
+    public PermitLease acquire(String key, int limit, Duration waitTimeout) {
+        return acquire(key, limit, 1, Duration.ofMillis(defaultEx), waitTimeout);
+    }
+
+    @Override
+    public PermitLease acquire(String key, int limit, int permits, Duration lease, Duration waitTimeout) {
+        AbstractAssertUtils.notEmpty(key, message);
+        AbstractAssertUtils.isTrue(limit > 0, "'limit' must be greater than 0");
+        AbstractAssertUtils.isTrue(permits > 0 && permits <= limit, "'permits' must be between 1 and 'limit'");
+        AbstractAssertUtils.isTrue(lease != null && lease.toMillis() > 0, "'lease' must be greater than 0");
+        AbstractAssertUtils.isTrue(waitTimeout != null && !waitTimeout.isNegative(),
+                "'waitTimeout' must not be negative");
+        String semaphoreKey = getSemaphoreKey(key);
+        String token = UUID.randomUUID().toString();
+        List<String> keys = Collections.singletonList(semaphoreKey);
+        List<String> args = Arrays.asList(String.valueOf(limit), String.valueOf(lease.toMillis()), token,
+                String.valueOf(permits));
+        try {
+            if (ReleaseAwaiter.await(releaseNotifier, semaphoreKey, waitTimeout.toNanos(), maxBackoffMillis,
+                    () -> Long.valueOf(1L).equals(eval(ACQUIRE_SCRIPT, keys, args)))) {
+                return new PermitLease(this, key, token, permits);
+            }
+        } catch (JedisException e) {
+            logger.error("'acquire' key fail, key: {} , permits:{}, lease:{}, waitTimeout:{}", key, permits, lease,
+                    waitTimeout);
+            logger.error(e.getMessage(), e);
+        }
+        return null;
+    }
+
+    @Override
+    public int availablePermits(String key, int limit) {
+        AbstractAssertUtils.notEmpty(key, message);
+        try {
+            Object available = eval(AVAILABLE_SCRIPT, Collections.singletonList(getSemaphoreKey(key)),
+                    Collections.singletonList(String.valueOf(limit)));
+            return ((Long) available).intValue();
+        } catch (JedisException e) {
+            logger.error("'availablePermits' key fail, key: {}", key);
+            logger.error(e.getMessage(), e);
+        }
+        return 0;
+    }
+
+    @Override
+    public int release(PermitLease lease) {
+        if (lease == null || !lease.markReleased()) {
+            return 0;
+        }
+        String semaphoreKey = getSemaphoreKey(lease.getKey());
+        try {
+            Object released = eval(RELEASE_SCRIPT, Collections.singletonList(semaphoreKey),
+                    Arrays.asList(lease.getToken(), String.valueOf(lease.getPermits()),
+                            LockReleaseNotifier.BROADCAST_CHANNEL, semaphoreKey));
+            return ((Long) released).intValue();
+        } catch (JedisException e) {
+            logger.error("'release' key fail, key: {}", lease.getKey());
+            logger.error(e.getMessage(), e);
+        }
+        return 0;
+    }
+
+    /**
+     * 执行脚本
+     *
+     * @param script 脚本
+     * @param keys   KEYS
+     * @param args   ARGV
+     * @return 脚本返回值
+     */
+    private Object eval(LockScript script, List<String> keys, List<String> args) {
+        Jedis jedis = null;
+        try {
+            jedis = getJedis();
+            return script.eval(jedis, keys, args);
+        } finally {
+            closeJedis(jedis);
+        }
+    }
+
+    /**
+     * 得到信号量key
+     *
+     * @param key key
+     * @return {@link String}
+     */
+    private String getSemaphoreKey(String key) {
+        return SEMAPHORE_KEY + key;
+    }
+
+    /**
+     * 得到Jedis
+     *
+     * @return {@link Jedis}
+     */
+    private Jedis getJedis() {
+        return connectionProvider.getResource();
+    }
+
+    /**
+     * 关闭Jedis
+     *
+     * @param jedis Jedis
+     */
+    private void closeJedis(Jedis jedis) {
+        if (jedis != null) {
+            try {
+                connectionProvider.release(jedis);
+            } catch (JedisException e) {
+                logger.error("Jedis close fail", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package cn.vimor.toolkit.jedis.lock;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 本地锁排队
+ * <p>
+ * 同一个JVM内竞争同一个锁key的线程先按到达顺序在本地排队，只有队首一个线程到Redis中竞争，
+ * 其余线程不访问Redis；取得锁后队首离开队列，下一个线程成为队首。
+ * 持有锁的线程释放时，如果本地还有线程在排队，直接把锁(版本)留给排队的线程，不在Redis中释放，
+ * 下一个队首只需一次延长持有时间即可取得锁；连续交接{@link #MAX_HANDOFFS}次后改为在Redis中释放，让其他JVM有机会取得锁。
+ * 交接后排队的线程全部放弃时，由最后离开的线程在Redis中释放。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+final class LocalLockQueue {
+
+    /**
+     * 连续本地交接的最大次数
+     */
+    static final int MAX_HANDOFFS = 16;
+
+    /**
+     * 锁key -> 排队，没有线程排队时移除
+     */
+    private final Map<String, Gate> gates = new ConcurrentHashMap<>();
+
+    /**
+     * 进入锁key的排队，之后必须调用{@link #leave(String, Gate)}
+     *
+     * @param lockKey 锁key
+     * @return {@link Gate}
+     */
+    Gate join(String lockKey) {
+        return gates.compute(lockKey, (k, gate) -> {
+            Gate current = gate == null ? new Gate() : gate;
+            current.users++;
+            return current;
+        });
+    }
+
+    /**
+     * 离开锁key的排队
+     *
+     * @param lockKey 锁key
+     * @param gate    {@link #join(String)}返回的排队
+     * @return 最后一个离开且有未被取走的交接时返回交接的锁版本，调用方需要在Redis中释放；否则为null
+     */
+    String leave(String lockKey, Gate gate) {
+        String[] orphan = new String[1];
+        gates.computeIfPresent(lockKey, (k, current) -> {
+            if (current != gate || --current.users > 0) {
+                return current;
+            }
+            orphan[0] = current.pending.getAndSet(null);
+            return null;
+        });
+        return orphan[0];
+    }
+
+    /**
+     * 释放锁时尝试交给本地排队的线程，与{@link #leave(String, Gate)}互斥，保证交接的锁总有线程取走或释放
+     *
+     * @param lockKey     锁key
+     * @param lockVersion 锁版本
+     * @return 是否已交接，已交接时不应在Redis中释放
+     */
+    boolean handoff(String lockKey, String lockVersion) {
+        boolean[] handed = new boolean[1];
+        Gate gate = gates.computeIfPresent(lockKey, (k, current) -> {
+            if (current.handoffs < MAX_HANDOFFS && current.pending.compareAndSet(null, lockVersion)) {
+                current.handoffs++;
+                handed[0] = true;
+            } else {
+                current.handoffs = 0;
+            }
+            return current;
+        });
+        if (handed[0]) {
+            gate.wake();
+        }
+        return handed[0];
+    }
+
+    /**
+     * 一个锁key的本地排队
+     */
+    static final class Gate {
+
+        /**
+         * 队首许可，公平模式保证按到达顺序成为队首
+         */
+        private final Semaphore head = new Semaphore(1, true);
+
+        /**
+         * 交接给排队线程、尚未被取走的锁版本
+         */
+        private final AtomicReference<String> pending = new AtomicReference<>();
+
+        /**
+         * 排队的线程数，只在compute中修改
+         */
+        private int users;
+
+        /**
+         * 连续本地交接的次数，只在compute中修改
+         */
+        private int handoffs;
+
+        /**
+         * 交接时完成，用于唤醒等待中的队首
+         */
+        private volatile CompletableFuture<Void> wakeup;
+
+        /**
+         * 等待成为队首
+         *
+         * @param waitNanos 最长等待时间，单位纳秒，小于0时一直等待(不响应中断)
+         * @return 是否成为队首，等待期间被中断时保留中断标记并返回false
+         */
+        boolean enter(long waitNanos) {
+            if (waitNanos < 0) {
+                head.acquireUninterruptibly();
+                return true;
+            }
+            try {
+                return head.tryAcquire(waitNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        /**
+         * 不等待，队首空缺时成为队首
+         *
+         * @return 是否成为队首
+         */
+        boolean tryEnter() {
+            return head.tryAcquire();
+        }
+
+        /**
+         * 队首登记唤醒，之后的交接会完成返回的future
+         *
+         * @return {@link CompletableFuture}
+         */
+        CompletableFuture<Void> awaitHandoff() {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            wakeup = future;
+            return future;
+        }
+
+        /**
+         * 取走交接的锁版本
+         *
+         * @return 没有交接时为null
+         */
+        String takeHandoff() {
+            return pending.getAndSet(null);
+        }
+
+        /**
+         * 离开队首，下一个线程成为队首
+         */
+        void exit() {
+            wakeup = null;
+            head.release();
+        }
+
+        private void wake() {
+            CompletableFuture<Void> future = wakeup;
+            if (future != null) {
+                future.complete(null);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package cn.vimor.toolkit.jedis.lock;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 异步取得的锁
+ * <p>
+ * 持有关系记录在锁句柄中而不是线程中，可以在任意线程释放；重复释放只有第一次生效。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public final class LockHandle implements AutoCloseable {
+
+    private final GlobalLock lock;
+
+    private final String key;
+
+    private final String lockVersion;
+
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    LockHandle(GlobalLock lock, String key, String lockVersion) {
+        this.lock = lock;
+        this.key = key;
+        this.lockVersion = lockVersion;
+    }
+
+    /**
+     * 锁的key
+     *
+     * @return {@link String}
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * 释放锁
+     *
+     * @return 是否释放，锁已过期或已释放时为false
+     */
+    public Boolean unLock() {
+        return lock.unLock(this);
+    }
+
+    @Override
+    public void close() {
+        unLock();
+    }
+
+    String getLockVersion() {
+        return lockVersion;
+    }
+
+    /**
+     * 标记为已释放
+     *
+     * @return 是否为第一次释放
+     */
+    boolean markReleased() {
+        return released.compareAndSet(false, true);
+    }
+
+    @Override
+    public String toString() {
+        return "LockHandle{key=" + key + '}';
+    }
+}
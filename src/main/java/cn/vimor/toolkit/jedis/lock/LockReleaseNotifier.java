@@ -0,0 +1,236 @@
+package cn.vimor.toolkit.jedis.lock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisClientConfig;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 锁释放通知
+ * <p>
+ * 释放锁时向{@link #CHANNEL}发布锁key，本JVM内等待该锁最久的一个等待方被唤醒后重新尝试加锁，避免同时唤醒全部等待方；
+ * 被唤醒的等待方放弃等待时通过{@link #abandon(String, CompletableFuture)}把通知转交给下一个等待方。
+ * 可以被多个等待方同时取得的锁(读锁、信号量)释放时向{@link #BROADCAST_CHANNEL}发布，唤醒本JVM内的全部等待方。
+ * 每个JVM只使用一个独立的订阅连接(不占用连接池)，在第一次等待时建立；连接断开期间等待方依靠退避重试，重连后唤醒全部等待方。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class LockReleaseNotifier implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(LockReleaseNotifier.class);
+
+    /**
+     * 释放通知的频道，消息内容为锁key
+     */
+    public static final String CHANNEL = "vlightv:global:lock:released";
+
+    /**
+     * 唤醒全部等待方的释放通知频道，消息内容为锁key
+     */
+    public static final String BROADCAST_CHANNEL = "vlightv:global:lock:released:all";
+
+    private final HostAndPort hostAndPort;
+
+    private final JedisClientConfig clientConfig;
+
+    /**
+     * 等待方，按登记顺序排列，只在compute/remove中修改，保证与唤醒互斥
+     */
+    private final Map<String, Set<CompletableFuture<Void>>> waiters = new ConcurrentHashMap<>();
+
+    private volatile Thread subscriber;
+
+    private volatile JedisPubSub pubSub;
+
+    private volatile Jedis connection;
+
+    private volatile boolean subscribed;
+
+    private volatile boolean running = true;
+
+    public LockReleaseNotifier(HostAndPort hostAndPort, JedisClientConfig clientConfig) {
+        this.hostAndPort = hostAndPort;
+        this.clientConfig = clientConfig;
+    }
+
+    /**
+     * 登记等待，锁释放时返回的future完成；应在尝试加锁之前登记，避免错过尝试与登记之间的释放
+     *
+     * @param id 锁key
+     * @return {@link CompletableFuture}
+     */
+    public CompletableFuture<Void> register(String id) {
+        ensureStarted();
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        waiters.compute(id, (k, set) -> {
+            Set<CompletableFuture<Void>> futures = set == null ? new LinkedHashSet<>() : set;
+            futures.add(future);
+            return futures;
+        });
+        return future;
+    }
+
+    /**
+     * 取消等待
+     *
+     * @param id     锁key
+     * @param future {@link #register(String)}返回的future
+     */
+    public void unregister(String id, CompletableFuture<Void> future) {
+        waiters.computeIfPresent(id, (k, set) -> {
+            set.remove(future);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * 放弃等待，已收到的通知转交给下一个等待方
+     *
+     * @param id     锁key
+     * @param future {@link #register(String)}返回的future
+     */
+    public void abandon(String id, CompletableFuture<Void> future) {
+        unregister(id, future);
+        if (future.isDone()) {
+            signal(id);
+        }
+    }
+
+    /**
+     * 唤醒本JVM内等待该锁最久的一个等待方
+     *
+     * @param id 锁key
+     */
+    public void signal(String id) {
+        List<CompletableFuture<Void>> first = new ArrayList<>(1);
+        waiters.computeIfPresent(id, (k, set) -> {
+            Iterator<CompletableFuture<Void>> iterator = set.iterator();
+            first.add(iterator.next());
+            iterator.remove();
+            return set.isEmpty() ? null : set;
+        });
+        //在compute之外完成，回调中可能再次登记
+        first.forEach(future -> future.complete(null));
+    }
+
+    /**
+     * 唤醒本JVM内等待该锁的全部等待方
+     *
+     * @param id 锁key
+     */
+    public void signalAll(String id) {
+        Set<CompletableFuture<Void>> futures = waiters.remove(id);
+        if (futures != null) {
+            futures.forEach(future -> future.complete(null));
+        }
+    }
+
+    /**
+     * 订阅连接是否已就绪，未就绪时等待方只能依靠退避重试
+     *
+     * @return boolean
+     */
+    public boolean isSubscribed() {
+        return subscribed;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        JedisPubSub current = pubSub;
+        if (current != null && current.isSubscribed()) {
+            try {
+                current.unsubscribe();
+            } catch (JedisException e) {
+                logger.debug("Lock release subscriber unsubscribe fail", e);
+            }
+        }
+        Jedis jedis = connection;
+        if (jedis != null) {
+            jedis.disconnect();
+        }
+        Thread thread = subscriber;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        waiters.keySet().forEach(this::signalAll);
+    }
+
+    private void ensureStarted() {
+        if (subscriber != null || !running) {
+            return;
+        }
+        synchronized (this) {
+            if (subscriber == null && running) {
+                Thread thread = new Thread(this::subscribeLoop, "jedis-lock-release-subscriber");
+                thread.setDaemon(true);
+                thread.start();
+                subscriber = thread;
+            }
+        }
+    }
+
+    private void subscribeLoop() {
+        while (running) {
+            Jedis jedis = null;
+            try {
+                jedis = new Jedis(hostAndPort, clientConfig);
+                connection = jedis;
+                JedisPubSub current = new ReleaseListener();
+                pubSub = current;
+                jedis.subscribe(current, CHANNEL, BROADCAST_CHANNEL);
+            } catch (JedisException e) {
+                if (running) {
+                    logger.error("Lock release subscriber connection fail, retry in 1s", e);
+                }
+            } finally {
+                subscribed = false;
+                if (jedis != null) {
+                    jedis.disconnect();
+                }
+            }
+            if (running) {
+                try {
+                    TimeUnit.SECONDS.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private final class ReleaseListener extends JedisPubSub {
+
+        @Override
+        public void onSubscribe(String channel, int subscribedChannels) {
+            subscribed = true;
+            //断开期间可能错过了释放通知，唤醒全部等待方重新尝试
+            waiters.keySet().forEach(LockReleaseNotifier.this::signalAll);
+        }
+
+        @Override
+        public void onMessage(String channel, String message) {
+            if (BROADCAST_CHANNEL.equals(channel)) {
+                signalAll(message);
+            } else {
+                signal(message);
+            }
+        }
+    }
+}
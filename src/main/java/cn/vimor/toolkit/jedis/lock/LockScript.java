@@ -0,0 +1,66 @@
+package cn.vimor.toolkit.jedis.lock;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisNoScriptException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+/**
+ * 锁使用的Lua脚本
+ * <p>
+ * SHA1在本地计算，执行时只发送SHA1(EVALSHA)；服务端没有缓存该脚本(重启、SCRIPT FLUSH、故障转移)时
+ * 改为发送完整脚本(EVAL)，EVAL同时会把脚本加入服务端缓存，之后继续使用EVALSHA。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+final class LockScript {
+
+    /**
+     * 脚本开头取得服务端当前时间，保存在局部变量now中(毫秒)；脚本中使用TIME后再写入需要按命令复制
+     */
+    static final String NOW = "redis.replicate_commands() "
+            + "local time = redis.call('time') "
+            + "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) ";
+
+    private final String source;
+
+    private final String sha1;
+
+    LockScript(String source) {
+        this.source = source;
+        this.sha1 = sha1Hex(source);
+    }
+
+    /**
+     * 执行脚本
+     *
+     * @param jedis jedis
+     * @param keys  KEYS
+     * @param args  ARGV
+     * @return 脚本返回值
+     */
+    Object eval(Jedis jedis, List<String> keys, List<String> args) {
+        try {
+            return jedis.evalsha(sha1, keys, args);
+        } catch (JedisNoScriptException e) {
+            return jedis.eval(source, keys, args);
+        }
+    }
+
+    private static String sha1Hex(String source) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(source.getBytes(StandardCharsets.UTF_8));
+            StringBuilder builder = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                builder.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
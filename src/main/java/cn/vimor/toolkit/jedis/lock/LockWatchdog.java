@@ -0,0 +1,203 @@
+package cn.vimor.toolkit.jedis.lock;
+
+import cn.vimor.toolkit.jedis.connection.JedisConnectionProvider;
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 锁续期看门狗
+ * <p>
+ * 每个JVM一个调度线程，登记本进程持有的锁，每隔持有时间的1/3用一个脚本为全部锁续期(每批最多{@link #BATCH_SIZE}个key)。
+ * 锁已不属于当前版本(已过期被其他线程取得)或持有锁的线程已结束时停止续期，锁在持有时间后自然过期；
+ * 进程退出后不再续期，锁最多在一个持有时间后释放。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class LockWatchdog implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(LockWatchdog.class);
+
+    /**
+     * 一次续期脚本最多包含的key数量
+     */
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * 续期：ARGV[1]为持有时间(毫秒)，ARGV[i + 1]为KEYS[i]的版本；按KEYS顺序返回是否续期成功(1/0)
+     */
+    private static final LockScript RENEW_SCRIPT = new LockScript(
+            "local result = {} "
+                    + "for i = 1, #KEYS do "
+                    + "if redis.call('get', KEYS[i]) == ARGV[i + 1] then "
+                    + "redis.call('pexpire', KEYS[i], ARGV[1]) "
+                    + "result[i] = 1 "
+                    + "else "
+                    + "result[i] = 0 "
+                    + "end "
+                    + "end "
+                    + "return result");
+
+    private final JedisConnectionProvider connectionProvider;
+
+    private final long leaseMillis;
+
+    /**
+     * 锁key -> 持有信息
+     */
+    private final Map<String, Hold> holds = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * @param connectionProvider 连接提供者
+     * @param leaseMillis        看门狗管理的锁的持有时间，单位毫秒，每隔1/3持有时间续期一次
+     */
+    public LockWatchdog(JedisConnectionProvider connectionProvider, long leaseMillis) {
+        AbstractAssertUtils.isTrue(leaseMillis >= 3, "'leaseMillis' must not be less than 3");
+        this.connectionProvider = connectionProvider;
+        this.leaseMillis = leaseMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jedis-lock-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = leaseMillis / 3;
+        scheduler.scheduleWithFixedDelay(this::renew, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 看门狗管理的锁的持有时间
+     *
+     * @return 毫秒
+     */
+    public long getLeaseMillis() {
+        return leaseMillis;
+    }
+
+    /**
+     * 登记当前线程取得的锁，之后自动续期
+     *
+     * @param lockKey     锁key
+     * @param lockVersion 锁版本
+     */
+    public void watch(String lockKey, String lockVersion) {
+        holds.put(lockKey, new Hold(lockVersion, Thread.currentThread()));
+    }
+
+    /**
+     * 停止续期，只移除该版本的登记，不影响同一个key之后的持有者
+     *
+     * @param lockKey     锁key
+     * @param lockVersion 锁版本
+     */
+    public void unwatch(String lockKey, String lockVersion) {
+        holds.computeIfPresent(lockKey, (k, hold) -> hold.version.equals(lockVersion) ? null : hold);
+    }
+
+    /**
+     * 正在续期的锁数量
+     *
+     * @return int
+     */
+    public int size() {
+        return holds.size();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        holds.clear();
+    }
+
+    /**
+     * 为登记的全部锁续期
+     */
+    private void renew() {
+        if (holds.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(Math.min(holds.size(), BATCH_SIZE));
+        List<Hold> batch = new ArrayList<>(Math.min(holds.size(), BATCH_SIZE));
+        for (Map.Entry<String, Hold> entry : holds.entrySet()) {
+            Hold hold = entry.getValue();
+            if (!hold.owner.isAlive()) {
+                logger.warn("Lock owner thread {} terminated without unlock, stop renewing, key: {}",
+                        hold.owner.getName(), entry.getKey());
+                holds.remove(entry.getKey(), hold);
+                continue;
+            }
+            keys.add(entry.getKey());
+            batch.add(hold);
+            if (keys.size() == BATCH_SIZE) {
+                renew(keys, batch);
+                keys.clear();
+                batch.clear();
+            }
+        }
+        if (!keys.isEmpty()) {
+            renew(keys, batch);
+        }
+    }
+
+    /**
+     * 为一批锁续期，不再属于登记版本的锁停止续期
+     *
+     * @param keys  锁key
+     * @param batch 与key一一对应的持有信息
+     */
+    private void renew(List<String> keys, List<Hold> batch) {
+        List<String> args = new ArrayList<>(batch.size() + 1);
+        args.add(String.valueOf(leaseMillis));
+        batch.forEach(hold -> args.add(hold.version));
+        Jedis jedis = null;
+        try {
+            jedis = connectionProvider.getResource();
+            List<?> result = (List<?>) RENEW_SCRIPT.eval(jedis, keys, args);
+            for (int i = 0; i < result.size(); i++) {
+                if (!Long.valueOf(1L).equals(result.get(i))) {
+                    holds.remove(keys.get(i), batch.get(i));
+                }
+            }
+        } catch (RuntimeException e) {
+            //下一次续期时重试，调度线程不能因异常退出
+            logger.error("'renew' lock fail, keys: {}", keys.size());
+            logger.error(e.getMessage(), e);
+        } finally {
+            if (jedis != null) {
+                try {
+                    connectionProvider.release(jedis);
+                } catch (JedisException e) {
+                    logger.error("Jedis close fail", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 持有信息
+     */
+    private static final class Hold {
+
+        private final String version;
+
+        private final Thread owner;
+
+        private Hold(String version, Thread owner) {
+            this.version = version;
+            this.owner = owner;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package cn.vimor.toolkit.jedis.lock;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 信号量许可租约
+ * <p>
+ * 不绑定线程，可以在任意线程释放；重复释放只有第一次生效。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public final class PermitLease implements AutoCloseable {
+
+    private final GlobalSemaphore semaphore;
+
+    private final String key;
+
+    private final String token;
+
+    private final int permits;
+
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    PermitLease(GlobalSemaphore semaphore, String key, String token, int permits) {
+        this.semaphore = semaphore;
+        this.key = key;
+        this.token = token;
+        this.permits = permits;
+    }
+
+    /**
+     * 信号量的key
+     *
+     * @return {@link String}
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * 许可数量
+     *
+     * @return int
+     */
+    public int getPermits() {
+        return permits;
+    }
+
+    /**
+     * 释放许可
+     *
+     * @return 释放的未过期许可数量
+     */
+    public int release() {
+        return semaphore.release(this);
+    }
+
+    @Override
+    public void close() {
+        release();
+    }
+
+    String getToken() {
+        return token;
+    }
+
+    /**
+     * 标记为已释放
+     *
+     * @return 是否为第一次释放
+     */
+    boolean markReleased() {
+        return released.compareAndSet(false, true);
+    }
+
+    @Override
+    public String toString() {
+        return "PermitLease{key=" + key + ", permits=" + permits + '}';
+    }
+}
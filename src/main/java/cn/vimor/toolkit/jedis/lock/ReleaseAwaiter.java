@@ -0,0 +1,114 @@
+package cn.vimor.toolkit.jedis.lock;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 等待释放后重试
+ * <p>
+ * 每次尝试之前先登记释放通知，尝试失败后等待释放通知或退避时间后再次尝试；
+ * 退避时间从{@link #MIN_BACKOFF_MILLIS}起按指数增长(带随机抖动)，不超过最大退避时间，用于锁过期或通知丢失的情况。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+final class ReleaseAwaiter {
+
+    /**
+     * 最小退避时间，单位毫秒
+     */
+    static final long MIN_BACKOFF_MILLIS = 4;
+
+    private ReleaseAwaiter() {
+    }
+
+    /**
+     * 重试直到成功或超时
+     *
+     * @param notifier         释放通知，为null时只依靠退避重试
+     * @param id               释放通知的消息
+     * @param waitNanos        最长等待时间，单位纳秒
+     * @param maxBackoffMillis 最大退避时间，单位毫秒
+     * @param attempt          一次尝试
+     * @return 是否成功，等待期间被中断时保留中断标记并返回false
+     */
+    static boolean await(LockReleaseNotifier notifier, String id, long waitNanos, long maxBackoffMillis,
+                         BooleanSupplier attempt) {
+        return await(notifier, () -> id, waitNanos, maxBackoffMillis, attempt);
+    }
+
+    /**
+     * 重试直到成功或超时，每次尝试前重新取得要等待的释放通知
+     *
+     * @param notifier         释放通知，为null时只依靠退避重试
+     * @param id               释放通知的消息，每次尝试前取值，可以随上一次尝试的结果变化
+     * @param waitNanos        最长等待时间，单位纳秒
+     * @param maxBackoffMillis 最大退避时间，单位毫秒
+     * @param attempt          一次尝试
+     * @return 是否成功，等待期间被中断时保留中断标记并返回false
+     */
+    static boolean await(LockReleaseNotifier notifier, Supplier<String> id, long waitNanos, long maxBackoffMillis,
+                         BooleanSupplier attempt) {
+        long deadline = System.nanoTime() + waitNanos;
+        long backoffMillis = MIN_BACKOFF_MILLIS;
+        for (; ; ) {
+            //先登记再尝试，避免错过两者之间的释放通知
+            String current = id.get();
+            CompletableFuture<Void> released = notifier == null ? null : notifier.register(current);
+            boolean waiting = true;
+            try {
+                if (attempt.getAsBoolean()) {
+                    waiting = false;
+                    return true;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                long sleepMillis = backoffMillis / 2 + ThreadLocalRandom.current().nextLong(backoffMillis / 2 + 1);
+                sleepMillis = Math.min(sleepMillis, TimeUnit.NANOSECONDS.toMillis(remaining) + 1);
+                if (!awaitRelease(released, sleepMillis)) {
+                    backoffMillis = Math.min(backoffMillis * 2, maxBackoffMillis);
+                }
+                waiting = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } finally {
+                if (released != null) {
+                    if (waiting) {
+                        notifier.abandon(current, released);
+                    } else {
+                        notifier.unregister(current, released);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 等待释放通知
+     *
+     * @param released    释放通知，为null时只等待退避时间
+     * @param sleepMillis 最长等待时间
+     * @return 是否收到释放通知
+     * @throws InterruptedException 等待期间被中断
+     */
+    static boolean awaitRelease(CompletableFuture<?> released, long sleepMillis) throws InterruptedException {
+        if (released == null) {
+            TimeUnit.MILLISECONDS.sleep(sleepMillis);
+            return false;
+        }
+        try {
+            released.get(sleepMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException | ExecutionException e) {
+            return false;
+        }
+    }
+}
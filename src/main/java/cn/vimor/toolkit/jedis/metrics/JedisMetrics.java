@@ -0,0 +1,40 @@
+package cn.vimor.toolkit.jedis.metrics;
+
+/**
+ * 指标回调
+ * <p>
+ * 注册为Spring Bean即可接收工具包内部的耗时与计数，默认不做任何处理。
+ * 回调在业务线程中同步执行，实现类需保证线程安全且足够轻量。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public interface JedisMetrics {
+
+    /**
+     * 不做任何处理的默认实现
+     */
+    JedisMetrics NOOP = new JedisMetrics() {
+    };
+
+    /**
+     * 批量读取完成
+     *
+     * @param operation    操作名
+     * @param keyCount     key数量
+     * @param chunkCount   分块数量
+     * @param elapsedNanos 耗时，单位纳秒
+     */
+    default void recordBulkRead(String operation, int keyCount, int chunkCount, long elapsedNanos) {
+    }
+
+    /**
+     * 等待分布式锁完成
+     *
+     * @param operation 操作名
+     * @param acquired  是否取得锁
+     * @param waitNanos 等待时间，单位纳秒
+     */
+    default void recordLockWait(String operation, boolean acquired, long waitNanos) {
+    }
+}
@@ -0,0 +1,263 @@
+package cn.vimor.toolkit.jedis.pipeline;
+
+import cn.vimor.toolkit.jedis.connection.JedisConnectionProvider;
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.CommandObject;
+import redis.clients.jedis.CommandObjects;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Protocol;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 自动管道执行器
+ * <p>
+ * 多个线程并发提交的单条命令先进入队列，由刷新线程在一个时间窗口内(或凑满批量大小)收集后，
+ * 借用一个连接以一次{@link Pipeline}发出，再把各自的回复交还给对应的调用线程。
+ * 刷新线程数即同时在途的管道数(maxInFlight)，每个刷新线程各自收集并发出一批命令，一批在途期间其余刷新线程继续收集；
+ * 在途管道数为1时吞吐受单个连接往返时间限制，一批在途期间到达的命令合并到下一批中。
+ * 同步调用最多等待timeout，超时抛出{@link JedisException}，不会因连接卡住而无限阻塞。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class AutoPipeliningExecutor implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(AutoPipeliningExecutor.class);
+
+    private final CommandObjects commandObjects = new CommandObjects();
+
+    private final BlockingQueue<PendingCommand<?>> queue = new LinkedBlockingQueue<>();
+
+    private final JedisConnectionProvider connectionProvider;
+
+    /**
+     * 收集命令的时间窗口(纳秒)
+     */
+    private final long windowNanos;
+
+    /**
+     * 一次管道最多包含的命令数
+     */
+    private final int batchSize;
+
+    /**
+     * 同步调用等待回复的最长时间(毫秒)
+     */
+    private final long timeoutMillis;
+
+    private final Thread[] flushers;
+
+    private volatile boolean running = true;
+
+    public AutoPipeliningExecutor(JedisConnectionProvider connectionProvider, long window, TimeUnit timeUnit, int batchSize) {
+        this(connectionProvider, window, timeUnit, batchSize, 1, 2L * Protocol.DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * @param connectionProvider 连接提供者
+     * @param window             收集命令的时间窗口
+     * @param timeUnit           时间单位
+     * @param batchSize          一次管道最多包含的命令数
+     * @param maxInFlight        同时在途的管道数，即刷新线程数
+     * @param timeoutMillis      同步调用等待回复的最长时间(毫秒)，一般为socket超时的两倍(排队等待前一批 + 本批往返)
+     */
+    public AutoPipeliningExecutor(JedisConnectionProvider connectionProvider, long window, TimeUnit timeUnit, int batchSize,
+                                  int maxInFlight, long timeoutMillis) {
+        AbstractAssertUtils.isTrue(window >= 0, "'window' must not be negative");
+        AbstractAssertUtils.isTrue(batchSize > 0, "'batchSize' must be greater than 0");
+        AbstractAssertUtils.isTrue(maxInFlight > 0, "'maxInFlight' must be greater than 0");
+        AbstractAssertUtils.isTrue(timeoutMillis > 0, "'timeoutMillis' must be greater than 0");
+        this.connectionProvider = connectionProvider;
+        this.windowNanos = timeUnit.toNanos(window);
+        this.batchSize = batchSize;
+        this.timeoutMillis = timeoutMillis;
+        this.flushers = new Thread[maxInFlight];
+        for (int i = 0; i < maxInFlight; i++) {
+            flushers[i] = new Thread(this::flushLoop, "jedis-auto-pipeline-" + i);
+            flushers[i].setDaemon(true);
+            flushers[i].start();
+        }
+    }
+
+    /**
+     * 命令构造器，与{@link Jedis}内部使用的一致
+     *
+     * @return {@link CommandObjects}
+     */
+    public CommandObjects commands() {
+        return commandObjects;
+    }
+
+    /**
+     * 提交命令并等待回复，最多等待timeout
+     *
+     * @param commandObject 命令
+     * @param <T>           回复类型
+     * @return 回复
+     */
+    public <T> T execute(CommandObject<T> commandObject) {
+        CompletableFuture<T> future = submit(commandObject);
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw new JedisException("Auto pipelined command timed out after " + timeoutMillis + " ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JedisException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof JedisException) {
+                throw (JedisException) e.getCause();
+            }
+            throw new JedisException(e.getCause());
+        }
+    }
+
+    /**
+     * 提交命令
+     *
+     * @param commandObject 命令
+     * @param <T>           回复类型
+     * @return 回复
+     */
+    public <T> CompletableFuture<T> submit(CommandObject<T> commandObject) {
+        PendingCommand<T> command = new PendingCommand<>(commandObject);
+        queue.add(command);
+        if (!running && queue.remove(command)) {
+            command.future.completeExceptionally(new JedisException("Auto pipelining executor is closed"));
+        }
+        return command.future;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        for (Thread flusher : flushers) {
+            flusher.interrupt();
+        }
+        List<PendingCommand<?>> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        fail(remaining, new JedisException("Auto pipelining executor is closed"));
+    }
+
+    private void flushLoop() {
+        List<PendingCommand<?>> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                collect(batch);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(batch, new JedisException(e));
+                return;
+            } catch (RuntimeException e) {
+                logger.error("Auto pipeline flush fail", e);
+                fail(batch, e instanceof JedisException ? (JedisException) e : new JedisException(e));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 在时间窗口内收集命令，直到凑满批量大小
+     *
+     * @param batch 批次
+     * @throws InterruptedException 中断
+     */
+    private void collect(List<PendingCommand<?>> batch) throws InterruptedException {
+        batch.add(queue.take());
+        queue.drainTo(batch, batchSize - batch.size());
+        long deadline = System.nanoTime() + windowNanos;
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            PendingCommand<?> command = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (command == null) {
+                return;
+            }
+            batch.add(command);
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+    }
+
+    private void flush(List<PendingCommand<?>> batch) {
+        Jedis jedis = null;
+        try {
+            jedis = connectionProvider.getResource();
+            Pipeline pipeline = jedis.pipelined();
+            for (PendingCommand<?> command : batch) {
+                //等待超时已取消的命令不再发出
+                if (!command.future.isDone()) {
+                    command.append(pipeline);
+                }
+            }
+            pipeline.sync();
+            for (PendingCommand<?> command : batch) {
+                command.complete();
+            }
+        } catch (JedisConnectionException e) {
+            fail(batch, e);
+        } finally {
+            if (jedis != null) {
+                connectionProvider.release(jedis);
+            }
+        }
+    }
+
+    private void fail(List<PendingCommand<?>> batch, JedisException cause) {
+        for (PendingCommand<?> command : batch) {
+            command.future.completeExceptionally(cause);
+        }
+    }
+
+    /**
+     * 等待发出的命令
+     *
+     * @param <T> 回复类型
+     */
+    private static final class PendingCommand<T> {
+
+        private final CommandObject<T> commandObject;
+
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private Response<T> response;
+
+        private PendingCommand(CommandObject<T> commandObject) {
+            this.commandObject = commandObject;
+        }
+
+        private void append(Pipeline pipeline) {
+            response = pipeline.appendCommand(commandObject);
+        }
+
+        private void complete() {
+            if (response == null) {
+                return;
+            }
+            try {
+                future.complete(response.get());
+            } catch (JedisException e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,412 @@
+package cn.vimor.toolkit.jedis.scan;
+
+import cn.vimor.toolkit.jedis.service.impl.JedisServiceImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 并行keyspace扫描任务
+ * <p>
+ * SCAN的游标是按位反转递增的桶序号，游标低k位在迭代过程中变化最慢，因此按低k位把游标空间切分为2^k个连续的分区，
+ * 各分区从{@code reverse(i)}开始扫描，游标低k位改变或回到0时结束，多个扫描线程各自借用连接并行扫描不同分区。
+ * 不会遗漏key，但会返回重复key：一次SCAN会连续遍历约COUNT个桶，分区的最后一页可能越过边界读到后续分区的key；
+ * 哈希表的桶数少于分区数时，多个分区会扫描同一批桶。最坏情况下(key很少、COUNT很大)每个分区都返回几乎整个keyspace，
+ * 重复量约为分区数倍。因此分区数由并行度推算时，按DBSIZE估算桶数，限制为每个分区至少有4倍COUNT个桶，
+ * 越界读到的key不超过总量的约1/4；显式指定分区数或从检查点继续时不做限制。handler需要能处理重复key。
+ * <p>
+ * 扫描到的每页key作为一个批次交给执行器处理，未处理完的批次达到上限时扫描线程等待，内存占用以此为界。
+ * 检查点只推进到已处理完成的批次，处理失败或取消后可从{@link #checkpoint()}继续。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class KeyspaceScanJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(KeyspaceScanJob.class);
+
+    /**
+     * 等待批次许可时检查任务是否已停止的间隔，单位毫秒
+     */
+    private static final long ACQUIRE_POLL_MILLIS = 100;
+
+    private static final AtomicInteger JOB_INDEX = new AtomicInteger();
+
+    private final JedisServiceImpl jedisService;
+
+    private final ScanOptions scanOptions;
+
+    private final Consumer<List<String>> handler;
+
+    private final Executor executor;
+
+    /**
+     * 运行扫描循环的执行器，为null时为每个扫描循环创建守护线程
+     */
+    private final Executor scanExecutor;
+
+    private final Partition[] partitions;
+
+    /**
+     * 分区游标低位的掩码
+     */
+    private final long partitionMask;
+
+    private final Semaphore pendingBatches;
+
+    private final AtomicInteger nextPartition = new AtomicInteger();
+
+    private final AtomicInteger scannedPartitions = new AtomicInteger();
+
+    private final AtomicInteger runningScanners = new AtomicInteger();
+
+    private final AtomicInteger inFlightBatches = new AtomicInteger();
+
+    private final LongAdder scannedKeys = new LongAdder();
+
+    private final LongAdder processedKeys = new LongAdder();
+
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    private final AtomicBoolean completed = new AtomicBoolean();
+
+    private final CompletableFuture<ScanProgress> completion = new CompletableFuture<>();
+
+    private final long startNanos = System.nanoTime();
+
+    private volatile long endNanos;
+
+    private volatile boolean cancelled;
+
+    public KeyspaceScanJob(JedisServiceImpl jedisService, ParallelScanOptions options,
+                           Consumer<List<String>> handler) {
+        this.jedisService = jedisService;
+        this.scanOptions = options.getScanOptions();
+        this.handler = handler;
+        this.executor = options.getExecutor();
+        this.scanExecutor = options.getScanExecutor();
+        int count = options.getPartitions();
+        if (options.isAutoPartitions()) {
+            count = Math.min(count, maxPartitions(dbSize(), scanOptions.getCount()));
+        }
+        int bits = Integer.numberOfTrailingZeros(count);
+        this.partitionMask = count - 1;
+        this.partitions = new Partition[count];
+        ScanCheckpoint checkpoint = options.getCheckpoint();
+        for (int i = 0; i < count; i++) {
+            long bucketBits = bits == 0 ? 0 : Integer.reverse(i) >>> (Integer.SIZE - bits);
+            String cursor = checkpoint == null ? String.valueOf(bucketBits) : checkpoint.getCursor(i);
+            partitions[i] = new Partition(bucketBits, cursor);
+            if (cursor == null) {
+                scannedPartitions.incrementAndGet();
+            }
+        }
+        this.pendingBatches = new Semaphore(options.getMaxPendingBatches());
+    }
+
+    /**
+     * 启动扫描线程
+     *
+     * @param parallelism 扫描线程数
+     * @return {@link KeyspaceScanJob}
+     */
+    public KeyspaceScanJob start(int parallelism) {
+        int scanners = Math.min(parallelism, partitions.length);
+        int jobIndex = JOB_INDEX.incrementAndGet();
+        runningScanners.set(scanners);
+        for (int i = 0; i < scanners; i++) {
+            if (scanExecutor == null) {
+                Thread thread = new Thread(this::scanLoop, "jedis-scan-" + jobIndex + "-" + (i + 1));
+                thread.setDaemon(true);
+                thread.start();
+                continue;
+            }
+            try {
+                scanExecutor.execute(this::scanLoop);
+            } catch (RejectedExecutionException e) {
+                //未启动的扫描循环不再计数，已启动的扫描循环看到失败后停止
+                fail(e);
+                runningScanners.addAndGet(i - scanners);
+                tryComplete();
+                break;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * 按桶数限制分区数，使每个分区至少有4倍COUNT个桶
+     *
+     * @param dbSize key数量
+     * @param count  COUNT
+     * @return 分区数上限，为2的幂
+     */
+    static int maxPartitions(long dbSize, int count) {
+        //哈希表桶数为不小于key数量的2的幂
+        long buckets = dbSize <= 1 ? 1 : Long.highestOneBit(dbSize - 1) << 1;
+        long limit = buckets / (4L * count);
+        return limit <= 1 ? 1 : (int) Math.min(1 << 30, Long.highestOneBit(limit));
+    }
+
+    private long dbSize() {
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return jedis.dbSize();
+        } finally {
+            jedisService.closeJedis(jedis);
+        }
+    }
+
+    /**
+     * 任务完成时完成，失败时以处理或扫描的异常完成，取消时以{@link CancellationException}完成
+     *
+     * @return {@link CompletableFuture}
+     */
+    public CompletableFuture<ScanProgress> completion() {
+        return completion;
+    }
+
+    /**
+     * 取消任务，已交给执行器的批次不再处理
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isDone() {
+        return completion.isDone();
+    }
+
+    /**
+     * 当前进度
+     *
+     * @return {@link ScanProgress}
+     */
+    public ScanProgress getProgress() {
+        long end = completed.get() ? endNanos : System.nanoTime();
+        return new ScanProgress(scannedKeys.sum(), processedKeys.sum(), scannedPartitions.get(), partitions.length,
+                Duration.ofNanos(end - startNanos));
+    }
+
+    /**
+     * 当前检查点
+     *
+     * @return {@link ScanCheckpoint}
+     */
+    public ScanCheckpoint checkpoint() {
+        String[] cursors = new String[partitions.length];
+        for (int i = 0; i < partitions.length; i++) {
+            cursors[i] = partitions[i].checkpointCursor();
+        }
+        return new ScanCheckpoint(cursors);
+    }
+
+    private boolean stopped() {
+        return cancelled || failure.get() != null;
+    }
+
+    private void scanLoop() {
+        try {
+            int index;
+            while (!stopped() && (index = nextPartition.getAndIncrement()) < partitions.length) {
+                scanPartition(partitions[index]);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(e);
+        } catch (Throwable e) {
+            fail(e);
+        } finally {
+            runningScanners.decrementAndGet();
+            tryComplete();
+        }
+    }
+
+    private void scanPartition(Partition partition) throws InterruptedException {
+        String cursor = partition.cursor();
+        if (cursor == null) {
+            return;
+        }
+        ScanParams params = scanOptions.toParams();
+        while (!stopped()) {
+            ScanResult<String> page = fetch(cursor, params);
+            String next = page.getCursor();
+            boolean last = ScanParams.SCAN_POINTER_START.equals(next)
+                    || (Long.parseUnsignedLong(next) & partitionMask) != partition.bucketBits;
+            List<String> keys = page.getResult();
+            scannedKeys.add(keys.size());
+            if (keys.isEmpty()) {
+                partition.advance(null, next, last);
+            } else {
+                if (!acquireBatch()) {
+                    return;
+                }
+                Batch batch = new Batch(cursor);
+                partition.advance(batch, next, last);
+                submit(partition, batch, keys);
+            }
+            if (last) {
+                scannedPartitions.incrementAndGet();
+                return;
+            }
+            cursor = next;
+        }
+    }
+
+    private ScanResult<String> fetch(String cursor, ScanParams params) {
+        String type = scanOptions.getType();
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return type == null ? jedis.scan(cursor, params) : jedis.scan(cursor, params, type);
+        } finally {
+            jedisService.closeJedis(jedis);
+        }
+    }
+
+    private boolean acquireBatch() throws InterruptedException {
+        while (!pendingBatches.tryAcquire(ACQUIRE_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (stopped()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void submit(Partition partition, Batch batch, List<String> keys) {
+        inFlightBatches.incrementAndGet();
+        try {
+            executor.execute(() -> process(partition, batch, keys));
+        } catch (RejectedExecutionException e) {
+            pendingBatches.release();
+            inFlightBatches.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void process(Partition partition, Batch batch, List<String> keys) {
+        try {
+            if (!stopped()) {
+                handler.accept(keys);
+                processedKeys.add(keys.size());
+                //处理失败或跳过的批次留在分区中，检查点不越过它
+                partition.complete(batch);
+            }
+        } catch (Throwable e) {
+            fail(e);
+        } finally {
+            pendingBatches.release();
+            inFlightBatches.decrementAndGet();
+            tryComplete();
+        }
+    }
+
+    private void fail(Throwable e) {
+        if (failure.compareAndSet(null, e)) {
+            logger.error("'scanKeyspace' fail, match: {}", scanOptions.getMatch());
+            logger.error(e.getMessage(), e);
+        }
+    }
+
+    private void tryComplete() {
+        if (runningScanners.get() > 0 || inFlightBatches.get() > 0 || !completed.compareAndSet(false, true)) {
+            return;
+        }
+        endNanos = System.nanoTime();
+        Throwable e = failure.get();
+        if (e != null) {
+            completion.completeExceptionally(e);
+        } else if (cancelled) {
+            completion.completeExceptionally(new CancellationException("scan cancelled"));
+        } else {
+            completion.complete(getProgress());
+        }
+    }
+
+    /**
+     * 游标空间的一个分区
+     */
+    private static final class Partition {
+
+        /**
+         * 分区内游标的低位
+         */
+        private final long bucketBits;
+
+        /**
+         * 已交给执行器但尚未处理完成的批次，按扫描顺序排列
+         */
+        private final ArrayDeque<Batch> pending = new ArrayDeque<>();
+
+        /**
+         * 下一页的游标，分区扫描完成时为null
+         */
+        private String cursor;
+
+        private Partition(long bucketBits, String cursor) {
+            this.bucketBits = bucketBits;
+            this.cursor = cursor;
+        }
+
+        private synchronized String cursor() {
+            return cursor;
+        }
+
+        private synchronized void advance(Batch batch, String next, boolean last) {
+            if (batch != null) {
+                pending.addLast(batch);
+            }
+            cursor = last ? null : next;
+        }
+
+        private synchronized void complete(Batch batch) {
+            batch.done = true;
+            while (!pending.isEmpty() && pending.peekFirst().done) {
+                pending.pollFirst();
+            }
+        }
+
+        private synchronized String checkpointCursor() {
+            Batch head = pending.peekFirst();
+            if (head != null) {
+                return head.cursor;
+            }
+            return cursor == null ? ScanCheckpoint.DONE : cursor;
+        }
+    }
+
+    /**
+     * 一页key组成的批次
+     */
+    private static final class Batch {
+
+        /**
+         * 读取该页时使用的游标
+         */
+        private final String cursor;
+
+        private boolean done;
+
+        private Batch(String cursor) {
+            this.cursor = cursor;
+        }
+    }
+}
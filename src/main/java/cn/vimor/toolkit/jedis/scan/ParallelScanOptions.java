@@ -0,0 +1,153 @@
+package cn.vimor.toolkit.jedis.scan;
+
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 并行keyspace扫描选项
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public final class ParallelScanOptions {
+
+    private final ScanOptions scanOptions;
+
+    /**
+     * 同时扫描的线程(连接)数
+     */
+    private int parallelism = 4;
+
+    /**
+     * 游标空间的分区数，必须为2的幂，为0时取不小于4倍并行度的2的幂，并按key数量限制(见{@link KeyspaceScanJob})
+     */
+    private int partitions;
+
+    /**
+     * 处理key批次的执行器
+     */
+    private Executor executor = ForkJoinPool.commonPool();
+
+    /**
+     * 运行扫描循环的执行器，每个扫描循环占用一个线程直到没有剩余分区，为null时为每个扫描循环创建守护线程
+     */
+    private Executor scanExecutor;
+
+    /**
+     * 已扫描但尚未处理完的批次上限，达到上限时扫描线程等待
+     */
+    private int maxPendingBatches;
+
+    /**
+     * 从检查点继续扫描，为null时从头开始
+     */
+    private ScanCheckpoint checkpoint;
+
+    private ParallelScanOptions(ScanOptions scanOptions) {
+        this.scanOptions = scanOptions;
+    }
+
+    /**
+     * 以扫描选项创建，COUNT同时是每个批次key数量的提示
+     *
+     * @param scanOptions 扫描选项
+     * @return {@link ParallelScanOptions}
+     */
+    public static ParallelScanOptions of(ScanOptions scanOptions) {
+        AbstractAssertUtils.isTrue(scanOptions != null, "'scanOptions' must not be null");
+        return new ParallelScanOptions(scanOptions);
+    }
+
+    public ParallelScanOptions parallelism(int parallelism) {
+        AbstractAssertUtils.isTrue(parallelism > 0, "'parallelism' must be greater than 0");
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    public ParallelScanOptions partitions(int partitions) {
+        AbstractAssertUtils.isTrue(partitions > 0 && Integer.bitCount(partitions) == 1,
+                "'partitions' must be a power of 2");
+        this.partitions = partitions;
+        return this;
+    }
+
+    public ParallelScanOptions executor(Executor executor) {
+        AbstractAssertUtils.isTrue(executor != null, "'executor' must not be null");
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * 运行扫描循环的执行器，需要能同时运行parallelism个长时间阻塞的任务
+     *
+     * @param scanExecutor 执行器
+     * @return {@link ParallelScanOptions}
+     */
+    public ParallelScanOptions scanExecutor(Executor scanExecutor) {
+        AbstractAssertUtils.isTrue(scanExecutor != null, "'scanExecutor' must not be null");
+        this.scanExecutor = scanExecutor;
+        return this;
+    }
+
+    public ParallelScanOptions maxPendingBatches(int maxPendingBatches) {
+        AbstractAssertUtils.isTrue(maxPendingBatches > 0, "'maxPendingBatches' must be greater than 0");
+        this.maxPendingBatches = maxPendingBatches;
+        return this;
+    }
+
+    /**
+     * 从检查点继续扫描，分区数以检查点为准
+     *
+     * @param checkpoint 检查点
+     * @return {@link ParallelScanOptions}
+     */
+    public ParallelScanOptions resumeFrom(ScanCheckpoint checkpoint) {
+        this.checkpoint = checkpoint;
+        return this;
+    }
+
+    public ScanOptions getScanOptions() {
+        return scanOptions;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public int getPartitions() {
+        if (checkpoint != null) {
+            return checkpoint.getPartitions();
+        }
+        if (partitions > 0) {
+            return partitions;
+        }
+        return Integer.highestOneBit(parallelism * 4 - 1) << 1;
+    }
+
+    /**
+     * 分区数是否由并行度推算，推算的分区数可以按key数量减少
+     *
+     * @return boolean
+     */
+    public boolean isAutoPartitions() {
+        return checkpoint == null && partitions == 0;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public Executor getScanExecutor() {
+        return scanExecutor;
+    }
+
+    public int getMaxPendingBatches() {
+        return maxPendingBatches > 0 ? maxPendingBatches : parallelism * 2;
+    }
+
+    public ScanCheckpoint getCheckpoint() {
+        return checkpoint;
+    }
+}
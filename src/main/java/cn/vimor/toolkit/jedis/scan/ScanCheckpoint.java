@@ -0,0 +1,101 @@
+package cn.vimor.toolkit.jedis.scan;
+
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * 并行扫描的检查点，记录每个分区可安全继续的游标
+ * <p>
+ * 游标之前扫描到的key都已处理完成，从检查点继续时不会遗漏，但可能重复处理少量key。
+ * 可通过{@link #toString()}保存，{@link #parse(String)}恢复。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public final class ScanCheckpoint implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 已完成分区的游标
+     */
+    static final String DONE = "-";
+
+    private static final String SEPARATOR = ",";
+
+    private final String[] cursors;
+
+    ScanCheckpoint(String[] cursors) {
+        this.cursors = cursors;
+    }
+
+    /**
+     * 解析{@link #toString()}的结果
+     *
+     * @param value 检查点字符串
+     * @return {@link ScanCheckpoint}
+     */
+    public static ScanCheckpoint parse(String value) {
+        AbstractAssertUtils.notEmpty(value, "'value' must not be null and empty");
+        String[] cursors = value.split(SEPARATOR);
+        AbstractAssertUtils.isTrue(Integer.bitCount(cursors.length) == 1, "partition count must be a power of 2");
+        for (String cursor : cursors) {
+            if (!DONE.equals(cursor)) {
+                //校验游标格式
+                Long.parseUnsignedLong(cursor);
+            }
+        }
+        return new ScanCheckpoint(cursors);
+    }
+
+    public int getPartitions() {
+        return cursors.length;
+    }
+
+    /**
+     * 分区的游标
+     *
+     * @param partition 分区序号
+     * @return 游标，分区已完成时返回null
+     */
+    public String getCursor(int partition) {
+        return DONE.equals(cursors[partition]) ? null : cursors[partition];
+    }
+
+    /**
+     * 是否全部分区都已完成
+     *
+     * @return boolean
+     */
+    public boolean isComplete() {
+        for (String cursor : cursors) {
+            if (!DONE.equals(cursor)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return Arrays.equals(cursors, ((ScanCheckpoint) o).cursors);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(cursors);
+    }
+
+    @Override
+    public String toString() {
+        return String.join(SEPARATOR, cursors);
+    }
+}
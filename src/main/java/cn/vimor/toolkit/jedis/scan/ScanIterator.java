@@ -0,0 +1,130 @@
+package cn.vimor.toolkit.jedis.scan;
+
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 游标迭代器，按页惰性读取，内存中只保留当前一页
+ * <p>
+ * 每读取一页借用一次连接并立即归还，迭代期间不占用连接。SCAN系列命令的语义保证迭代开始到结束期间一直存在的元素至少返回一次，
+ * 期间新增或删除的元素可能返回也可能不返回，同一元素可能返回多次。读取失败时抛出{@link redis.clients.jedis.exceptions.JedisException}。
+ *
+ * @param <T> 元素类型
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class ScanIterator<T> implements Iterator<T> {
+
+    private final PageFetcher<T> fetcher;
+
+    private Iterator<T> page = Collections.emptyIterator();
+
+    /**
+     * 是否已迭代完成，不会触发读取
+     *
+     * @return 已读完最后一页且该页的元素都已返回时为true
+     */
+    public boolean isFinished() {
+        return finished && !page.hasNext();
+    }
+
+    /**
+     * 下一页的游标
+     */
+    private String cursor;
+
+    private boolean finished;
+
+    public ScanIterator(PageFetcher<T> fetcher) {
+        this(fetcher, ScanParams.SCAN_POINTER_START);
+    }
+
+    /**
+     * 从指定游标继续迭代
+     *
+     * @param fetcher 分页读取
+     * @param cursor  游标，通常来自之前的{@link #getCursor()}
+     */
+    public ScanIterator(PageFetcher<T> fetcher, String cursor) {
+        this.fetcher = fetcher;
+        this.cursor = cursor;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (needsFetch()) {
+            fetch();
+        }
+        return page.hasNext();
+    }
+
+    /**
+     * 当前页已返回完且迭代未结束，下一次{@link #hasNext()}会读取新的一页
+     *
+     * @return boolean
+     */
+    public boolean needsFetch() {
+        return !page.hasNext() && !finished;
+    }
+
+    /**
+     * 读取一页，页可能为空(例如MATCH过滤掉了全部元素)
+     */
+    public void fetch() {
+        ScanResult<T> result = fetcher.fetch(cursor);
+        cursor = result.getCursor();
+        finished = result.isCompleteIteration();
+        page = result.getResult().iterator();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.next();
+    }
+
+    /**
+     * 下一页的游标，可用于之后从此处继续迭代；迭代结束时为"0"
+     *
+     * @return {@link String}
+     */
+    public String getCursor() {
+        return cursor;
+    }
+
+    /**
+     * 转换为顺序流，流的消费同样按页惰性读取
+     *
+     * @return {@link Stream}
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.NONNULL), false);
+    }
+
+    /**
+     * 分页读取
+     *
+     * @param <T> 元素类型
+     */
+    @FunctionalInterface
+    public interface PageFetcher<T> {
+
+        /**
+         * 从游标处读取一页
+         *
+         * @param cursor 游标
+         * @return {@link ScanResult}，游标为"0"时表示迭代结束
+         */
+        ScanResult<T> fetch(String cursor);
+    }
+}
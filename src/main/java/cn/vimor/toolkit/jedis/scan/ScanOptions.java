@@ -0,0 +1,97 @@
+package cn.vimor.toolkit.jedis.scan;
+
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+import redis.clients.jedis.params.ScanParams;
+
+/**
+ * 扫描选项
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public final class ScanOptions {
+
+    /**
+     * 默认每次扫描的数量提示
+     */
+    public static final int DEFAULT_COUNT = 1000;
+
+    /**
+     * 匹配模式，为null时匹配全部
+     */
+    private String match;
+
+    /**
+     * 每次扫描的数量提示(COUNT)，也是列表分页读取的页大小
+     */
+    private int count = DEFAULT_COUNT;
+
+    /**
+     * key类型，仅用于keyspace扫描(SCAN ... TYPE)
+     */
+    private String type;
+
+    private ScanOptions() {
+    }
+
+    /**
+     * 默认选项：匹配全部，COUNT为{@link #DEFAULT_COUNT}
+     *
+     * @return {@link ScanOptions}
+     */
+    public static ScanOptions defaults() {
+        return new ScanOptions();
+    }
+
+    /**
+     * 按匹配模式创建选项
+     *
+     * @param pattern 匹配模式，如{@code user:*}
+     * @return {@link ScanOptions}
+     */
+    public static ScanOptions match(String pattern) {
+        return new ScanOptions().pattern(pattern);
+    }
+
+    public ScanOptions pattern(String pattern) {
+        this.match = pattern;
+        return this;
+    }
+
+    public ScanOptions count(int count) {
+        AbstractAssertUtils.isTrue(count > 0, "'count' must be greater than 0");
+        this.count = count;
+        return this;
+    }
+
+    public ScanOptions type(String type) {
+        this.type = type;
+        return this;
+    }
+
+    public String getMatch() {
+        return match;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    /**
+     * 转换为jedis的扫描参数
+     *
+     * @return {@link ScanParams}
+     */
+    public ScanParams toParams() {
+        ScanParams params = new ScanParams();
+        if (match != null) {
+            params.match(match);
+        }
+        params.count(count);
+        return params;
+    }
+}
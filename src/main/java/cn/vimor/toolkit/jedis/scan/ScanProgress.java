@@ -0,0 +1,78 @@
+package cn.vimor.toolkit.jedis.scan;
+
+import java.time.Duration;
+
+/**
+ * 并行扫描的进度快照
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public final class ScanProgress {
+
+    private final long scannedKeys;
+
+    private final long processedKeys;
+
+    private final int scannedPartitions;
+
+    private final int totalPartitions;
+
+    private final Duration elapsed;
+
+    ScanProgress(long scannedKeys, long processedKeys, int scannedPartitions, int totalPartitions,
+                 Duration elapsed) {
+        this.scannedKeys = scannedKeys;
+        this.processedKeys = processedKeys;
+        this.scannedPartitions = scannedPartitions;
+        this.totalPartitions = totalPartitions;
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * 已扫描到的key数量，可能包含少量重复
+     *
+     * @return long
+     */
+    public long getScannedKeys() {
+        return scannedKeys;
+    }
+
+    /**
+     * 已处理完成的key数量
+     *
+     * @return long
+     */
+    public long getProcessedKeys() {
+        return processedKeys;
+    }
+
+    public int getScannedPartitions() {
+        return scannedPartitions;
+    }
+
+    public int getTotalPartitions() {
+        return totalPartitions;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * 每秒处理的key数量
+     *
+     * @return double
+     */
+    public double getKeysPerSecond() {
+        long millis = elapsed.toMillis();
+        return millis == 0 ? 0 : processedKeys * 1000.0 / millis;
+    }
+
+    @Override
+    public String toString() {
+        return "ScanProgress{scannedKeys=" + scannedKeys + ", processedKeys=" + processedKeys
+                + ", partitions=" + scannedPartitions + "/" + totalPartitions + ", elapsed=" + elapsed
+                + ", keysPerSecond=" + String.format("%.1f", getKeysPerSecond()) + '}';
+    }
+}
@@ -0,0 +1,197 @@
+package cn.vimor.toolkit.jedis.scan;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 游标迭代的Reactive Streams发布者
+ * <p>
+ * 每次订阅从头开始一次新的迭代。只有订阅者有未满足的请求且当前页已发完时才在执行器中读取下一页，
+ * 内存中只保留一页，不为订阅者占用专门的线程：每次执行最多读取一页，需要再读时重新提交到执行器，
+ * 请求无上限时也不会在整个迭代期间占用同一个执行器线程。读取失败时以异常结束。
+ *
+ * @param <T> 元素类型
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class ScanPublisher<T> implements Publisher<T> {
+
+    private final Supplier<ScanIterator<T>> iteratorSupplier;
+
+    private final Executor executor;
+
+    /**
+     * @param iteratorSupplier 每次订阅时创建迭代器
+     * @param executor         读取页与发出元素的执行器
+     */
+    public ScanPublisher(Supplier<ScanIterator<T>> iteratorSupplier, Executor executor) {
+        this.iteratorSupplier = iteratorSupplier;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("'subscriber' must not be null");
+        }
+        ScanSubscription<T> subscription = new ScanSubscription<>(subscriber, iteratorSupplier.get(), executor);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * 订阅，所有信号在排空循环中串行发出
+     *
+     * @param <T> 元素类型
+     */
+    private static final class ScanSubscription<T> implements Subscription, Runnable {
+
+        private final Subscriber<? super T> subscriber;
+
+        private final ScanIterator<T> iterator;
+
+        private final Executor executor;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        /**
+         * 排空循环的待处理次数，只有从0变为1的一方负责调度
+         */
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        /**
+         * 非法请求的异常，在排空循环中发出
+         */
+        private volatile Throwable invalidRequest;
+
+        private ScanSubscription(Subscriber<? super T> subscriber, ScanIterator<T> iterator, Executor executor) {
+            this.subscriber = subscriber;
+            this.iterator = iterator;
+            this.executor = executor;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("request must be positive, but was " + n);
+            } else {
+                long current;
+                long next;
+                do {
+                    current = requested.get();
+                    if (current == Long.MAX_VALUE) {
+                        break;
+                    }
+                    next = current + n < 0 ? Long.MAX_VALUE : current + n;
+                } while (!requested.compareAndSet(current, next));
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            submit();
+        }
+
+        private void submit() {
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                cancelled = true;
+                subscriber.onError(e);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            boolean fetched = false;
+            while (true) {
+                long demand = requested.get();
+                long emitted = 0;
+                while (emitted != demand) {
+                    if (cancelled) {
+                        return;
+                    }
+                    if (invalidRequest != null) {
+                        cancelled = true;
+                        subscriber.onError(invalidRequest);
+                        return;
+                    }
+                    if (iterator.needsFetch()) {
+                        if (fetched) {
+                            //本次已读过一页，交还线程后重新提交，wip保持非0，期间不会有其他排空循环
+                            if (emitted != 0 && demand != Long.MAX_VALUE) {
+                                requested.addAndGet(-emitted);
+                            }
+                            submit();
+                            return;
+                        }
+                        try {
+                            iterator.fetch();
+                        } catch (Throwable e) {
+                            cancelled = true;
+                            subscriber.onError(e);
+                            return;
+                        }
+                        fetched = true;
+                        continue;
+                    }
+                    boolean hasNext;
+                    T value;
+                    try {
+                        hasNext = iterator.hasNext();
+                        value = hasNext ? iterator.next() : null;
+                    } catch (Throwable e) {
+                        cancelled = true;
+                        subscriber.onError(e);
+                        return;
+                    }
+                    if (!hasNext) {
+                        cancelled = true;
+                        subscriber.onComplete();
+                        return;
+                    }
+                    subscriber.onNext(value);
+                    emitted++;
+                }
+                if (cancelled) {
+                    return;
+                }
+                if (invalidRequest != null) {
+                    cancelled = true;
+                    subscriber.onError(invalidRequest);
+                    return;
+                }
+                //请求恰好满足时，已读完的迭代不必等下一次请求才结束
+                if (iterator.isFinished()) {
+                    cancelled = true;
+                    subscriber.onComplete();
+                    return;
+                }
+                if (emitted != 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                missed = wip.addAndGet(-missed);
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+    }
+}
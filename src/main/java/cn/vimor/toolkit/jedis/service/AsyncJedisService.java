@@ -0,0 +1,107 @@
+package cn.vimor.toolkit.jedis.service;
+
+import cn.vimor.toolkit.jedis.service.operations.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jedis服务(异步)
+ * <p>
+ * 通过{@link JedisService#async()}获取，每个调用在有界的I/O执行器中借用连接执行与同步方法相同的命令，
+ * 多个调用同时进行而不是依次往返；future在I/O线程上完成，后续阶段中不应执行耗时的阻塞操作。
+ * 同步方法遇到Redis错误时返回null/0/false，异步调用则以原异常({@link redis.clients.jedis.exceptions.JedisException})完成；
+ * 执行器队列已满时以{@link java.util.concurrent.RejectedExecutionException}完成。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public interface AsyncJedisService {
+
+    /**
+     * String
+     *
+     * @return {@link AsyncValueOperations}
+     */
+    AsyncValueOperations opsForValue();
+
+    /**
+     * hashmap
+     *
+     * @return {@link AsyncHashOperations}
+     */
+    AsyncHashOperations opsForHash();
+
+    /**
+     * list
+     *
+     * @return {@link AsyncListOperations}
+     */
+    AsyncListOperations opsForList();
+
+    /**
+     * set
+     *
+     * @return {@link AsyncSetOperations}
+     */
+    AsyncSetOperations opsForSet();
+
+    /**
+     * zset
+     *
+     * @return {@link AsyncZsetOperations}
+     */
+    AsyncZsetOperations opsForZset();
+
+    /**
+     * 为给定key设置生存时间，见{@link BaseJedisService#setExpire(String, Duration)}
+     *
+     * @param key      键
+     * @param duration 持续时间
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Long> setExpire(String key, Duration duration);
+
+    /**
+     * 为给定key设置生存时间，见{@link BaseJedisService#setExpire(String, int, TimeUnit)}
+     *
+     * @param key      key
+     * @param time     时间
+     * @param timeUnit 时间单位
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Long> setExpire(String key, int time, TimeUnit timeUnit);
+
+    /**
+     * 返回给定key的剩余生存时间，见{@link BaseJedisService#getExpire(String)}
+     *
+     * @param key key
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Long> getExpire(String key);
+
+    /**
+     * 删除给定的key，见{@link BaseJedisService#del(String)}
+     *
+     * @param key 键
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Long> del(String key);
+
+    /**
+     * 是否存在Key
+     *
+     * @param key key
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Boolean> existsKey(String key);
+
+    /**
+     * 异步操作使用的I/O执行器
+     *
+     * @return {@link Executor}
+     */
+    Executor executor();
+}
@@ -0,0 +1,95 @@
+package cn.vimor.toolkit.jedis.service;
+
+import cn.vimor.toolkit.jedis.service.operations.BaseHashOperations;
+import cn.vimor.toolkit.jedis.service.operations.BaseListOperations;
+import cn.vimor.toolkit.jedis.service.operations.BaseSetOperations;
+import cn.vimor.toolkit.jedis.service.operations.BaseValueOperations;
+import cn.vimor.toolkit.jedis.service.operations.BaseZsetOperations;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 批量会话
+ * <p>
+ * 通过{@link JedisService#batch()}获取，占用一个连接，会话内各操作组与key命令的调用只在本地记录，
+ * 直到{@link #sync()}时才通过pipeline一次性发出；{@link #close()}不会发出命令，关闭时尚未同步的调用被丢弃，
+ * 因此会话体中途抛出异常时，只构造了一半的批量不会发送到redis。会话内调用的返回值为占位值(null/0/false)，
+ * 真实结果通过{@link #sync()}的返回值或{@link #lastResult()}获取。会话只提供可以记录到pipeline中的命令，不是线程安全的。
+ *
+ * <pre>
+ * try (JedisBatch batch = jedisService.batch()) {
+ *     batch.opsForHash().hSet("user:1", "name", "Jani");
+ *     batch.opsForZset().zAdd("rank", 100, "user:1");
+ *     CompletableFuture&lt;Long&gt; added = batch.lastResult();
+ *     batch.setExpire("user:1", Duration.ofHours(1));
+ *     List&lt;Object&gt; results = batch.sync();
+ * }
+ * </pre>
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public interface JedisBatch extends BaseJedisService {
+
+    /**
+     * String
+     *
+     * @return {@link BaseValueOperations}
+     */
+    BaseValueOperations opsForValue();
+
+    /**
+     * hashmap
+     *
+     * @return {@link BaseHashOperations}
+     */
+    BaseHashOperations opsForHash();
+
+    /**
+     * list
+     *
+     * @return {@link BaseListOperations}
+     */
+    BaseListOperations opsForList();
+
+    /**
+     * set
+     *
+     * @return {@link BaseSetOperations}
+     */
+    BaseSetOperations opsForSet();
+
+    /**
+     * zset
+     *
+     * @return {@link BaseZsetOperations}
+     */
+    BaseZsetOperations opsForZset();
+
+    /**
+     * 发出已记录的命令并等待全部回复
+     *
+     * @return 自上次同步以来每次调用的结果，顺序与调用顺序一致；命令执行失败时对应位置为异常对象
+     */
+    List<Object> sync();
+
+    /**
+     * 最近一次调用的结果，在同步后完成
+     *
+     * @param <T> 结果类型
+     * @return {@link CompletableFuture}
+     */
+    <T> CompletableFuture<T> lastResult();
+
+    /**
+     * 丢弃自上次同步以来记录的调用，命令不会发出，对应的{@link #lastResult()}被取消
+     */
+    void discard();
+
+    /**
+     * 丢弃尚未同步的调用并归还连接
+     */
+    @Override
+    void close();
+}
@@ -1,8 +1,15 @@
 package cn.vimor.toolkit.jedis.service;
 
 
+import cn.vimor.toolkit.jedis.scan.KeyspaceScanJob;
+import cn.vimor.toolkit.jedis.scan.ParallelScanOptions;
+import cn.vimor.toolkit.jedis.scan.ScanIterator;
+import cn.vimor.toolkit.jedis.scan.ScanOptions;
 import cn.vimor.toolkit.jedis.service.operations.*;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 /**
  * Jedis服务
  *
@@ -26,6 +33,26 @@ public interface JedisService extends BaseJedisService {
      */
     HashOperations opsForHash();
 
+    /**
+     * String(类型化)，值经{@link cn.vimor.toolkit.jedis.codec.ValueSerializer}编码
+     *
+     * @param type 值类型
+     * @param <T>  值类型
+     * @return {@link TypedValueOperations}
+     * @throws IllegalArgumentException 没有支持该类型的编解码器时
+     */
+    <T> TypedValueOperations<T> opsForValue(Class<T> type);
+
+    /**
+     * hashmap(类型化)，值经{@link cn.vimor.toolkit.jedis.codec.ValueSerializer}编码
+     *
+     * @param type 值类型
+     * @param <T>  值类型
+     * @return {@link TypedHashOperations}
+     * @throws IllegalArgumentException 没有支持该类型的编解码器时
+     */
+    <T> TypedHashOperations<T> opsForHash(Class<T> type);
+
     /**
      * list
      *
@@ -46,4 +73,77 @@ public interface JedisService extends BaseJedisService {
      * @return {@link ZsetOperations}
      */
     ZsetOperations opsForZset();
+
+    /**
+     * String(二进制)
+     *
+     * @return {@link BinaryValueOperations}
+     */
+    BinaryValueOperations opsForBinaryValue();
+
+    /**
+     * hashmap(二进制)
+     *
+     * @return {@link BinaryHashOperations}
+     */
+    BinaryHashOperations opsForBinaryHash();
+
+    /**
+     * list(二进制)
+     *
+     * @return {@link BinaryListOperations}
+     */
+    BinaryListOperations opsForBinaryList();
+
+    /**
+     * set(二进制)
+     *
+     * @return {@link BinarySetOperations}
+     */
+    BinarySetOperations opsForBinarySet();
+
+    /**
+     * zset(二进制)
+     *
+     * @return {@link BinaryZsetOperations}
+     */
+    BinaryZsetOperations opsForBinaryZset();
+
+    /**
+     * 开启批量会话，会话内各操作组的调用记录到同一个pipeline中一次性发出
+     *
+     * @return {@link JedisBatch}
+     */
+    JedisBatch batch();
+
+    /**
+     * 异步服务，各操作组的方法返回{@link java.util.concurrent.CompletableFuture}，在有界的I/O执行器中完成
+     *
+     * @return {@link AsyncJedisService}
+     */
+    AsyncJedisService async();
+
+    /**
+     * Reactive Streams服务，按订阅者的请求逐页读取范围与扫描结果，需要reactive-streams依赖
+     *
+     * @return {@link ReactiveJedisService}
+     */
+    ReactiveJedisService reactive();
+
+    /**
+     * 按SCAN惰性迭代keyspace中匹配的key，内存中只保留一页
+     *
+     * @param options 扫描选项
+     * @return {@link ScanIterator}
+     */
+    ScanIterator<String> scan(ScanOptions options);
+
+    /**
+     * 并行扫描keyspace，把游标空间切分为多个分区由多个连接同时扫描，每页key作为一个批次交给执行器处理
+     *
+     * @param options 并行扫描选项
+     * @param handler 批次处理，在执行器中并发调用
+     * @return {@link KeyspaceScanJob}，可查询进度、取得检查点或取消
+     */
+    KeyspaceScanJob scanKeyspace(ParallelScanOptions options, Consumer<List<String>> handler);
 }
@@ -0,0 +1,76 @@
+package cn.vimor.toolkit.jedis.service;
+
+import cn.vimor.toolkit.jedis.scan.ScanOptions;
+import org.reactivestreams.Publisher;
+import redis.clients.jedis.resps.Tuple;
+
+import java.util.Map;
+
+/**
+ * Jedis服务(Reactive Streams)，需要reactive-streams依赖
+ * <p>
+ * 通过{@link JedisService#reactive()}获取，返回的发布者按订阅者的请求逐页读取，内存中只保留一页，
+ * 读取在{@link AsyncJedisService#executor()}中进行，每页借用一次连接并立即归还。每次订阅从头开始一次新的读取。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public interface ReactiveJedisService {
+
+    /**
+     * 按SCAN发布keyspace中匹配的key
+     *
+     * @param options 扫描选项
+     * @return {@link Publisher}
+     */
+    Publisher<String> scan(ScanOptions options);
+
+    /**
+     * 按HSCAN发布散列的filed
+     *
+     * @param key     key
+     * @param options 扫描选项
+     * @return {@link Publisher}
+     */
+    Publisher<Map.Entry<String, String>> hScan(String key, ScanOptions options);
+
+    /**
+     * 按SSCAN发布集合成员
+     *
+     * @param key     key
+     * @param options 扫描选项
+     * @return {@link Publisher}
+     */
+    Publisher<String> sScan(String key, ScanOptions options);
+
+    /**
+     * 按ZSCAN发布有序集合的成员及分数
+     *
+     * @param key     key
+     * @param options 扫描选项
+     * @return {@link Publisher}
+     */
+    Publisher<Tuple> zScan(String key, ScanOptions options);
+
+    /**
+     * 按排名分页发布有序集合中指定区间的成员及分数，按分数从小到大
+     *
+     * @param key      key
+     * @param start    开始排名，从0开始
+     * @param end      结束排名(包含)，-1表示到最后
+     * @param pageSize 每页数量
+     * @return {@link Publisher}
+     */
+    Publisher<Tuple> zRangeWithScores(String key, long start, long end, int pageSize);
+
+    /**
+     * 按下标分页发布列表中指定区间的元素
+     *
+     * @param key      key
+     * @param start    开始下标，从0开始
+     * @param end      结束下标(包含)，-1表示到最后
+     * @param pageSize 每页数量
+     * @return {@link Publisher}
+     */
+    Publisher<String> lRange(String key, long start, long end, int pageSize);
+}
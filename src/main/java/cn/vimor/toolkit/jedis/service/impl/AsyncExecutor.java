@@ -0,0 +1,87 @@
+package cn.vimor.toolkit.jedis.service.impl;
+
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+
+import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 异步操作的I/O执行器
+ * <p>
+ * 线程数与等待队列都有上限，线程数应不大于连接池大小，否则多出的线程只会等待借用连接。
+ * 队列已满时返回以{@link RejectedExecutionException}完成的future，而不是阻塞调用线程。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class AsyncExecutor implements Closeable {
+
+    private final ThreadPoolExecutor executor;
+
+    public AsyncExecutor(int threads, int queueCapacity) {
+        AbstractAssertUtils.isTrue(threads > 0, "'threads' must be greater than 0");
+        AbstractAssertUtils.isTrue(queueCapacity > 0, "'queueCapacity' must be greater than 0");
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "jedis-async-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 在执行器中调用supplier
+     *
+     * @param supplier 同步操作
+     * @param <T>      结果类型
+     * @return {@link CompletableFuture}
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> supplier) {
+        try {
+            return CompletableFuture.supplyAsync(supplier, executor);
+        } catch (RejectedExecutionException e) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+    }
+
+    /**
+     * 在执行器中调用runnable
+     *
+     * @param runnable 同步操作
+     * @return {@link CompletableFuture}
+     */
+    public CompletableFuture<Void> run(Runnable runnable) {
+        try {
+            return CompletableFuture.runAsync(runnable, executor);
+        } catch (RejectedExecutionException e) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+    }
+
+    /**
+     * 底层执行器，可用于在I/O线程上编排后续阶段
+     *
+     * @return {@link Executor}
+     */
+    public Executor executor() {
+        return executor;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
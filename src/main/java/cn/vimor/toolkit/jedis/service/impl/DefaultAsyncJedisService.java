@@ -0,0 +1,94 @@
+package cn.vimor.toolkit.jedis.service.impl;
+
+import cn.vimor.toolkit.jedis.service.AsyncJedisService;
+import cn.vimor.toolkit.jedis.service.operations.*;
+import cn.vimor.toolkit.jedis.service.operations.abstracts.AbstractAsyncOperation;
+import cn.vimor.toolkit.jedis.service.operations.impl.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 默认Jedis服务(异步)，在I/O执行器中直接执行命令，命令失败时以异常完成
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class DefaultAsyncJedisService extends AbstractAsyncOperation implements AsyncJedisService {
+
+    private final AsyncValueOperations valueOps;
+
+    private final AsyncHashOperations hashOps;
+
+    private final AsyncListOperations listOps;
+
+    private final AsyncSetOperations setOps;
+
+    private final AsyncZsetOperations zSetOps;
+
+    public DefaultAsyncJedisService(JedisServiceImpl jedisService, AsyncExecutor executor) {
+        super(jedisService, executor);
+        this.valueOps = new DefaultAsyncValueOperations(jedisService, executor);
+        this.hashOps = new DefaultAsyncHashOperations(jedisService, executor);
+        this.listOps = new DefaultAsyncListOperations(jedisService, executor);
+        this.setOps = new DefaultAsyncSetOperations(jedisService, executor);
+        this.zSetOps = new DefaultAsyncZsetOperations(jedisService, executor);
+    }
+
+    @Override
+    public AsyncValueOperations opsForValue() {
+        return valueOps;
+    }
+
+    @Override
+    public AsyncHashOperations opsForHash() {
+        return hashOps;
+    }
+
+    @Override
+    public AsyncListOperations opsForList() {
+        return listOps;
+    }
+
+    @Override
+    public AsyncSetOperations opsForSet() {
+        return setOps;
+    }
+
+    @Override
+    public AsyncZsetOperations opsForZset() {
+        return zSetOps;
+    }
+
+    @Override
+    public CompletableFuture<Long> setExpire(String key, Duration duration) {
+        return read(key, jedis -> jedis.expire(key, duration.getSeconds()));
+    }
+
+    @Override
+    public CompletableFuture<Long> setExpire(String key, int time, TimeUnit timeUnit) {
+        return read(key, jedis -> jedis.expire(key, timeUnit.toSeconds(time)));
+    }
+
+    @Override
+    public CompletableFuture<Long> getExpire(String key) {
+        return read(key, jedis -> jedis.ttl(key));
+    }
+
+    @Override
+    public CompletableFuture<Long> del(String key) {
+        return write(key, jedis -> jedis.del(key));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> existsKey(String key) {
+        return read(key, jedis -> jedis.exists(key));
+    }
+
+    @Override
+    public Executor executor() {
+        return executor.executor();
+    }
+}
@@ -0,0 +1,317 @@
+package cn.vimor.toolkit.jedis.service.impl;
+
+import cn.vimor.toolkit.jedis.service.JedisBatch;
+import cn.vimor.toolkit.jedis.service.operations.*;
+import cn.vimor.toolkit.jedis.service.operations.pipeline.*;
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.CommandObject;
+import redis.clients.jedis.CommandObjects;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 批量会话实现
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class DefaultJedisBatch implements JedisBatch {
+
+    private static final Logger logger = LoggerFactory.getLogger(DefaultJedisBatch.class);
+    /**
+     * 消息
+     */
+    private final String message = "'key' must not be null and empty";
+
+    private final JedisServiceImpl jedisService;
+
+    private final Jedis jedis;
+
+    private final Pipeline pipeline;
+
+    private final CommandObjects commandObjects = new CommandObjects();
+
+    /**
+     * 尚未发出的命令，同步时才追加到pipeline中
+     */
+    private final List<PendingCommand<?>> pending = new ArrayList<>();
+
+    /**
+     * 自上次同步以来记录的调用
+     */
+    private final List<Deferred<?, ?>> deferred = new ArrayList<>();
+
+    private final BaseValueOperations valueOps = new PipelinedValueOperations(this);
+    private final BaseListOperations listOps = new PipelinedListOperations(this);
+    private final BaseHashOperations hashOps = new PipelinedHashOperations(this);
+    private final BaseSetOperations setOps = new PipelinedSetOperations(this);
+    private final BaseZsetOperations zSetOps = new PipelinedZSetOperations(this);
+
+    private boolean closed;
+
+    public DefaultJedisBatch(JedisServiceImpl jedisService) {
+        this.jedisService = jedisService;
+        this.jedis = jedisService.getJedis();
+        this.pipeline = jedis.pipelined();
+    }
+
+    @Override
+    public BaseValueOperations opsForValue() {
+        return valueOps;
+    }
+
+    @Override
+    public BaseHashOperations opsForHash() {
+        return hashOps;
+    }
+
+    @Override
+    public BaseListOperations opsForList() {
+        return listOps;
+    }
+
+    @Override
+    public BaseSetOperations opsForSet() {
+        return setOps;
+    }
+
+    @Override
+    public BaseZsetOperations opsForZset() {
+        return zSetOps;
+    }
+
+    @Override
+    public long setExpire(String key, Duration duration) {
+        AbstractAssertUtils.notEmpty(key, message);
+        record(commands().expire(key, duration.getSeconds()));
+        return 0;
+    }
+
+    @Override
+    public long setExpire(String key, int time, TimeUnit timeUnit) {
+        AbstractAssertUtils.notEmpty(key, message);
+        record(commands().expire(key, timeUnit.toSeconds(time)));
+        return 0;
+    }
+
+    @Override
+    public long getExpire(String key) {
+        AbstractAssertUtils.notEmpty(key, message);
+        record(commands().ttl(key));
+        return 0;
+    }
+
+    @Override
+    public long del(String key) {
+        AbstractAssertUtils.notEmpty(key, message);
+        record(commands().del(key));
+        return 0;
+    }
+
+    @Override
+    public boolean existsKey(String key) {
+        AbstractAssertUtils.notEmpty(key, message);
+        record(commands().exists(key));
+        return false;
+    }
+
+    @Override
+    public List<Object> sync() {
+        checkOpen();
+        List<Object> results = new ArrayList<>(deferred.size());
+        for (PendingCommand<?> command : pending) {
+            command.append(pipeline);
+        }
+        pending.clear();
+        try {
+            pipeline.sync();
+        } catch (JedisException e) {
+            for (Deferred<?, ?> call : deferred) {
+                call.future.completeExceptionally(e);
+            }
+            deferred.clear();
+            throw e;
+        }
+        for (Deferred<?, ?> call : deferred) {
+            results.add(call.complete());
+        }
+        deferred.clear();
+        return results;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> lastResult() {
+        AbstractAssertUtils.isTrue(!deferred.isEmpty(), "no command has been recorded since the last sync");
+        return (CompletableFuture<T>) deferred.get(deferred.size() - 1).future;
+    }
+
+    @Override
+    public void discard() {
+        checkOpen();
+        pending.clear();
+        for (Deferred<?, ?> call : deferred) {
+            call.future.cancel(false);
+        }
+        deferred.clear();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        try {
+            if (!deferred.isEmpty()) {
+                logger.warn("batch closed without sync, discard {} calls", deferred.size());
+            }
+            discard();
+            jedis.resetState();
+        } catch (JedisException e) {
+            logger.error("batch reset fail on close", e);
+        } finally {
+            closed = true;
+            jedisService.closeJedis(jedis);
+        }
+    }
+
+    /**
+     * 分块大小，与{@link JedisServiceImpl#getBulkChunkSize()}一致
+     *
+     * @return int
+     */
+    public int getBulkChunkSize() {
+        return jedisService.getBulkChunkSize();
+    }
+
+    /**
+     * 命令构造器，构造的命令通过{@link #record(CommandObject)}或{@link #queue(CommandObject)}加入会话
+     *
+     * @return {@link CommandObjects}
+     */
+    public CommandObjects commands() {
+        checkOpen();
+        return commandObjects;
+    }
+
+    /**
+     * 加入一条命令但不占用结果位置，用于一次调用拆分为多条命令的场景
+     *
+     * @param command 命令
+     * @param <T>     回复类型
+     * @return 回复，同步后可用
+     */
+    public <T> Supplier<T> queue(CommandObject<T> command) {
+        checkOpen();
+        PendingCommand<T> pendingCommand = new PendingCommand<>(command);
+        pending.add(pendingCommand);
+        return pendingCommand;
+    }
+
+    /**
+     * 记录一次调用
+     *
+     * @param command 命令
+     * @param <T>     回复类型
+     */
+    public <T> void record(CommandObject<T> command) {
+        record(queue(command), Function.identity());
+    }
+
+    /**
+     * 记录一次调用，同步后经mapper转换为调用结果
+     *
+     * @param reply  回复，通过{@link #queue(CommandObject)}获得
+     * @param mapper 转换
+     * @param <T>    回复类型
+     * @param <R>    结果类型
+     */
+    public <T, R> void record(Supplier<T> reply, Function<T, R> mapper) {
+        deferred.add(new Deferred<>(reply, mapper));
+    }
+
+    /**
+     * 记录一次没有发出命令的调用，同步后结果为value，保持结果与调用顺序一致
+     *
+     * @param value 结果
+     * @param <R>   结果类型
+     */
+    public <R> void recordValue(R value) {
+        deferred.add(new Deferred<Object, R>(() -> null, ignored -> value));
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("batch is closed");
+        }
+    }
+
+    /**
+     * 延迟的调用结果
+     *
+     * @param <T> 回复类型
+     * @param <R> 结果类型
+     */
+    private static final class Deferred<T, R> {
+
+        private final Supplier<T> reply;
+
+        private final Function<T, R> mapper;
+
+        private final CompletableFuture<R> future = new CompletableFuture<>();
+
+        private Deferred(Supplier<T> reply, Function<T, R> mapper) {
+            this.reply = reply;
+            this.mapper = mapper;
+        }
+
+        private Object complete() {
+            try {
+                R result = mapper.apply(reply.get());
+                future.complete(result);
+                return result;
+            } catch (JedisDataException e) {
+                future.completeExceptionally(e);
+                return e;
+            }
+        }
+    }
+
+    /**
+     * 等待发出的命令
+     *
+     * @param <T> 回复类型
+     */
+    private static final class PendingCommand<T> implements Supplier<T> {
+
+        private final CommandObject<T> commandObject;
+
+        private Response<T> response;
+
+        private PendingCommand(CommandObject<T> commandObject) {
+            this.commandObject = commandObject;
+        }
+
+        private void append(Pipeline pipeline) {
+            response = pipeline.appendCommand(commandObject);
+        }
+
+        @Override
+        public T get() {
+            return response.get();
+        }
+    }
+}
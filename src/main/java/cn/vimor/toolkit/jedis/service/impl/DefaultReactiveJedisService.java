@@ -0,0 +1,131 @@
+package cn.vimor.toolkit.jedis.service.impl;
+
+import cn.vimor.toolkit.jedis.scan.ScanIterator;
+import cn.vimor.toolkit.jedis.scan.ScanOptions;
+import cn.vimor.toolkit.jedis.scan.ScanPublisher;
+import cn.vimor.toolkit.jedis.service.ReactiveJedisService;
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+import org.reactivestreams.Publisher;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
+import redis.clients.jedis.resps.Tuple;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * 默认Jedis服务(Reactive Streams)，在同步服务的游标迭代之上按需读取
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class DefaultReactiveJedisService implements ReactiveJedisService {
+
+    private final JedisServiceImpl jedisService;
+
+    private final Executor executor;
+
+    private final String message = "'key' must not be null and empty";
+
+    public DefaultReactiveJedisService(JedisServiceImpl jedisService, Executor executor) {
+        this.jedisService = jedisService;
+        this.executor = executor;
+    }
+
+    @Override
+    public Publisher<String> scan(ScanOptions options) {
+        return new ScanPublisher<>(() -> jedisService.scan(options), executor);
+    }
+
+    @Override
+    public Publisher<Map.Entry<String, String>> hScan(String key, ScanOptions options) {
+        AbstractAssertUtils.notEmpty(key, message);
+        return new ScanPublisher<>(() -> jedisService.opsForHash().hScan(key, options), executor);
+    }
+
+    @Override
+    public Publisher<String> sScan(String key, ScanOptions options) {
+        AbstractAssertUtils.notEmpty(key, message);
+        return new ScanPublisher<>(() -> jedisService.opsForSet().sScan(key, options), executor);
+    }
+
+    @Override
+    public Publisher<Tuple> zScan(String key, ScanOptions options) {
+        AbstractAssertUtils.notEmpty(key, message);
+        return new ScanPublisher<>(() -> jedisService.opsForZset().zScan(key, options), executor);
+    }
+
+    @Override
+    public Publisher<Tuple> zRangeWithScores(String key, long start, long end, int pageSize) {
+        AbstractAssertUtils.notEmpty(key, message);
+        checkRange(start, end, pageSize);
+        return new ScanPublisher<>(() -> rangeIterator(start, end, pageSize,
+                (jedis, from, to) -> jedis.zrangeWithScores(key, from, to)), executor);
+    }
+
+    @Override
+    public Publisher<String> lRange(String key, long start, long end, int pageSize) {
+        AbstractAssertUtils.notEmpty(key, message);
+        checkRange(start, end, pageSize);
+        return new ScanPublisher<>(() -> rangeIterator(start, end, pageSize,
+                (jedis, from, to) -> jedis.lrange(key, from, to)), executor);
+    }
+
+    private void checkRange(long start, long end, int pageSize) {
+        AbstractAssertUtils.isTrue(start >= 0, "'start' must not be negative");
+        AbstractAssertUtils.isTrue(end >= -1, "'end' must be -1 or not negative");
+        AbstractAssertUtils.isTrue(pageSize > 0, "'pageSize' must be greater than 0");
+    }
+
+    /**
+     * 按下标分页读取，以下一页的开始下标作为游标，不足一页或到达结束下标时结束
+     *
+     * @param start    开始下标
+     * @param end      结束下标，-1表示到最后
+     * @param pageSize 每页数量
+     * @param reader   读取一页
+     * @param <T>      元素类型
+     * @return {@link ScanIterator}
+     */
+    private <T> ScanIterator<T> rangeIterator(long start, long end, int pageSize, RangeReader<T> reader) {
+        return new ScanIterator<>(cursor -> {
+            long from = Long.parseLong(cursor);
+            if (end >= 0 && from > end) {
+                return new ScanResult<>(ScanParams.SCAN_POINTER_START, Collections.emptyList());
+            }
+            long to = end < 0 ? from + pageSize - 1 : Math.min(from + pageSize - 1, end);
+            List<T> page;
+            Jedis jedis = null;
+            try {
+                jedis = jedisService.getJedis();
+                page = reader.read(jedis, from, to);
+            } finally {
+                jedisService.closeJedis(jedis);
+            }
+            boolean last = page.size() < to - from + 1 || to == end;
+            return new ScanResult<>(last ? ScanParams.SCAN_POINTER_START : String.valueOf(to + 1), page);
+        }, String.valueOf(start));
+    }
+
+    /**
+     * 按下标区间读取一页
+     *
+     * @param <T> 元素类型
+     */
+    @FunctionalInterface
+    private interface RangeReader<T> {
+
+        /**
+         * 读取[from, to]区间
+         *
+         * @param jedis jedis
+         * @param from  开始下标
+         * @param to    结束下标(包含)
+         * @return 元素
+         */
+        List<T> read(Jedis jedis, long from, long to);
+    }
+}
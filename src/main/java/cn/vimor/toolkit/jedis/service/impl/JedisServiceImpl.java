@@ -1,21 +1,42 @@
 package cn.vimor.toolkit.jedis.service.impl;
 
+import cn.vimor.toolkit.jedis.cache.CacheAsideLoader;
+import cn.vimor.toolkit.jedis.cache.NearCache;
+import cn.vimor.toolkit.jedis.codec.ValueSerializer;
+import cn.vimor.toolkit.jedis.connection.JedisConnectionProvider;
+import cn.vimor.toolkit.jedis.metrics.JedisMetrics;
+import cn.vimor.toolkit.jedis.pipeline.AutoPipeliningExecutor;
+import cn.vimor.toolkit.jedis.scan.KeyspaceScanJob;
+import cn.vimor.toolkit.jedis.scan.ParallelScanOptions;
+import cn.vimor.toolkit.jedis.scan.ScanIterator;
+import cn.vimor.toolkit.jedis.scan.ScanOptions;
+import cn.vimor.toolkit.jedis.service.AsyncJedisService;
+import cn.vimor.toolkit.jedis.service.JedisBatch;
 import cn.vimor.toolkit.jedis.service.JedisService;
+import cn.vimor.toolkit.jedis.service.ReactiveJedisService;
 import cn.vimor.toolkit.jedis.service.operations.*;
 import cn.vimor.toolkit.jedis.service.operations.impl.*;
 import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.stereotype.Service;
 import org.springframework.util.ObjectUtils;
 import redis.clients.jedis.Jedis;
-import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.params.ScanParams;
 
+import javax.annotation.PostConstruct;
 import javax.annotation.Resource;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * Jedis服务实现类
@@ -32,22 +53,111 @@ public class JedisServiceImpl implements JedisService {
      * 消息
      */
     private final String message = "'key' must not be null and empty";
+    /**
+     * 未配置序列化器时的压缩阈值，单位字节
+     */
+    private static final int DEFAULT_COMPRESS_THRESHOLD = 4096;
     private final ValueOperations valueOps = new DefaultValueOperations(this);
     private final ListOperations listOps = new DefaultListOperations(this);
     private final HashOperations hashOps = new DefaultHashOperations(this);
     private final SetOperations setOps = new DefaultSetOperations(this);
     private final ZsetOperations zSetOps = new DefaultZSetOperations(this);
+    private final BinaryValueOperations binaryValueOps = new DefaultBinaryValueOperations(this);
+    private final BinaryHashOperations binaryHashOps = new DefaultBinaryHashOperations(this);
+    private final BinaryListOperations binaryListOps = new DefaultBinaryListOperations(this);
+    private final BinarySetOperations binarySetOps = new DefaultBinarySetOperations(this);
+    private final BinaryZsetOperations binaryZSetOps = new DefaultBinaryZsetOperations(this);
     /**
-     * jedis连接池
+     * 旁路缓存加载器
+     */
+    private final CacheAsideLoader cacheAsideLoader = new CacheAsideLoader(this);
+    /**
+     * jedis连接提供者
      */
     @Resource
-    private volatile JedisPool jedisPool;
+    private volatile JedisConnectionProvider connectionProvider;
+    /**
+     * 自动管道执行器，未开启时为null
+     */
+    @Autowired(required = false)
+    private volatile AutoPipeliningExecutor autoPipeliningExecutor;
+    /**
+     * 近端缓存，未开启时为null
+     */
+    @Autowired(required = false)
+    private volatile NearCache nearCache;
+    /**
+     * 类型化操作使用的值序列化器
+     */
+    @Autowired(required = false)
+    private volatile ValueSerializer valueSerializer = ValueSerializer.createDefault(DEFAULT_COMPRESS_THRESHOLD);
+    /**
+     * 指标回调
+     */
+    @Autowired(required = false)
+    private volatile JedisMetrics metrics = JedisMetrics.NOOP;
+    /**
+     * 批量读取时每块的key数量
+     */
+    @Value("${jedis.bulk.chunkSize:1000}")
+    private int bulkChunkSize = 1000;
+    /**
+     * 批量读取时并行使用的连接数，为1时在调用线程中顺序读取
+     */
+    @Value("${jedis.bulk.parallelism:1}")
+    private int bulkParallelism = 1;
+    /**
+     * 批量读取的并行执行器，bulkParallelism大于1时创建
+     */
+    private volatile ExecutorService bulkExecutor;
+    /**
+     * 异步操作的I/O线程数
+     */
+    @Value("${jedis.async.threads:16}")
+    private int asyncThreads = 16;
+    /**
+     * 异步操作等待执行的任务上限
+     */
+    @Value("${jedis.async.queueCapacity:10000}")
+    private int asyncQueueCapacity = 10000;
+    /**
+     * 异步服务，首次调用async()时创建
+     */
+    private volatile DefaultAsyncJedisService asyncService;
+    /**
+     * Reactive Streams服务，首次调用reactive()时创建
+     */
+    private volatile ReactiveJedisService reactiveService;
+    private volatile AsyncExecutor asyncExecutor;
+
+    @PostConstruct
+    public void init() {
+        AbstractAssertUtils.isTrue(bulkChunkSize > 0, "'jedis.bulk.chunkSize' must be greater than 0");
+        if (bulkParallelism > 1) {
+            AtomicInteger threadIndex = new AtomicInteger();
+            bulkExecutor = Executors.newFixedThreadPool(bulkParallelism, runnable -> {
+                Thread thread = new Thread(runnable, "jedis-bulk-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
 
     @Override
     public ValueOperations opsForValue() {
         return valueOps;
     }
 
+    @Override
+    public <T> TypedValueOperations<T> opsForValue(Class<T> type) {
+        return new DefaultTypedValueOperations<>(binaryValueOps, valueSerializer, type);
+    }
+
+    @Override
+    public <T> TypedHashOperations<T> opsForHash(Class<T> type) {
+        return new DefaultTypedHashOperations<>(binaryHashOps, valueSerializer, type);
+    }
+
     @Override
     public ListOperations opsForList() {
         return listOps;
@@ -68,6 +178,78 @@ public class JedisServiceImpl implements JedisService {
         return zSetOps;
     }
 
+    @Override
+    public BinaryValueOperations opsForBinaryValue() {
+        return binaryValueOps;
+    }
+
+    @Override
+    public BinaryHashOperations opsForBinaryHash() {
+        return binaryHashOps;
+    }
+
+    @Override
+    public BinaryListOperations opsForBinaryList() {
+        return binaryListOps;
+    }
+
+    @Override
+    public BinarySetOperations opsForBinarySet() {
+        return binarySetOps;
+    }
+
+    @Override
+    public BinaryZsetOperations opsForBinaryZset() {
+        return binaryZSetOps;
+    }
+
+    @Override
+    public JedisBatch batch() {
+        return new DefaultJedisBatch(this);
+    }
+
+    @Override
+    public AsyncJedisService async() {
+        DefaultAsyncJedisService service = asyncService;
+        if (service == null) {
+            synchronized (this) {
+                service = asyncService;
+                if (service == null) {
+                    service = new DefaultAsyncJedisService(this, asyncExecutor());
+                    asyncService = service;
+                }
+            }
+        }
+        return service;
+    }
+
+    @Override
+    public ReactiveJedisService reactive() {
+        ReactiveJedisService service = reactiveService;
+        if (service == null) {
+            synchronized (this) {
+                service = reactiveService;
+                if (service == null) {
+                    service = new DefaultReactiveJedisService(this, asyncExecutor().executor());
+                    reactiveService = service;
+                }
+            }
+        }
+        return service;
+    }
+
+    /**
+     * 异步与Reactive Streams操作共用的I/O执行器，首次使用时创建
+     *
+     * @return {@link AsyncExecutor}
+     */
+    private synchronized AsyncExecutor asyncExecutor() {
+        if (asyncExecutor == null) {
+            asyncExecutor = new AsyncExecutor(asyncThreads, asyncQueueCapacity);
+        }
+        return asyncExecutor;
+    }
+
     @Override
     public long setExpire(String key, Duration duration) {
         AbstractAssertUtils.notEmpty(key, message);
@@ -132,6 +314,7 @@ public class JedisServiceImpl implements JedisService {
             logger.error("'ttl' key fail, key: {} ", key);
             logger.error(e.getMessage(), e);
         } finally {
+            invalidateNearCache(key);
             closeJedis(jedis);
         }
         return 0;
@@ -154,31 +337,146 @@ public class JedisServiceImpl implements JedisService {
         return false;
     }
 
+    @Override
+    public ScanIterator<String> scan(ScanOptions options) {
+        ScanParams params = options.toParams();
+        String type = options.getType();
+        return new ScanIterator<>(cursor -> {
+            Jedis jedis = null;
+            try {
+                jedis = this.getJedis();
+                return type == null ? jedis.scan(cursor, params) : jedis.scan(cursor, params, type);
+            } finally {
+                closeJedis(jedis);
+            }
+        });
+    }
+
+    @Override
+    public KeyspaceScanJob scanKeyspace(ParallelScanOptions options, Consumer<List<String>> handler) {
+        AbstractAssertUtils.isTrue(options != null && handler != null, "'options' and 'handler' must not be null");
+        return new KeyspaceScanJob(this, options, handler).start(options.getParallelism());
+    }
+
     @Override
     public void close() {
-        if (!ObjectUtils.isEmpty(jedisPool)) {
-            jedisPool.close();
+        if (bulkExecutor != null) {
+            bulkExecutor.shutdownNow();
+        }
+        if (asyncExecutor != null) {
+            asyncExecutor.close();
+        }
+        if (!ObjectUtils.isEmpty(connectionProvider)) {
+            connectionProvider.close();
+        }
+    }
+
+    /**
+     * 获取自动管道执行器
+     *
+     * @return {@link AutoPipeliningExecutor}，未开启时返回null
+     */
+    public AutoPipeliningExecutor getAutoPipeliningExecutor() {
+        return autoPipeliningExecutor;
+    }
+
+    /**
+     * 获取近端缓存
+     *
+     * @return {@link NearCache}，未开启时返回null
+     */
+    public NearCache getNearCache() {
+        return nearCache;
+    }
+
+    /**
+     * 获取旁路缓存加载器
+     *
+     * @return {@link CacheAsideLoader}
+     */
+    public CacheAsideLoader getCacheAsideLoader() {
+        return cacheAsideLoader;
+    }
+
+    /**
+     * 写入后使本地近端缓存失效，其它实例由Redis的失效消息通知
+     *
+     * @param key key
+     */
+    public void invalidateNearCache(String key) {
+        NearCache cache = nearCache;
+        if (cache != null) {
+            cache.invalidate(key);
         }
     }
 
+    /**
+     * 获取值序列化器
+     *
+     * @return {@link ValueSerializer}
+     */
+    public ValueSerializer getValueSerializer() {
+        return valueSerializer;
+    }
+
+    /**
+     * 获取指标回调
+     *
+     * @return {@link JedisMetrics}
+     */
+    public JedisMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * 批量读取时每块的key数量
+     *
+     * @return int
+     */
+    public int getBulkChunkSize() {
+        return bulkChunkSize;
+    }
+
+    /**
+     * 批量读取时并行使用的连接数
+     *
+     * @return int
+     */
+    public int getBulkParallelism() {
+        return bulkExecutor == null ? 1 : bulkParallelism;
+    }
+
+    /**
+     * 批量读取的并行执行器
+     *
+     * @return {@link ExecutorService}，未开启并行时返回null
+     */
+    public ExecutorService getBulkExecutor() {
+        return bulkExecutor;
+    }
+
     /**
      * 获取Jedis
      *
      * @return {@link Jedis}
      */
-    public synchronized Jedis getJedis() {
+    public Jedis getJedis() {
         Jedis jedis = null;
-        if (!ObjectUtils.isEmpty(jedisPool)) {
-            jedis = jedisPool.getResource();
+        if (!ObjectUtils.isEmpty(connectionProvider)) {
+            jedis = connectionProvider.getResource();
         }
         return jedis;
     }
 
-
-    private void closeJedis(Jedis jedis) {
+    /**
+     * 归还Jedis
+     *
+     * @param jedis Jedis
+     */
+    public void closeJedis(Jedis jedis) {
         if (jedis != null) {
             try {
-                jedis.close();
+                connectionProvider.release(jedis);
             } catch (JedisException e) {
                 logger.error("ShardedJedis close fail", e);
             }
@@ -0,0 +1,114 @@
+package cn.vimor.toolkit.jedis.service.operations;
+
+import cn.vimor.toolkit.jedis.cache.LoadOptions;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 散列操作(异步)，每个方法在I/O执行器中执行与{@link HashOperations}同名方法相同的命令，成功时的值与同步方法相同，命令失败时以异常完成
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public interface AsyncHashOperations {
+
+    /**
+     * 为指定的key设定field/value对（键值对），一次HSET写入，超过jedis.bulk.chunkSize时分块后在一次pipeline中写入。
+     *
+     * @param key 关键
+     * @param map 地图
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Void> hSet(String key, Map<String, String> map);
+
+    /**
+     * 为指定的key设定field/value对（键值对）。
+     *
+     * @param key        key
+     * @param filedKey   Map-key
+     * @param filedValue 映射值
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Void> hSet(String key, String filedKey, String filedValue);
+
+    /**
+     * 获取key中的全部filed的值
+     *
+     * @param key key
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Map<String, String>> hGetAll(String key);
+
+    /**
+     * 获取key中的多个filed的值(HMGET)，不存在的filed对应null
+     *
+     * @param key    key
+     * @param keySet key集
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Map<String, String>> hGet(String key, Set<String> keySet);
+
+    /**
+     * 获取多个key中相同的多个filed的值，所有key在一次pipeline中读取
+     *
+     * @param keys   key列表
+     * @param keySet key集
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Map<String, Map<String, String>>> hMultiGet(List<String> keys, Set<String> keySet);
+
+    /**
+     * 返回指定的key中的field的值
+     *
+     * @param key      key
+     * @param filedKey map-key
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<String> hGet(String key, String filedKey);
+
+    /**
+     * 判断指定的key中的filed是否存在
+     *
+     * @param key      key
+     * @param filedKey 提起key
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Boolean> hExists(String key, String filedKey);
+
+    /**
+     * 用于删除哈希表 key 中的一个或多个指定字段，不存在的字段将被忽略。
+     *
+     * @param key   var1
+     * @param field 字段
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Long> hDel(String key, String... field);
+
+    /**
+     * 读取整个散列，不存在时调用loader加载并整体写回，整个key以ttl过期。
+     * 同一JVM内的并发加载合并为一次loader调用，跨JVM由短期租约保证同一时刻只有一个实例加载。
+     *
+     * @param key    key
+     * @param loader 加载器，返回null或空map时不写入缓存
+     * @param ttl    过期时间
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Map<String, String>> hGetAllOrLoad(String key, Supplier<Map<String, String>> loader,
+            Duration ttl);
+
+    /**
+     * 读取整个散列，不存在时调用loader加载并整体写回，支持过期后返回旧值与概率提前刷新，见{@link LoadOptions}
+     *
+     * @param key     key
+     * @param loader  加载器，返回null或空map时不写入缓存
+     * @param options 加载选项
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Map<String, String>> hGetAllOrLoad(String key, Supplier<Map<String, String>> loader,
+            LoadOptions options);
+}
@@ -0,0 +1,129 @@
+package cn.vimor.toolkit.jedis.service.operations;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 列表操作(异步)，每个方法在I/O执行器中执行与{@link ListOperations}同名方法相同的命令，成功时的值与同步方法相同，命令失败时以异常完成
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public interface AsyncListOperations {
+
+    /**
+     * 返回列表key的长度。
+     * 如果key不存在，则key被解释为一个空列表，返回0。
+     * 如果key不是列表类型，则返回一个错误。
+     *
+     * @param key 键
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Long> lLen(String key);
+
+    /**
+     * 将所有给定value插入到列表key的表头。
+     * 如果key不存在，一个空列表会被创建并执行LPush操作。当key存在但不是列表类型时，会返回一个错误。
+     *
+     * @param key    键
+     * @param values 字符串值列表(<key, value1, value2, ... , valueN>)
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Long> lPush(String key, String... values);
+
+    /**
+     * 移除并返回列表key的表尾元素。
+     * 时间复杂度: O(1)
+     *
+     * @param key 键
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<String> rPop(String key);
+
+    /**
+     * 返回列表key中指定区间内的元素，区间由偏移量start和stop指定。
+     * 下标参数start和stop都以0为基底，也就是说，0表示列表的第一个元素，1表示列表的第二个元素，以此类推。
+     * 下标参数start和stop也可以是负数，-1表示列表的最后一个元素，-2表示列表的倒数第二个元素，以此类推。
+     *
+     * @param key   键
+     * @param start 起始下标
+     * @param stop  结束下标
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<List<String>> lRange(String key, int start, int stop);
+
+    /**
+     * 对一个列表进行修剪，就是说，让列表只保留指定区间内的元素，不在指定区间内的元素都将被删除。<br>
+     * 下标参数start和stop都是以0为基底，也就是说，0表示列表的第一个元素，1表示列表的第二个元素，以此类推。
+     *
+     * @param key   键
+     * @param start 起始下标
+     * @param stop  结束下标
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<String> ltrim(String key, int start, int stop);
+
+    /**
+     * 根据key获取全部集合
+     *
+     * @param key 关键
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<List<String>> get(String key);
+
+    /**
+     * 获取链表中从0到end的元素的值，end可为负数，若为-1则表示链表尾部的元素，-2则表示倒数第二个，依次类推…
+     *
+     * @param key      关键
+     * @param endRange 结束范围
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<List<String>> get(String key, Long endRange);
+
+    /**
+     * 获取链表中从start到end的元素的值，start、end可为负数，若为-1则表示链表尾部的元素，-2则表示倒数第二个，依次类推…
+     *
+     * @param key        关键
+     * @param startRange 开始范围
+     * @param endRange   结束范围
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<List<String>> get(String key, Long startRange, Long endRange);
+
+    /**
+     * 返回并删除指定key的链表中的第一个元素，即头元素。
+     *
+     * @param key 关键
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<String> lPop(String key);
+
+    /**
+     * 删除count个值为value的元素，
+     * 如果count大于0，从头向尾遍历并删除count个值为value的元素，
+     * 如果count小于0，则从尾向头遍历并删除。如果count等于0，则删除链表中所有等于value的元素。
+     *
+     * @param key   关键
+     * @param value 价值
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Void> lRem(String key, String value);
+
+    /**
+     * 在key对应 该list的尾部添加元素
+     *
+     * @param key  key
+     * @param item 项
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Void> rPush(String key, String... item);
+
+    /**
+     * 在key对应 该list的尾部添加元素
+     *
+     * @param key  key
+     * @param list 列表
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Void> rPush(String key, List<String> list);
+}
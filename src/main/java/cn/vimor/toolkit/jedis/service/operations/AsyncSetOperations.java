@@ -0,0 +1,73 @@
+package cn.vimor.toolkit.jedis.service.operations;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 集合操作(异步)，每个方法在I/O执行器中执行与{@link SetOperations}同名方法相同的命令，成功时的值与同步方法相同，命令失败时以异常完成
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public interface AsyncSetOperations {
+
+    /**
+     * 批量向set中添加数据，如果该key的值已有则不会重复添加.
+     *
+     * @param key    key
+     * @param values 集
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Void> batchAdd(String key, Set<String> values);
+
+    /**
+     * 添加
+     *
+     * @param key      key
+     * @param setValue 设置值
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Void> add(String key, String setValue);
+
+    /**
+     * 获取set中所有的成员
+     *
+     * @param key key
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Set<String>> members(String key);
+
+    /**
+     * 获取set中成员的数量
+     *
+     * @param key key
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Long> sCard(String key);
+
+    /**
+     * 判断参数中指定的成员是否在该set中
+     *
+     * @param key    key
+     * @param member 成员
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Boolean> isMember(String key, String member);
+
+    /**
+     * 删除set中指定的成员
+     *
+     * @param key    key
+     * @param member 成员
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Void> sRem(String key, String... member);
+
+    /**
+     * 随机返回set中的一个成员
+     *
+     * @param key key
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<String> sRandMember(String key);
+}
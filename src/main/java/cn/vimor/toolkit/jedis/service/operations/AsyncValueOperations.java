@@ -0,0 +1,139 @@
+package cn.vimor.toolkit.jedis.service.operations;
+
+import cn.vimor.toolkit.jedis.cache.LoadOptions;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 值操作(异步)，每个方法在I/O执行器中执行与{@link ValueOperations}同名方法相同的命令，成功时的值与同步方法相同，命令失败时以异常完成
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public interface AsyncValueOperations {
+
+    /**
+     * 返回key所关联的字符串值。
+     * 如果key不存在，那么返回特殊值null； 如果key储存的值不是字符串类型，则返回一个错误，因为GET只能用于处理字符串值。
+     *
+     * @param key 键
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<String> get(String key);
+
+    /**
+     * 将字符串值value关联到key。(key永不过期)<br>
+     * 如果key已经持有其他值，SET就覆写旧值，无视类型。<br>
+     * 对于某个原本带有生存时间(TTL)的key来说，当SET命令成功在这个key上执行时，这个key原有的TTL将被清除。
+     *
+     * @param key   键
+     * @param value 字符串值
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<String> set(String key, String value);
+
+    /**
+     * Redis Setbit 命令用于对 key 所储存的字符串值，设置或清除指定偏移量上的位(bit)。
+     *
+     * @param key    关键
+     * @param offset 抵消
+     * @param value  价值
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Boolean> setBit(String key, long offset, boolean value);
+
+    /**
+     * Redis Getbit 命令用于对 key 所储存的字符串值，获取指定偏移量上的位(bit)。
+     *
+     * @param key    关键
+     * @param offset 抵消
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Boolean> getBit(String key, long offset);
+
+    /**
+     * 获取key对应的值的二进制表示中 1 的个数
+     *
+     * @param key 关键
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Long> bitCount(String key);
+
+    /**
+     * 将字符串值value关联到key，并将key的生存时间设为seconds。<br>
+     * 如果key已经存在，SetEX命令将覆写旧值。
+     *
+     * @param key     键
+     * @param seconds 生存时间(秒数)
+     * @param value   字符串值
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<String> setEx(String key, int seconds, String value);
+
+    /**
+     * 增量
+     *
+     * @param key key
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Long> increment(String key);
+
+    /**
+     * 增量
+     *
+     * @param key   key
+     * @param delta δ
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Long> incrementBy(String key, long delta);
+
+    /**
+     * 增量浮动
+     *
+     * @param key   key
+     * @param delta δ
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Double> incrementByFloat(String key, double delta);
+
+    /**
+     * 多得到
+     *
+     * @param keys 键
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<List<String>> multiGet(List<String> keys);
+
+    /**
+     * 批量获取，按jedis.bulk.chunkSize分块读取，结果顺序与keys一致，不存在的key对应null。
+     * jedis.bulk.parallelism大于1时多个分块会在多个连接上并行读取。
+     *
+     * @param keys 键
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<List<String>> piplineGet(List<String> keys);
+
+    /**
+     * 读取缓存，不存在时调用loader加载并以ttl写回。
+     * 同一JVM内的并发加载合并为一次loader调用，跨JVM由短期租约保证同一时刻只有一个实例加载。
+     *
+     * @param key    键
+     * @param loader 加载器，返回null时不写入缓存
+     * @param ttl    过期时间
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<String> getOrLoad(String key, Supplier<String> loader, Duration ttl);
+
+    /**
+     * 读取缓存，不存在时调用loader加载并写回，支持过期后返回旧值与概率提前刷新，见{@link LoadOptions}
+     *
+     * @param key     键
+     * @param loader  加载器，返回null时不写入缓存
+     * @param options 加载选项
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<String> getOrLoad(String key, Supplier<String> loader, LoadOptions options);
+}
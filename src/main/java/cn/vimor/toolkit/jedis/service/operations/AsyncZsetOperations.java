@@ -0,0 +1,206 @@
+package cn.vimor.toolkit.jedis.service.operations;
+
+import redis.clients.jedis.resps.Tuple;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 有序集合操作(异步)，每个方法在I/O执行器中执行与{@link ZsetOperations}同名方法相同的命令，成功时的值与同步方法相同，命令失败时以异常完成
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public interface AsyncZsetOperations {
+
+    /**
+     * 将所有给定member元素及其score值加入到有序集key中。(有序集长度无界)
+     * 如果某个member已经是有序集的成员，那么更新这个member的score值，并通过重新插入这个member元素，来保证该member在正确的位置上。
+     *
+     * @param key    键
+     * @param score  元素的分数
+     * @param member 元素
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Long> zAdd(String key, double score, String member);
+
+    /**
+     * 将"member元素及其score值"加入到有序集key中。(有序集长度无界)<br>
+     *
+     * @param key          键
+     * @param scoreMembers {@literal <元素, 元素的分数>}的映射表
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Long> zAdd(String key, Map<String, Double> scoreMembers);
+
+    /**
+     * 分数增量
+     *
+     * @param key    键
+     * @param score  元素的分数
+     * @param member 成员
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Double> zIncrement(String key, double score, String member);
+
+    /**
+     * 根据key获取全部
+     *
+     * @param key 关键
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<List<String>> zRange(String key);
+
+    /**
+     * 根据key获取从0-end的成员
+     *
+     * @param key 关键
+     * @param end 结束
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<List<String>> zRange(String key, Long end);
+
+    /**
+     * 获取集合中下标为start-end的成员
+     *
+     * @param key   关键
+     * @param start 开始
+     * @param end   结束
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<List<String>> zRange(String key, Long start, Long end);
+
+    /**
+     * 获取集合中下标为start-end的成员及分数
+     *
+     * @param key   关键
+     * @param start 开始
+     * @param end   结束
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<List<Tuple>> zRangeWithScores(String key, Long start, Long end);
+
+    /**
+     * z分数范围
+     *
+     * @param key 关键
+     * @param min 最小值
+     * @param max 马克斯
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<List<Tuple>> zRangeWithScores(String key, double min, double max);
+
+    /**
+     * z分数范围
+     *
+     * @param key   关键
+     * @param min   最小值
+     * @param max   马克斯
+     * @param start 开始
+     * @param end   结束
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<List<Tuple>> zRangeWithScores(String key, double min, double max, Integer start, Integer end);
+
+    /**
+     * 排名
+     *
+     * @param key   关键
+     * @param min   最小值
+     * @param max   马克斯
+     * @param start 开始
+     * @param end   结束
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<List<Tuple>> zRevRangeWithScores(String key, double max, double min, Integer start, Integer end);
+
+    /**
+     * 移除集合中指定的成员
+     *
+     * @param key   关键
+     * @param value 价值
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Void> zRem(String key, String value);
+
+    /**
+     * 移除集合中指定的成员，可以指定多个成员。
+     *
+     * @param key    关键
+     * @param values 值
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Void> zRem(String key, Set<String> values);
+
+    /**
+     * 返回指定成员的分数
+     *
+     * @param key    key
+     * @param member 成员
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Double> zScore(String key, String member);
+
+    /**
+     * 返回分数在[min,max]的成员并按照分数从低到高排序
+     *
+     * @param key key
+     * @param min 最小值
+     * @param max 最大值
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<List<String>> zRangeByScore(String key, double min, double max);
+
+    /**
+     * 用于移除有序集中，指定分数（score）区间内的所有成员
+     *
+     * @param key key
+     * @param min 最小值
+     * @param max 最大值
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Long> zRemRangeByScore(String key, double min, double max);
+
+    /**
+     * 返回分数在[min,max]的成员并按照分数从低到高排序。
+     * offset，表明从脚标为offset的元素开始并返回count个成员（分页）。
+     *
+     * @param key    key
+     * @param min    最小值
+     * @param max    最大值
+     * @param offset 脚标为offset的元素
+     * @param count  count个成员
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<List<String>> rangeByScore(String key, double min, double max, int offset, int count);
+
+    /**
+     * 查询分数内数量
+     *
+     * @param key 关键
+     * @param min 最小值
+     * @param max 马克斯
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Long> count(String key, double min, double max);
+
+    /**
+     * 获取成员排名(从小到大）
+     *
+     * @param key    关键
+     * @param member 成员
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Long> zRank(String key, String member);
+
+    /**
+     * 获取成员排名(从大到小）
+     *
+     * @param key    关键
+     * @param member 成员
+     * @return {@link CompletableFuture}
+     */
+    CompletableFuture<Long> zRevRank(String key, String member);
+}
@@ -0,0 +1,86 @@
+package cn.vimor.toolkit.jedis.service.operations;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 散列操作
+ * <p>
+ * 每个方法对应固定的命令，可以记录到pipeline中，批量会话只提供这些方法。
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public interface BaseHashOperations {
+
+    /**
+     * 为指定的key设定field/value对（键值对），一次HSET写入，超过jedis.bulk.chunkSize时分块后在一次pipeline中写入。
+     *
+     * @param key 关键
+     * @param map 地图
+     */
+    void hSet(String key, Map<String, String> map);
+
+    /**
+     * 为指定的key设定field/value对（键值对）。
+     *
+     * @param key        key
+     * @param filedKey   Map-key
+     * @param filedValue 映射值
+     */
+    void hSet(String key, String filedKey, String filedValue);
+
+    /**
+     * 获取key中的全部filed的值
+     *
+     * @param key key
+     * @return {@link Map}<{@link String}, {@link String}>
+     */
+    Map<String, String> hGetAll(String key);
+
+    /**
+     * 获取key中的多个filed的值(HMGET)，不存在的filed对应null；keySet为空时不访问redis，返回空map
+     *
+     * @param key    key
+     * @param keySet key集
+     * @return {@link Map}<{@link String}, {@link String}>
+     */
+    Map<String, String> hGet(String key, Set<String> keySet);
+
+    /**
+     * 获取多个key中相同的多个filed的值，所有key在一次pipeline中读取；keys与keySet都不能为空
+     *
+     * @param keys   key列表
+     * @param keySet key集
+     * @return {@link Map}<{@link String}, {@link Map}<{@link String}, {@link String}>>，顺序与keys一致
+     */
+    Map<String, Map<String, String>> hMultiGet(List<String> keys, Set<String> keySet);
+
+    /**
+     * 返回指定的key中的field的值
+     *
+     * @param key      key
+     * @param filedKey map-key
+     * @return {@link String}
+     */
+    String hGet(String key, String filedKey);
+
+    /**
+     * 判断指定的key中的filed是否存在
+     *
+     * @param key      key
+     * @param filedKey 提起key
+     * @return boolean
+     */
+    Boolean hExists(String key, String filedKey);
+
+    /**
+     * 用于删除哈希表 key 中的一个或多个指定字段，不存在的字段将被忽略。
+     *
+     * @param key   var1
+     * @param field 字段
+     * @return long
+     */
+    long hDel(String key, String... field);
+}
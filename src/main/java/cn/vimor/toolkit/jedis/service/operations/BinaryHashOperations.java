@@ -0,0 +1,56 @@
+package cn.vimor.toolkit.jedis.service.operations;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 二进制散列操作，filed为字符串，值以byte[]原样读写
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public interface BinaryHashOperations {
+
+    /**
+     * 将map中的filed一次写入散列
+     *
+     * @param key key
+     * @param map filed-值
+     */
+    void hSet(String key, Map<String, byte[]> map);
+
+    /**
+     * 设置散列中filed的值
+     *
+     * @param key        key
+     * @param filedKey   filed
+     * @param filedValue 值
+     */
+    void hSet(String key, String filedKey, byte[] filedValue);
+
+    /**
+     * 获取散列中filed的值
+     *
+     * @param key      key
+     * @param filedKey filed
+     * @return byte[]
+     */
+    byte[] hGet(String key, String filedKey);
+
+    /**
+     * 获取散列中多个filed的值，不存在的filed对应null
+     *
+     * @param key    key
+     * @param keySet filed
+     * @return {@link Map}<{@link String}, byte[]>
+     */
+    Map<String, byte[]> hGet(String key, Set<String> keySet);
+
+    /**
+     * 获取整个散列
+     *
+     * @param key key
+     * @return {@link Map}<{@link String}, byte[]>
+     */
+    Map<String, byte[]> hGetAll(String key);
+}
@@ -0,0 +1,56 @@
+package cn.vimor.toolkit.jedis.service.operations;
+
+import java.util.List;
+
+/**
+ * 二进制列表操作，元素以byte[]原样读写
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public interface BinaryListOperations {
+
+    /**
+     * 将一个或多个值插入到列表头部
+     *
+     * @param key    key
+     * @param values 值
+     * @return 插入后列表的长度
+     */
+    long lPush(String key, byte[]... values);
+
+    /**
+     * 将一个或多个值插入到列表尾部
+     *
+     * @param key    key
+     * @param values 值
+     * @return 插入后列表的长度
+     */
+    long rPush(String key, byte[]... values);
+
+    /**
+     * 移除并返回列表的第一个元素
+     *
+     * @param key key
+     * @return byte[]，列表为空时返回null
+     */
+    byte[] lPop(String key);
+
+    /**
+     * 移除并返回列表的最后一个元素
+     *
+     * @param key key
+     * @return byte[]，列表为空时返回null
+     */
+    byte[] rPop(String key);
+
+    /**
+     * 返回列表中指定区间内的元素
+     *
+     * @param key   key
+     * @param start 开始下标
+     * @param stop  结束下标
+     * @return {@link List}<byte[]>
+     */
+    List<byte[]> lRange(String key, long start, long stop);
+}
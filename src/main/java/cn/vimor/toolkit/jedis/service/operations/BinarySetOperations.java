@@ -0,0 +1,47 @@
+package cn.vimor.toolkit.jedis.service.operations;
+
+import java.util.Set;
+
+/**
+ * 二进制集合操作，成员以byte[]原样读写
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public interface BinarySetOperations {
+
+    /**
+     * 添加一个或多个成员
+     *
+     * @param key     key
+     * @param members 成员
+     * @return 新增的成员数
+     */
+    long add(String key, byte[]... members);
+
+    /**
+     * 返回集合中的所有成员
+     *
+     * @param key key
+     * @return {@link Set}<byte[]>
+     */
+    Set<byte[]> members(String key);
+
+    /**
+     * 判断成员是否在集合中
+     *
+     * @param key    key
+     * @param member 成员
+     * @return {@link Boolean}
+     */
+    Boolean isMember(String key, byte[] member);
+
+    /**
+     * 移除一个或多个成员
+     *
+     * @param key     key
+     * @param members 成员
+     * @return 移除的成员数
+     */
+    long sRem(String key, byte[]... members);
+}
@@ -0,0 +1,58 @@
+package cn.vimor.toolkit.jedis.service.operations;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * 二进制值操作，值以byte[]原样读写，不经过字符集转换
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public interface BinaryValueOperations {
+
+    /**
+     * 返回key所关联的值
+     *
+     * @param key 键
+     * @return 当key不存在时，返回null；否则，返回key的值。
+     */
+    byte[] get(String key);
+
+    /**
+     * 将值value关联到key(key永不过期)
+     *
+     * @param key   键
+     * @param value 值
+     * @return 成功时返回OK
+     */
+    String set(String key, byte[] value);
+
+    /**
+     * 将缓冲区中position到limit之间的字节关联到key，不改变缓冲区的position。
+     * 缓冲区恰好包装了整个数组时直接使用该数组，不复制
+     *
+     * @param key   键
+     * @param value 值
+     * @return 成功时返回OK
+     */
+    String set(String key, ByteBuffer value);
+
+    /**
+     * 将值value关联到key，并设置过期时间
+     *
+     * @param key     键
+     * @param seconds 过期时间，单位秒
+     * @param value   值
+     * @return 成功时返回OK
+     */
+    String setEx(String key, int seconds, byte[] value);
+
+    /**
+     * 批量获取，结果顺序与keys一致，不存在的key对应null
+     *
+     * @param keys 键
+     * @return {@link List}<byte[]>
+     */
+    List<byte[]> multiGet(List<String> keys);
+}
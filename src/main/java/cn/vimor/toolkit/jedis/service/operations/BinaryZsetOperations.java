@@ -0,0 +1,62 @@
+package cn.vimor.toolkit.jedis.service.operations;
+
+import redis.clients.jedis.resps.Tuple;
+
+import java.util.List;
+
+/**
+ * 二进制有序集合操作，成员以byte[]原样读写
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public interface BinaryZsetOperations {
+
+    /**
+     * 添加成员
+     *
+     * @param key    key
+     * @param score  分数
+     * @param member 成员
+     * @return 新增的成员数
+     */
+    long zAdd(String key, double score, byte[] member);
+
+    /**
+     * 返回指定下标区间内的成员
+     *
+     * @param key   key
+     * @param start 开始下标
+     * @param end   结束下标
+     * @return {@link List}<byte[]>
+     */
+    List<byte[]> zRange(String key, long start, long end);
+
+    /**
+     * 返回指定下标区间内的成员及分数，成员通过{@link Tuple#getBinaryElement()}读取
+     *
+     * @param key   key
+     * @param start 开始下标
+     * @param end   结束下标
+     * @return {@link List}<{@link Tuple}>
+     */
+    List<Tuple> zRangeWithScores(String key, long start, long end);
+
+    /**
+     * 返回成员的分数
+     *
+     * @param key    key
+     * @param member 成员
+     * @return {@link Double}，成员不存在时返回null
+     */
+    Double zScore(String key, byte[] member);
+
+    /**
+     * 移除一个或多个成员
+     *
+     * @param key     key
+     * @param members 成员
+     * @return 移除的成员数
+     */
+    long zRem(String key, byte[]... members);
+}
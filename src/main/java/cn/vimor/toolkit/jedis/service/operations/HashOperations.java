@@ -1,7 +1,12 @@
 package cn.vimor.toolkit.jedis.service.operations;
 
+import cn.vimor.toolkit.jedis.cache.LoadOptions;
+import cn.vimor.toolkit.jedis.scan.ScanIterator;
+import cn.vimor.toolkit.jedis.scan.ScanOptions;
+
+import java.time.Duration;
 import java.util.Map;
-import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * 散列操作
@@ -9,66 +14,35 @@ import java.util.Set;
  * @author Jani
  * @date 2022/02/28
  */
-public interface HashOperations {
-
-    /**
-     * 为指定的key设定field/value对（键值对）。
-     *
-     * @param key 关键
-     * @param map 地图
-     */
-    void hSet(String key, Map<String, String> map);
+public interface HashOperations extends BaseHashOperations {
 
     /**
-     * 为指定的key设定field/value对（键值对）。
-     *
-     * @param key        key
-     * @param filedKey   Map-key
-     * @param filedValue 映射值
-     */
-    void hSet(String key, String filedKey, String filedValue);
-
-    /**
-     * 获取key中的全部filed的值
-     *
-     * @param key key
-     * @return {@link Map}<{@link String}, {@link String}>
-     */
-    Map<String, String> hGetAll(String key);
-
-    /**
-     * 获取key中的多个filed的值
+     * 读取整个散列，不存在时调用loader加载并整体写回，整个key以ttl过期。
+     * 同一JVM内的并发加载合并为一次loader调用，跨JVM由短期租约保证同一时刻只有一个实例加载。
      *
      * @param key    key
-     * @param keySet key集
+     * @param loader 加载器，返回null或空map时不写入缓存
+     * @param ttl    过期时间
      * @return {@link Map}<{@link String}, {@link String}>
      */
-    Map<String, String> hGet(String key, Set<String> keySet);
+    Map<String, String> hGetAllOrLoad(String key, Supplier<Map<String, String>> loader, Duration ttl);
 
     /**
-     * 返回指定的key中的field的值
+     * 读取整个散列，不存在时调用loader加载并整体写回，支持过期后返回旧值与概率提前刷新，见{@link LoadOptions}
      *
-     * @param key      key
-     * @param filedKey map-key
-     * @return {@link String}
-     */
-    String hGet(String key, String filedKey);
-
-    /**
-     * 判断指定的key中的filed是否存在
-     *
-     * @param key      key
-     * @param filedKey 提起key
-     * @return boolean
+     * @param key     key
+     * @param loader  加载器，返回null或空map时不写入缓存
+     * @param options 加载选项
+     * @return {@link Map}<{@link String}, {@link String}>
      */
-    Boolean hExists(String key, String filedKey);
+    Map<String, String> hGetAllOrLoad(String key, Supplier<Map<String, String>> loader, LoadOptions options);
 
     /**
-     * 用于删除哈希表 key 中的一个或多个指定字段，不存在的字段将被忽略。
+     * 按HSCAN惰性迭代散列的filed，内存中只保留一页，适合大散列
      *
-     * @param key   var1
-     * @param field 字段
-     * @return long
+     * @param key     key
+     * @param options 扫描选项
+     * @return {@link ScanIterator}
      */
-    long hDel(String key, String... field);
+    ScanIterator<Map.Entry<String, String>> hScan(String key, ScanOptions options);
 }
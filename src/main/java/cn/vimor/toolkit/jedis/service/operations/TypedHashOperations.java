@@ -0,0 +1,47 @@
+package cn.vimor.toolkit.jedis.service.operations;
+
+import java.util.Map;
+
+/**
+ * 类型化散列操作，filed的值经{@link cn.vimor.toolkit.jedis.codec.ValueSerializer}编码后以二进制读写
+ *
+ * @param <T> 值类型
+ * @author Jani
+ * @date 2026/10/17
+ */
+public interface TypedHashOperations<T> {
+
+    /**
+     * 将map中的filed一次写入散列
+     *
+     * @param key key
+     * @param map filed-值
+     */
+    void hSet(String key, Map<String, T> map);
+
+    /**
+     * 设置散列中filed的值
+     *
+     * @param key        key
+     * @param filedKey   filed
+     * @param filedValue 值
+     */
+    void hSet(String key, String filedKey, T filedValue);
+
+    /**
+     * 获取散列中filed的值
+     *
+     * @param key      key
+     * @param filedKey filed
+     * @return 值
+     */
+    T hGet(String key, String filedKey);
+
+    /**
+     * 获取整个散列
+     *
+     * @param key key
+     * @return {@link Map}
+     */
+    Map<String, T> hGetAll(String key);
+}
@@ -0,0 +1,48 @@
+package cn.vimor.toolkit.jedis.service.operations;
+
+import java.util.List;
+
+/**
+ * 类型化值操作，值经{@link cn.vimor.toolkit.jedis.codec.ValueSerializer}编码后以二进制读写
+ *
+ * @param <T> 值类型
+ * @author Jani
+ * @date 2026/10/17
+ */
+public interface TypedValueOperations<T> {
+
+    /**
+     * 返回key所关联的值
+     *
+     * @param key 键
+     * @return 当key不存在或解码失败时，返回null
+     */
+    T get(String key);
+
+    /**
+     * 将值value关联到key(key永不过期)
+     *
+     * @param key   键
+     * @param value 值
+     * @return 成功时返回OK
+     */
+    String set(String key, T value);
+
+    /**
+     * 将值value关联到key，并设置过期时间
+     *
+     * @param key     键
+     * @param seconds 过期时间，单位秒
+     * @param value   值
+     * @return 成功时返回OK
+     */
+    String setEx(String key, int seconds, T value);
+
+    /**
+     * 批量获取，结果顺序与keys一致，不存在的key对应null
+     *
+     * @param keys 键
+     * @return {@link List}
+     */
+    List<T> multiGet(List<String> keys);
+}
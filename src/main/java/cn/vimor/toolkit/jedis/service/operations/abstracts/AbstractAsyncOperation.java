@@ -0,0 +1,97 @@
+package cn.vimor.toolkit.jedis.service.operations.abstracts;
+
+import cn.vimor.toolkit.jedis.service.impl.AsyncExecutor;
+import cn.vimor.toolkit.jedis.service.impl.JedisServiceImpl;
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+import redis.clients.jedis.Jedis;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 异步操作
+ * <p>
+ * 在I/O执行器中借用连接直接执行命令；与同步操作记录日志后返回null不同，命令失败时future以原异常完成。
+ *
+ * @author Jani
+ * @date 2026/10/18
+ */
+public abstract class AbstractAsyncOperation {
+
+    protected static final String MESSAGE = "'key' must not be null and empty";
+
+    protected final JedisServiceImpl jedisService;
+
+    protected final AsyncExecutor executor;
+
+    protected AbstractAsyncOperation(JedisServiceImpl jedisService, AsyncExecutor executor) {
+        this.jedisService = jedisService;
+        this.executor = executor;
+    }
+
+    /**
+     * 在I/O执行器中执行读命令
+     *
+     * @param key     key
+     * @param command 命令
+     * @param <T>     结果类型
+     * @return {@link CompletableFuture}
+     */
+    protected <T> CompletableFuture<T> read(String key, Function<Jedis, T> command) {
+        return executor.supply(() -> {
+            AbstractAssertUtils.notEmpty(key, MESSAGE);
+            return call(command);
+        });
+    }
+
+    /**
+     * 在I/O执行器中执行写命令，执行后使key的近端缓存失效
+     *
+     * @param key     key
+     * @param command 命令
+     * @param <T>     结果类型
+     * @return {@link CompletableFuture}
+     */
+    protected <T> CompletableFuture<T> write(String key, Function<Jedis, T> command) {
+        return executor.supply(() -> {
+            AbstractAssertUtils.notEmpty(key, MESSAGE);
+            try {
+                return call(command);
+            } finally {
+                jedisService.invalidateNearCache(key);
+            }
+        });
+    }
+
+    /**
+     * 在I/O执行器中执行没有返回值的写命令，执行后使key的近端缓存失效
+     *
+     * @param key     key
+     * @param command 命令
+     * @return {@link CompletableFuture}
+     */
+    protected CompletableFuture<Void> run(String key, Consumer<Jedis> command) {
+        return write(key, jedis -> {
+            command.accept(jedis);
+            return null;
+        });
+    }
+
+    /**
+     * 借用连接执行命令，异常直接抛出
+     *
+     * @param command 命令
+     * @param <T>     结果类型
+     * @return 结果
+     */
+    protected <T> T call(Function<Jedis, T> command) {
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return command.apply(jedis);
+        } finally {
+            jedisService.closeJedis(jedis);
+        }
+    }
+}
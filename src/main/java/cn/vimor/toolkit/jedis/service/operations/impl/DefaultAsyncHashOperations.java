@@ -0,0 +1,101 @@
+package cn.vimor.toolkit.jedis.service.operations.impl;
+
+import cn.vimor.toolkit.jedis.cache.LoadOptions;
+import cn.vimor.toolkit.jedis.service.impl.AsyncExecutor;
+import cn.vimor.toolkit.jedis.service.impl.JedisServiceImpl;
+import cn.vimor.toolkit.jedis.service.operations.AsyncHashOperations;
+import cn.vimor.toolkit.jedis.service.operations.abstracts.AbstractAsyncOperation;
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+import org.springframework.util.ObjectUtils;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 默认散列操作(异步)，在I/O执行器中直接执行命令，命令失败时以异常完成
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class DefaultAsyncHashOperations extends AbstractAsyncOperation implements AsyncHashOperations {
+
+    /**
+     * 同步操作，批量读写与旁路缓存加载复用其实现
+     */
+    private final DefaultHashOperations operations;
+
+    public DefaultAsyncHashOperations(JedisServiceImpl jedisService, AsyncExecutor executor) {
+        super(jedisService, executor);
+        this.operations = new DefaultHashOperations(jedisService);
+    }
+
+    @Override
+    public CompletableFuture<Void> hSet(String key, Map<String, String> map) {
+        if (ObjectUtils.isEmpty(map)) {
+            return executor.run(() -> AbstractAssertUtils.notEmpty(key, MESSAGE));
+        }
+        return run(key, jedis -> operations.writeFields(jedis, key, map));
+    }
+
+    @Override
+    public CompletableFuture<Void> hSet(String key, String filedKey, String filedValue) {
+        return run(key, jedis -> jedis.hset(key, filedKey, filedValue));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, String>> hGetAll(String key) {
+        return read(key, jedis -> jedis.hgetAll(key));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, String>> hGet(String key, Set<String> keySet) {
+        if (ObjectUtils.isEmpty(keySet)) {
+            return executor.supply(() -> {
+                AbstractAssertUtils.notEmpty(key, MESSAGE);
+                return new HashMap<>(8);
+            });
+        }
+        return read(key, jedis -> operations.readFields(jedis, key, keySet));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Map<String, String>>> hMultiGet(List<String> keys, Set<String> keySet) {
+        return executor.supply(() -> {
+            AbstractAssertUtils.notEmpty(keys, MESSAGE);
+            AbstractAssertUtils.notEmpty(keySet, "'keySet' must have elements");
+            return call(jedis -> operations.readMulti(jedis, keys, keySet));
+        });
+    }
+
+    @Override
+    public CompletableFuture<String> hGet(String key, String filedKey) {
+        return read(key, jedis -> jedis.hget(key, filedKey));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> hExists(String key, String filedKey) {
+        return read(key, jedis -> jedis.hexists(key, filedKey));
+    }
+
+    @Override
+    public CompletableFuture<Long> hDel(String key, String... field) {
+        return write(key, jedis -> jedis.hdel(key, field));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, String>> hGetAllOrLoad(String key, Supplier<Map<String, String>> loader,
+            Duration ttl) {
+        return executor.supply(() -> operations.hGetAllOrLoad(key, loader, ttl));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, String>> hGetAllOrLoad(String key, Supplier<Map<String, String>> loader,
+            LoadOptions options) {
+        return executor.supply(() -> operations.hGetAllOrLoad(key, loader, options));
+    }
+}
@@ -0,0 +1,83 @@
+package cn.vimor.toolkit.jedis.service.operations.impl;
+
+import cn.vimor.toolkit.jedis.service.impl.AsyncExecutor;
+import cn.vimor.toolkit.jedis.service.impl.JedisServiceImpl;
+import cn.vimor.toolkit.jedis.service.operations.AsyncListOperations;
+import cn.vimor.toolkit.jedis.service.operations.abstracts.AbstractAsyncOperation;
+import cn.vimor.toolkit.jedis.util.StringArrayUtil;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 默认列表操作(异步)，在I/O执行器中直接执行命令，命令失败时以异常完成
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class DefaultAsyncListOperations extends AbstractAsyncOperation implements AsyncListOperations {
+
+    public DefaultAsyncListOperations(JedisServiceImpl jedisService, AsyncExecutor executor) {
+        super(jedisService, executor);
+    }
+
+    @Override
+    public CompletableFuture<Long> lLen(String key) {
+        return read(key, jedis -> jedis.llen(key));
+    }
+
+    @Override
+    public CompletableFuture<Long> lPush(String key, String... values) {
+        return write(key, jedis -> jedis.lpush(key, values));
+    }
+
+    @Override
+    public CompletableFuture<String> rPop(String key) {
+        return write(key, jedis -> jedis.rpop(key));
+    }
+
+    @Override
+    public CompletableFuture<List<String>> lRange(String key, int start, int stop) {
+        return read(key, jedis -> jedis.lrange(key, start, stop));
+    }
+
+    @Override
+    public CompletableFuture<String> ltrim(String key, int start, int stop) {
+        return write(key, jedis -> jedis.ltrim(key, start, stop));
+    }
+
+    @Override
+    public CompletableFuture<List<String>> get(String key) {
+        return read(key, jedis -> jedis.lrange(key, 0, -1));
+    }
+
+    @Override
+    public CompletableFuture<List<String>> get(String key, Long endRange) {
+        return read(key, jedis -> jedis.lrange(key, 0, endRange));
+    }
+
+    @Override
+    public CompletableFuture<List<String>> get(String key, Long startRange, Long endRange) {
+        return read(key, jedis -> jedis.lrange(key, startRange, endRange));
+    }
+
+    @Override
+    public CompletableFuture<String> lPop(String key) {
+        return write(key, jedis -> jedis.lpop(key));
+    }
+
+    @Override
+    public CompletableFuture<Void> lRem(String key, String value) {
+        return run(key, jedis -> jedis.lrem(key, 0L, value));
+    }
+
+    @Override
+    public CompletableFuture<Void> rPush(String key, String... item) {
+        return run(key, jedis -> jedis.rpush(key, item));
+    }
+
+    @Override
+    public CompletableFuture<Void> rPush(String key, List<String> list) {
+        return run(key, jedis -> jedis.rpush(key, StringArrayUtil.toArray(list)));
+    }
+}
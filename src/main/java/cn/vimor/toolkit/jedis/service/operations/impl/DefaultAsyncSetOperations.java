@@ -0,0 +1,58 @@
+package cn.vimor.toolkit.jedis.service.operations.impl;
+
+import cn.vimor.toolkit.jedis.service.impl.AsyncExecutor;
+import cn.vimor.toolkit.jedis.service.impl.JedisServiceImpl;
+import cn.vimor.toolkit.jedis.service.operations.AsyncSetOperations;
+import cn.vimor.toolkit.jedis.service.operations.abstracts.AbstractAsyncOperation;
+import cn.vimor.toolkit.jedis.util.StringArrayUtil;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 默认集合操作(异步)，在I/O执行器中直接执行命令，命令失败时以异常完成
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class DefaultAsyncSetOperations extends AbstractAsyncOperation implements AsyncSetOperations {
+
+    public DefaultAsyncSetOperations(JedisServiceImpl jedisService, AsyncExecutor executor) {
+        super(jedisService, executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> batchAdd(String key, Set<String> values) {
+        return run(key, jedis -> jedis.sadd(key, StringArrayUtil.toArray(values)));
+    }
+
+    @Override
+    public CompletableFuture<Void> add(String key, String setValue) {
+        return run(key, jedis -> jedis.sadd(key, setValue));
+    }
+
+    @Override
+    public CompletableFuture<Set<String>> members(String key) {
+        return read(key, jedis -> jedis.smembers(key));
+    }
+
+    @Override
+    public CompletableFuture<Long> sCard(String key) {
+        return read(key, jedis -> jedis.scard(key));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> isMember(String key, String member) {
+        return read(key, jedis -> jedis.sismember(key, member));
+    }
+
+    @Override
+    public CompletableFuture<Void> sRem(String key, String... member) {
+        return run(key, jedis -> jedis.srem(key, member));
+    }
+
+    @Override
+    public CompletableFuture<String> sRandMember(String key) {
+        return read(key, jedis -> jedis.srandmember(key));
+    }
+}
@@ -0,0 +1,103 @@
+package cn.vimor.toolkit.jedis.service.operations.impl;
+
+import cn.vimor.toolkit.jedis.cache.LoadOptions;
+import cn.vimor.toolkit.jedis.service.impl.AsyncExecutor;
+import cn.vimor.toolkit.jedis.service.impl.JedisServiceImpl;
+import cn.vimor.toolkit.jedis.service.operations.AsyncValueOperations;
+import cn.vimor.toolkit.jedis.service.operations.abstracts.AbstractAsyncOperation;
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 默认值操作(异步)，在I/O执行器中直接执行命令，命令失败时以异常完成
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class DefaultAsyncValueOperations extends AbstractAsyncOperation implements AsyncValueOperations {
+
+    /**
+     * 同步操作，批量读写与旁路缓存加载复用其实现
+     */
+    private final DefaultValueOperations operations;
+
+    public DefaultAsyncValueOperations(JedisServiceImpl jedisService, AsyncExecutor executor) {
+        super(jedisService, executor);
+        this.operations = new DefaultValueOperations(jedisService);
+    }
+
+    @Override
+    public CompletableFuture<String> get(String key) {
+        return read(key, jedis -> jedis.get(key));
+    }
+
+    @Override
+    public CompletableFuture<String> set(String key, String value) {
+        return write(key, jedis -> jedis.set(key, value));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> setBit(String key, long offset, boolean value) {
+        return write(key, jedis -> jedis.setbit(key, offset, value));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> getBit(String key, long offset) {
+        return read(key, jedis -> jedis.getbit(key, offset));
+    }
+
+    @Override
+    public CompletableFuture<Long> bitCount(String key) {
+        return read(key, jedis -> jedis.bitcount(key));
+    }
+
+    @Override
+    public CompletableFuture<String> setEx(String key, int seconds, String value) {
+        return write(key, jedis -> jedis.setex(key, seconds, value));
+    }
+
+    @Override
+    public CompletableFuture<Long> increment(String key) {
+        return write(key, jedis -> jedis.incr(key));
+    }
+
+    @Override
+    public CompletableFuture<Long> incrementBy(String key, long delta) {
+        return write(key, jedis -> jedis.incrBy(key, delta));
+    }
+
+    @Override
+    public CompletableFuture<Double> incrementByFloat(String key, double delta) {
+        return write(key, jedis -> jedis.incrByFloat(key, delta));
+    }
+
+    @Override
+    public CompletableFuture<List<String>> multiGet(List<String> keys) {
+        return executor.supply(() -> {
+            AbstractAssertUtils.notEmpty(keys, MESSAGE);
+            return call(jedis -> jedis.mget(keys.toArray(new String[0])));
+        });
+    }
+
+    @Override
+    public CompletableFuture<List<String>> piplineGet(List<String> keys) {
+        return executor.supply(() -> {
+            AbstractAssertUtils.notEmpty(keys, MESSAGE);
+            return operations.readBulk(keys);
+        });
+    }
+
+    @Override
+    public CompletableFuture<String> getOrLoad(String key, Supplier<String> loader, Duration ttl) {
+        return executor.supply(() -> operations.getOrLoad(key, loader, ttl));
+    }
+
+    @Override
+    public CompletableFuture<String> getOrLoad(String key, Supplier<String> loader, LoadOptions options) {
+        return executor.supply(() -> operations.getOrLoad(key, loader, options));
+    }
+}
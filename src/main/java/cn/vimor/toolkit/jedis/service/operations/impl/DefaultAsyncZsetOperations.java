@@ -0,0 +1,123 @@
+package cn.vimor.toolkit.jedis.service.operations.impl;
+
+import cn.vimor.toolkit.jedis.service.impl.AsyncExecutor;
+import cn.vimor.toolkit.jedis.service.impl.JedisServiceImpl;
+import cn.vimor.toolkit.jedis.service.operations.AsyncZsetOperations;
+import cn.vimor.toolkit.jedis.service.operations.abstracts.AbstractAsyncOperation;
+import cn.vimor.toolkit.jedis.util.StringArrayUtil;
+import redis.clients.jedis.resps.Tuple;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 默认有序集合操作(异步)，在I/O执行器中直接执行命令，命令失败时以异常完成
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class DefaultAsyncZsetOperations extends AbstractAsyncOperation implements AsyncZsetOperations {
+
+    public DefaultAsyncZsetOperations(JedisServiceImpl jedisService, AsyncExecutor executor) {
+        super(jedisService, executor);
+    }
+
+    @Override
+    public CompletableFuture<Long> zAdd(String key, double score, String member) {
+        return write(key, jedis -> jedis.zadd(key, score, member));
+    }
+
+    @Override
+    public CompletableFuture<Long> zAdd(String key, Map<String, Double> scoreMembers) {
+        return write(key, jedis -> jedis.zadd(key, scoreMembers));
+    }
+
+    @Override
+    public CompletableFuture<Double> zIncrement(String key, double score, String member) {
+        return write(key, jedis -> jedis.zincrby(key, score, member));
+    }
+
+    @Override
+    public CompletableFuture<List<String>> zRange(String key) {
+        return read(key, jedis -> jedis.zrange(key, 0L, -1L));
+    }
+
+    @Override
+    public CompletableFuture<List<String>> zRange(String key, Long end) {
+        return read(key, jedis -> jedis.zrange(key, 0L, end));
+    }
+
+    @Override
+    public CompletableFuture<List<String>> zRange(String key, Long start, Long end) {
+        return read(key, jedis -> jedis.zrange(key, start, end));
+    }
+
+    @Override
+    public CompletableFuture<List<Tuple>> zRangeWithScores(String key, Long start, Long end) {
+        return read(key, jedis -> jedis.zrangeWithScores(key, start, end));
+    }
+
+    @Override
+    public CompletableFuture<List<Tuple>> zRangeWithScores(String key, double min, double max) {
+        return read(key, jedis -> jedis.zrangeByScoreWithScores(key, min, max));
+    }
+
+    @Override
+    public CompletableFuture<List<Tuple>> zRangeWithScores(String key, double min, double max, Integer start,
+            Integer end) {
+        return read(key, jedis -> jedis.zrangeByScoreWithScores(key, min, max, start, end));
+    }
+
+    @Override
+    public CompletableFuture<List<Tuple>> zRevRangeWithScores(String key, double max, double min, Integer start,
+            Integer end) {
+        return read(key, jedis -> jedis.zrevrangeByScoreWithScores(key, max, min, start, end));
+    }
+
+    @Override
+    public CompletableFuture<Void> zRem(String key, String value) {
+        return run(key, jedis -> jedis.zrem(key, value));
+    }
+
+    @Override
+    public CompletableFuture<Void> zRem(String key, Set<String> values) {
+        return run(key, jedis -> jedis.zrem(key, StringArrayUtil.toArray(values)));
+    }
+
+    @Override
+    public CompletableFuture<Double> zScore(String key, String member) {
+        return read(key, jedis -> jedis.zscore(key, member));
+    }
+
+    @Override
+    public CompletableFuture<List<String>> zRangeByScore(String key, double min, double max) {
+        return read(key, jedis -> jedis.zrangeByScore(key, min, max));
+    }
+
+    @Override
+    public CompletableFuture<Long> zRemRangeByScore(String key, double min, double max) {
+        return write(key, jedis -> jedis.zremrangeByScore(key, min, max));
+    }
+
+    @Override
+    public CompletableFuture<List<String>> rangeByScore(String key, double min, double max, int offset, int count) {
+        return read(key, jedis -> jedis.zrangeByScore(key, min, max, offset, count));
+    }
+
+    @Override
+    public CompletableFuture<Long> count(String key, double min, double max) {
+        return read(key, jedis -> jedis.zlexcount(key, min + "", max + ""));
+    }
+
+    @Override
+    public CompletableFuture<Long> zRank(String key, String member) {
+        return read(key, jedis -> jedis.zrank(key, member));
+    }
+
+    @Override
+    public CompletableFuture<Long> zRevRank(String key, String member) {
+        return read(key, jedis -> jedis.zrevrank(key, member));
+    }
+}
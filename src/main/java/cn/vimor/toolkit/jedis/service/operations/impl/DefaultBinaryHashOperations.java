@@ -0,0 +1,145 @@
+package cn.vimor.toolkit.jedis.service.operations.impl;
+
+import cn.vimor.toolkit.jedis.service.impl.JedisServiceImpl;
+import cn.vimor.toolkit.jedis.service.operations.BinaryHashOperations;
+import cn.vimor.toolkit.jedis.service.operations.abstracts.AbstractBashOperation;
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+import cn.vimor.toolkit.jedis.util.BinaryUtil;
+import cn.vimor.toolkit.jedis.util.ChunkUtil;
+import cn.vimor.toolkit.jedis.util.StringArrayUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.ObjectUtils;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * 默认二进制散列操作
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class DefaultBinaryHashOperations extends AbstractBashOperation implements BinaryHashOperations {
+
+    private static final Logger logger = LoggerFactory.getLogger(JedisServiceImpl.class);
+
+    private final JedisServiceImpl jedisService;
+
+    private final String message = "'key' must not be null and empty";
+
+    public DefaultBinaryHashOperations(JedisServiceImpl jedisService) {
+        this.jedisService = jedisService;
+    }
+
+    @Override
+    protected void close(Jedis jedis) {
+        jedisService.closeJedis(jedis);
+    }
+
+    @Override
+    public void hSet(String key, Map<String, byte[]> map) {
+        AbstractAssertUtils.notEmpty(key, message);
+        if (ObjectUtils.isEmpty(map)) {
+            return;
+        }
+
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            jedis.hset(BinaryUtil.encode(key), BinaryUtil.encodeKeys(map));
+        } catch (JedisException e) {
+            logger.error("'hSet' key fail, key: {} , size:{}", key, map.size());
+            logger.error(e.getMessage(), e);
+        } finally {
+            jedisService.invalidateNearCache(key);
+            close(jedis);
+        }
+    }
+
+    @Override
+    public void hSet(String key, String filedKey, byte[] filedValue) {
+        AbstractAssertUtils.notEmpty(key, message);
+
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            jedis.hset(BinaryUtil.encode(key), BinaryUtil.encode(filedKey), filedValue);
+        } catch (JedisException e) {
+            logger.error("'hSet' key fail, key: {} , filedKey:{}", key, filedKey);
+            logger.error(e.getMessage(), e);
+        } finally {
+            jedisService.invalidateNearCache(key);
+            close(jedis);
+        }
+    }
+
+    @Override
+    public byte[] hGet(String key, String filedKey) {
+        AbstractAssertUtils.notEmpty(key, message);
+
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return jedis.hget(BinaryUtil.encode(key), BinaryUtil.encode(filedKey));
+        } catch (JedisException e) {
+            logger.error("'hGet' key fail, key: {} , filedKey:{}", key, filedKey);
+            logger.error(e.getMessage(), e);
+        } finally {
+            close(jedis);
+        }
+        return null;
+    }
+
+    @Override
+    public Map<String, byte[]> hGet(String key, Set<String> keySet) {
+        AbstractAssertUtils.notEmpty(key, message);
+        if (ObjectUtils.isEmpty(keySet)) {
+            return new HashMap<>(8);
+        }
+
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            String[] fields = StringArrayUtil.toArray(keySet);
+            byte[][] binaryFields = new byte[fields.length][];
+            for (int i = 0; i < fields.length; i++) {
+                binaryFields[i] = BinaryUtil.encode(fields[i]);
+            }
+            List<byte[]> values = jedis.hmget(BinaryUtil.encode(key), binaryFields);
+            Map<String, byte[]> map = new HashMap<>(ChunkUtil.capacity(fields.length));
+            for (int i = 0; i < fields.length; i++) {
+                map.put(fields[i], values.get(i));
+            }
+            return map;
+        } catch (JedisException e) {
+            logger.error("'hGet' key fail, key: {} , keySet:{}", key, keySet);
+            logger.error(e.getMessage(), e);
+        } finally {
+            close(jedis);
+        }
+        return null;
+    }
+
+    @Override
+    public Map<String, byte[]> hGetAll(String key) {
+        AbstractAssertUtils.notEmpty(key, message);
+
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return BinaryUtil.decodeKeys(jedis.hgetAll(BinaryUtil.encode(key)));
+        } catch (JedisException e) {
+            logger.error("'hGetAll' key fail, key: {}", key);
+            logger.error(e.getMessage(), e);
+        } finally {
+            close(jedis);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,123 @@
+package cn.vimor.toolkit.jedis.service.operations.impl;
+
+import cn.vimor.toolkit.jedis.service.impl.JedisServiceImpl;
+import cn.vimor.toolkit.jedis.service.operations.BinaryListOperations;
+import cn.vimor.toolkit.jedis.service.operations.abstracts.AbstractBashOperation;
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+import cn.vimor.toolkit.jedis.util.BinaryUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.List;
+
+
+/**
+ * 默认二进制列表操作
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class DefaultBinaryListOperations extends AbstractBashOperation implements BinaryListOperations {
+
+    private static final Logger logger = LoggerFactory.getLogger(JedisServiceImpl.class);
+
+    private final JedisServiceImpl jedisService;
+
+    private final String message = "'key' must not be null and empty";
+
+    public DefaultBinaryListOperations(JedisServiceImpl jedisService) {
+        this.jedisService = jedisService;
+    }
+
+    @Override
+    protected void close(Jedis jedis) {
+        jedisService.closeJedis(jedis);
+    }
+
+    @Override
+    public long lPush(String key, byte[]... values) {
+        AbstractAssertUtils.notEmpty(key, message);
+
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return jedis.lpush(BinaryUtil.encode(key), values);
+        } catch (JedisException e) {
+            logger.error("'lPush' key fail, key: {}", key);
+            logger.error(e.getMessage(), e);
+        } finally {
+            close(jedis);
+        }
+        return 0;
+    }
+
+    @Override
+    public long rPush(String key, byte[]... values) {
+        AbstractAssertUtils.notEmpty(key, message);
+
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return jedis.rpush(BinaryUtil.encode(key), values);
+        } catch (JedisException e) {
+            logger.error("'rPush' key fail, key: {}", key);
+            logger.error(e.getMessage(), e);
+        } finally {
+            close(jedis);
+        }
+        return 0;
+    }
+
+    @Override
+    public byte[] lPop(String key) {
+        AbstractAssertUtils.notEmpty(key, message);
+
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return jedis.lpop(BinaryUtil.encode(key));
+        } catch (JedisException e) {
+            logger.error("'lPop' key fail, key: {}", key);
+            logger.error(e.getMessage(), e);
+        } finally {
+            close(jedis);
+        }
+        return null;
+    }
+
+    @Override
+    public byte[] rPop(String key) {
+        AbstractAssertUtils.notEmpty(key, message);
+
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return jedis.rpop(BinaryUtil.encode(key));
+        } catch (JedisException e) {
+            logger.error("'rPop' key fail, key: {}", key);
+            logger.error(e.getMessage(), e);
+        } finally {
+            close(jedis);
+        }
+        return null;
+    }
+
+    @Override
+    public List<byte[]> lRange(String key, long start, long stop) {
+        AbstractAssertUtils.notEmpty(key, message);
+
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return jedis.lrange(BinaryUtil.encode(key), start, stop);
+        } catch (JedisException e) {
+            logger.error("'lRange' key fail, key: {}, start: {}, stop: {}", key, start, stop);
+            logger.error(e.getMessage(), e);
+        } finally {
+            close(jedis);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,106 @@
+package cn.vimor.toolkit.jedis.service.operations.impl;
+
+import cn.vimor.toolkit.jedis.service.impl.JedisServiceImpl;
+import cn.vimor.toolkit.jedis.service.operations.BinarySetOperations;
+import cn.vimor.toolkit.jedis.service.operations.abstracts.AbstractBashOperation;
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+import cn.vimor.toolkit.jedis.util.BinaryUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.Set;
+
+
+/**
+ * 默认二进制集合操作
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class DefaultBinarySetOperations extends AbstractBashOperation implements BinarySetOperations {
+
+    private static final Logger logger = LoggerFactory.getLogger(JedisServiceImpl.class);
+
+    private final JedisServiceImpl jedisService;
+
+    private final String message = "'key' must not be null and empty";
+
+    public DefaultBinarySetOperations(JedisServiceImpl jedisService) {
+        this.jedisService = jedisService;
+    }
+
+    @Override
+    protected void close(Jedis jedis) {
+        jedisService.closeJedis(jedis);
+    }
+
+    @Override
+    public long add(String key, byte[]... members) {
+        AbstractAssertUtils.notEmpty(key, message);
+
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return jedis.sadd(BinaryUtil.encode(key), members);
+        } catch (JedisException e) {
+            logger.error("'sAdd' key fail, key: {}", key);
+            logger.error(e.getMessage(), e);
+        } finally {
+            close(jedis);
+        }
+        return 0;
+    }
+
+    @Override
+    public Set<byte[]> members(String key) {
+        AbstractAssertUtils.notEmpty(key, message);
+
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return jedis.smembers(BinaryUtil.encode(key));
+        } catch (JedisException e) {
+            logger.error("'sMembers' key fail, key: {}", key);
+            logger.error(e.getMessage(), e);
+        } finally {
+            close(jedis);
+        }
+        return null;
+    }
+
+    @Override
+    public Boolean isMember(String key, byte[] member) {
+        AbstractAssertUtils.notEmpty(key, message);
+
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return jedis.sismember(BinaryUtil.encode(key), member);
+        } catch (JedisException e) {
+            logger.error("'sIsMember' key fail, key: {}", key);
+            logger.error(e.getMessage(), e);
+        } finally {
+            close(jedis);
+        }
+        return null;
+    }
+
+    @Override
+    public long sRem(String key, byte[]... members) {
+        AbstractAssertUtils.notEmpty(key, message);
+
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return jedis.srem(BinaryUtil.encode(key), members);
+        } catch (JedisException e) {
+            logger.error("'sRem' key fail, key: {}", key);
+            logger.error(e.getMessage(), e);
+        } finally {
+            close(jedis);
+        }
+        return 0;
+    }
+}
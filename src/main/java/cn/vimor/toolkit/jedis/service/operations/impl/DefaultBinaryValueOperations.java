@@ -0,0 +1,127 @@
+package cn.vimor.toolkit.jedis.service.operations.impl;
+
+import cn.vimor.toolkit.jedis.service.impl.JedisServiceImpl;
+import cn.vimor.toolkit.jedis.service.operations.BinaryValueOperations;
+import cn.vimor.toolkit.jedis.service.operations.abstracts.AbstractBashOperation;
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+import cn.vimor.toolkit.jedis.util.BinaryUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+
+/**
+ * 默认二进制值操作
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class DefaultBinaryValueOperations extends AbstractBashOperation implements BinaryValueOperations {
+
+    private static final Logger logger = LoggerFactory.getLogger(JedisServiceImpl.class);
+
+    private final JedisServiceImpl jedisService;
+
+    private final String message = "'key' must not be null and empty";
+
+    public DefaultBinaryValueOperations(JedisServiceImpl jedisService) {
+        this.jedisService = jedisService;
+    }
+
+    @Override
+    protected void close(Jedis jedis) {
+        jedisService.closeJedis(jedis);
+    }
+
+    @Override
+    public byte[] get(String key) {
+        AbstractAssertUtils.notEmpty(key, message);
+
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return jedis.get(BinaryUtil.encode(key));
+        } catch (JedisException e) {
+            logger.error("'get' key fail, key: {}", key);
+            logger.error(e.getMessage(), e);
+        } finally {
+            close(jedis);
+        }
+        return null;
+    }
+
+    @Override
+    public String set(String key, byte[] value) {
+        AbstractAssertUtils.notEmpty(key, message);
+
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return jedis.set(BinaryUtil.encode(key), value);
+        } catch (JedisException e) {
+            logger.error("'set' key fail, key: {}, size: {}", key, value == null ? 0 : value.length);
+            logger.error(e.getMessage(), e);
+        } finally {
+            jedisService.invalidateNearCache(key);
+            close(jedis);
+        }
+        return null;
+    }
+
+    @Override
+    public String set(String key, ByteBuffer value) {
+        AbstractAssertUtils.notEmpty(key, message);
+
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return jedis.set(BinaryUtil.encode(key), BinaryUtil.toArray(value));
+        } catch (JedisException e) {
+            logger.error("'set' key fail, key: {}, size: {}", key, value.remaining());
+            logger.error(e.getMessage(), e);
+        } finally {
+            jedisService.invalidateNearCache(key);
+            close(jedis);
+        }
+        return null;
+    }
+
+    @Override
+    public String setEx(String key, int seconds, byte[] value) {
+        AbstractAssertUtils.notEmpty(key, message);
+
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return jedis.setex(BinaryUtil.encode(key), seconds, value);
+        } catch (JedisException e) {
+            logger.error("'setex' key fail, key: {}, seconds: {}", key, seconds);
+            logger.error(e.getMessage(), e);
+        } finally {
+            jedisService.invalidateNearCache(key);
+            close(jedis);
+        }
+        return null;
+    }
+
+    @Override
+    public List<byte[]> multiGet(List<String> keys) {
+        AbstractAssertUtils.notEmpty(keys, message);
+
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return jedis.mget(BinaryUtil.encode(keys));
+        } catch (JedisException e) {
+            logger.error("'multiGet' key fail, key size: {}", keys.size());
+            logger.error(e.getMessage(), e);
+        } finally {
+            close(jedis);
+        }
+        return null;
+    }
+}
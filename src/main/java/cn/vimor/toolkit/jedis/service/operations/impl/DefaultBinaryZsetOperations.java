@@ -0,0 +1,124 @@
+package cn.vimor.toolkit.jedis.service.operations.impl;
+
+import cn.vimor.toolkit.jedis.service.impl.JedisServiceImpl;
+import cn.vimor.toolkit.jedis.service.operations.BinaryZsetOperations;
+import cn.vimor.toolkit.jedis.service.operations.abstracts.AbstractBashOperation;
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+import cn.vimor.toolkit.jedis.util.BinaryUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.resps.Tuple;
+
+import java.util.List;
+
+
+/**
+ * 默认二进制有序集合操作
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class DefaultBinaryZsetOperations extends AbstractBashOperation implements BinaryZsetOperations {
+
+    private static final Logger logger = LoggerFactory.getLogger(JedisServiceImpl.class);
+
+    private final JedisServiceImpl jedisService;
+
+    private final String message = "'key' must not be null and empty";
+
+    public DefaultBinaryZsetOperations(JedisServiceImpl jedisService) {
+        this.jedisService = jedisService;
+    }
+
+    @Override
+    protected void close(Jedis jedis) {
+        jedisService.closeJedis(jedis);
+    }
+
+    @Override
+    public long zAdd(String key, double score, byte[] member) {
+        AbstractAssertUtils.notEmpty(key, message);
+
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return jedis.zadd(BinaryUtil.encode(key), score, member);
+        } catch (JedisException e) {
+            logger.error("'zAdd' key fail, key: {}, score: {}", key, score);
+            logger.error(e.getMessage(), e);
+        } finally {
+            close(jedis);
+        }
+        return 0;
+    }
+
+    @Override
+    public List<byte[]> zRange(String key, long start, long end) {
+        AbstractAssertUtils.notEmpty(key, message);
+
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return jedis.zrange(BinaryUtil.encode(key), start, end);
+        } catch (JedisException e) {
+            logger.error("'zRange' key fail, key: {}, start: {}, end: {}", key, start, end);
+            logger.error(e.getMessage(), e);
+        } finally {
+            close(jedis);
+        }
+        return null;
+    }
+
+    @Override
+    public List<Tuple> zRangeWithScores(String key, long start, long end) {
+        AbstractAssertUtils.notEmpty(key, message);
+
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return jedis.zrangeWithScores(BinaryUtil.encode(key), start, end);
+        } catch (JedisException e) {
+            logger.error("'zRangeWithScores' key fail, key: {}, start: {}, end: {}", key, start, end);
+            logger.error(e.getMessage(), e);
+        } finally {
+            close(jedis);
+        }
+        return null;
+    }
+
+    @Override
+    public Double zScore(String key, byte[] member) {
+        AbstractAssertUtils.notEmpty(key, message);
+
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return jedis.zscore(BinaryUtil.encode(key), member);
+        } catch (JedisException e) {
+            logger.error("'zScore' key fail, key: {}", key);
+            logger.error(e.getMessage(), e);
+        } finally {
+            close(jedis);
+        }
+        return null;
+    }
+
+    @Override
+    public long zRem(String key, byte[]... members) {
+        AbstractAssertUtils.notEmpty(key, message);
+
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return jedis.zrem(BinaryUtil.encode(key), members);
+        } catch (JedisException e) {
+            logger.error("'zRem' key fail, key: {}", key);
+            logger.error(e.getMessage(), e);
+        } finally {
+            close(jedis);
+        }
+        return 0;
+    }
+}
@@ -1,17 +1,36 @@
 package cn.vimor.toolkit.jedis.service.operations.impl;
 
+import cn.vimor.toolkit.jedis.cache.CacheAsideLoader;
+import cn.vimor.toolkit.jedis.cache.LoadOptions;
+import cn.vimor.toolkit.jedis.cache.NearCache;
+import cn.vimor.toolkit.jedis.pipeline.AutoPipeliningExecutor;
+import cn.vimor.toolkit.jedis.scan.ScanIterator;
+import cn.vimor.toolkit.jedis.scan.ScanOptions;
 import cn.vimor.toolkit.jedis.service.impl.JedisServiceImpl;
 import cn.vimor.toolkit.jedis.service.operations.HashOperations;
 import cn.vimor.toolkit.jedis.service.operations.abstracts.AbstractBashOperation;
 import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+import cn.vimor.toolkit.jedis.util.ChunkUtil;
+import cn.vimor.toolkit.jedis.util.HashUtil;
+import cn.vimor.toolkit.jedis.util.StringArrayUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.util.ObjectUtils;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.params.ScanParams;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 
 /**
@@ -28,40 +47,98 @@ public class DefaultHashOperations extends AbstractBashOperation implements Hash
 
     private final String message = "'key' must not be null and empty";
 
+    /**
+     * 整体替换hash并设置过期：KEYS为hash，ARGV为过期时间(毫秒)及依次排列的字段与值；
+     * 在同一个脚本中完成，其他读取方不会读到已删除或未设置过期的hash
+     */
+    private static final String REPLACE_HASH_SCRIPT = "redis.call('del', KEYS[1]) "
+            + "for i = 2, #ARGV, 2 do "
+            + "redis.call('hset', KEYS[1], ARGV[i], ARGV[i + 1]) "
+            + "end "
+            + "return redis.call('pexpire', KEYS[1], ARGV[1])";
+
+    /**
+     * hGetAllOrLoad的读写方式：HGETALL与PTTL一次往返读取，整体替换后设置过期
+     */
+    private static final CacheAsideLoader.CacheStore<Map<String, String>> HASH_STORE =
+            new CacheAsideLoader.CacheStore<Map<String, String>>() {
+                @Override
+                public CacheAsideLoader.Entry<Map<String, String>> read(Jedis jedis, String key) {
+                    Pipeline pipeline = jedis.pipelined();
+                    Response<Map<String, String>> value = pipeline.hgetAll(key);
+                    Response<Long> pttl = pipeline.pttl(key);
+                    pipeline.sync();
+                    Map<String, String> map = value.get();
+                    return new CacheAsideLoader.Entry<>(map.isEmpty() ? null : map, pttl.get());
+                }
+
+                @Override
+                public void write(Jedis jedis, String key, Map<String, String> value, long retainMillis) {
+                    if (value.isEmpty()) {
+                        return;
+                    }
+                    List<String> args = new ArrayList<>(value.size() * 2 + 1);
+                    args.add(String.valueOf(retainMillis));
+                    for (Map.Entry<String, String> field : value.entrySet()) {
+                        args.add(field.getKey());
+                        args.add(field.getValue());
+                    }
+                    jedis.eval(REPLACE_HASH_SCRIPT, Collections.singletonList(key), args);
+                }
+            };
+
     public DefaultHashOperations(JedisServiceImpl jedisService) {
         this.jedisService = jedisService;
     }
 
     @Override
     protected void close(Jedis jedis) {
-        if (jedis != null) {
-            try {
-                jedis.close();
-            } catch (JedisException e) {
-                logger.error("ShardedJedis close fail", e);
-            }
-        }
+        jedisService.closeJedis(jedis);
     }
 
     @Override
     public void hSet(String key, Map<String, String> map) {
         AbstractAssertUtils.notEmpty(key, message);
-
+        if (ObjectUtils.isEmpty(map)) {
+            return;
+        }
         Jedis jedis = null;
         try {
             jedis = this.jedisService.getJedis();
-            Set<String> keySet = map.keySet();
-            for (String mapKey : keySet) {
-                jedis.hset(key, mapKey, map.get(mapKey));
-            }
+            writeFields(jedis, key, map);
         } catch (JedisException e) {
-            logger.error("'hSet' key fail, key: {} , value:{}", key, map);
+            logger.error("'hSet' key fail, key: {} , size:{}", key, map.size());
             logger.error(e.getMessage(), e);
         } finally {
+            jedisService.invalidateNearCache(key);
             close(jedis);
         }
     }
 
+    /**
+     * 分块写入多个filed，失败时抛出异常
+     *
+     * @param jedis jedis
+     * @param key   key
+     * @param map   filed与值
+     */
+    void writeFields(Jedis jedis, String key, Map<String, String> map) {
+        List<Map<String, String>> chunks = ChunkUtil.split(map, jedisService.getBulkChunkSize());
+        if (chunks.size() == 1) {
+            jedis.hset(key, map);
+            return;
+        }
+        Pipeline pipeline = jedis.pipelined();
+        List<Response<Long>> responses = new ArrayList<>(chunks.size());
+        for (Map<String, String> chunk : chunks) {
+            responses.add(pipeline.hset(key, chunk));
+        }
+        pipeline.sync();
+        for (Response<Long> response : responses) {
+            response.get();
+        }
+    }
+
     @Override
     public void hSet(String key, String filedKey, String filedValue) {
         AbstractAssertUtils.notEmpty(key, message);
@@ -74,6 +151,7 @@ public class DefaultHashOperations extends AbstractBashOperation implements Hash
             logger.error("'hSet' key fail, key: {} , value:{}", filedKey, filedValue);
             logger.error(e.getMessage(), e);
         } finally {
+            jedisService.invalidateNearCache(key);
             close(jedis);
         }
     }
@@ -82,49 +160,87 @@ public class DefaultHashOperations extends AbstractBashOperation implements Hash
     public Map<String, String> hGetAll(String key) {
         AbstractAssertUtils.notEmpty(key, message);
 
-        Jedis jedis = null;
         try {
-            jedis = this.jedisService.getJedis();
-            return jedis.hgetAll(key);
+            NearCache nearCache = jedisService.getNearCache();
+            if (nearCache != null && nearCache.accepts(key)) {
+                //缓存的map在多个调用方之间共享，返回副本
+                Map<String, String> map = nearCache.get(key, NearCache.HASH_ALL, () -> readAll(key));
+                return map == null ? null : new HashMap<>(map);
+            }
+            return readAll(key);
         } catch (JedisException e) {
             logger.error("'hGetAll' key fail, key: {}", key);
             logger.error(e.getMessage(), e);
+        }
+        return null;
+    }
+
+    private Map<String, String> readAll(String key) {
+        Jedis jedis = null;
+        try {
+            jedis = this.jedisService.getJedis();
+            return jedis.hgetAll(key);
         } finally {
             close(jedis);
         }
-        return null;
     }
 
     @Override
     public Map<String, String> hGet(String key, Set<String> keySet) {
         AbstractAssertUtils.notEmpty(key, message);
-        Map<String, String> map = null;
+        if (ObjectUtils.isEmpty(keySet)) {
+            return new HashMap<>(8);
+        }
         Jedis jedis = null;
         try {
             jedis = this.jedisService.getJedis();
-            Map<String, String> tempMap = jedis.hgetAll(key);
-            for (String mapKey : keySet) {
-                map = new HashMap<>(8);
-                map.put(mapKey, tempMap.get(mapKey));
-            }
+            return readFields(jedis, key, keySet);
         } catch (JedisException e) {
             logger.error("'hGet' key fail, key: {} , keySet:{}", key, keySet);
             logger.error(e.getMessage(), e);
         } finally {
             close(jedis);
         }
+        return null;
+    }
+
+    /**
+     * 分块读取多个filed，失败时抛出异常
+     *
+     * @param jedis  jedis
+     * @param key    key
+     * @param keySet filed
+     * @return filed与值
+     */
+    Map<String, String> readFields(Jedis jedis, String key, Set<String> keySet) {
+        String[] fields = StringArrayUtil.toArray(keySet);
+        List<String[]> chunks = ChunkUtil.split(fields, jedisService.getBulkChunkSize());
+        if (chunks.size() == 1) {
+            return HashUtil.toMap(fields, jedis.hmget(key, fields));
+        }
+        Pipeline pipeline = jedis.pipelined();
+        List<Response<List<String>>> responses = new ArrayList<>(chunks.size());
+        for (String[] chunk : chunks) {
+            responses.add(pipeline.hmget(key, chunk));
+        }
+        pipeline.sync();
+        Map<String, String> map = new HashMap<>(ChunkUtil.capacity(fields.length));
+        for (int i = 0; i < chunks.size(); i++) {
+            map.putAll(HashUtil.toMap(chunks.get(i), responses.get(i).get()));
+        }
         return map;
     }
 
     @Override
-    public String hGet(String key, String filedKey) {
-        AbstractAssertUtils.notEmpty(key, message);
+    public Map<String, Map<String, String>> hMultiGet(List<String> keys, Set<String> keySet) {
+        AbstractAssertUtils.notEmpty(keys, message);
+        AbstractAssertUtils.notEmpty(keySet, "'keySet' must have elements");
         Jedis jedis = null;
         try {
             jedis = this.jedisService.getJedis();
-            return jedis.hget(key, filedKey);
+            return readMulti(jedis, keys, keySet);
         } catch (JedisException e) {
-            logger.error("'hGet' key fail, key: {} , filedKey:{}", key, filedKey);
+            logger.error("'hMultiGet' key fail, key size: {} , keySet:{}", keys.size(), keySet);
             logger.error(e.getMessage(), e);
         } finally {
             close(jedis);
@@ -132,6 +248,67 @@ public class DefaultHashOperations extends AbstractBashOperation implements Hash
         return null;
     }
 
+    /**
+     * 一次管道读取多个key的相同filed，失败时抛出异常
+     *
+     * @param jedis  jedis
+     * @param keys   key
+     * @param keySet filed
+     * @return key与各自的filed和值
+     */
+    Map<String, Map<String, String>> readMulti(Jedis jedis, List<String> keys, Set<String> keySet) {
+        String[] fields = StringArrayUtil.toArray(keySet);
+        Pipeline pipeline = jedis.pipelined();
+        List<Response<List<String>>> responses = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            responses.add(pipeline.hmget(key, fields));
+        }
+        pipeline.sync();
+        Map<String, Map<String, String>> result = new LinkedHashMap<>(ChunkUtil.capacity(keys.size()));
+        for (int i = 0; i < keys.size(); i++) {
+            result.put(keys.get(i), HashUtil.toMap(fields, responses.get(i).get()));
+        }
+        return result;
+    }
+
+    @Override
+    public String hGet(String key, String filedKey) {
+        AbstractAssertUtils.notEmpty(key, message);
+
+        try {
+            NearCache nearCache = jedisService.getNearCache();
+            if (nearCache != null) {
+                return nearCache.get(key, NearCache.field(filedKey), () -> read(key, filedKey));
+            }
+            return read(key, filedKey);
+        } catch (JedisException e) {
+            logger.error("'hGet' key fail, key: {} , filedKey:{}", key, filedKey);
+            logger.error(e.getMessage(), e);
+        }
+        return null;
+    }
+
+    /**
+     * 从Redis读取filed的值，开启自动管道时合并到管道中发出，失败时抛出异常(不写入近端缓存)
+     *
+     * @param key      key
+     * @param filedKey filed
+     * @return {@link String}
+     */
+    private String read(String key, String filedKey) {
+        AutoPipeliningExecutor executor = jedisService.getAutoPipeliningExecutor();
+        if (executor != null) {
+            return executor.execute(executor.commands().hget(key, filedKey));
+        }
+        Jedis jedis = null;
+        try {
+            jedis = this.jedisService.getJedis();
+            return jedis.hget(key, filedKey);
+        } finally {
+            close(jedis);
+        }
+    }
+
     @Override
     public Boolean hExists(String key, String filedKey) {
         AbstractAssertUtils.notEmpty(key, message);
@@ -161,8 +338,36 @@ public class DefaultHashOperations extends AbstractBashOperation implements Hash
             logger.error("'hExists' key fail, key: {} , field:{}", key, field);
             logger.error(e.getMessage(), e);
         } finally {
+            jedisService.invalidateNearCache(key);
             close(jedis);
         }
         return 0;
     }
+
+    @Override
+    public Map<String, String> hGetAllOrLoad(String key, Supplier<Map<String, String>> loader, Duration ttl) {
+        return hGetAllOrLoad(key, loader, LoadOptions.ttl(ttl));
+    }
+
+    @Override
+    public Map<String, String> hGetAllOrLoad(String key, Supplier<Map<String, String>> loader, LoadOptions options) {
+        AbstractAssertUtils.notEmpty(key, message);
+        AbstractAssertUtils.isTrue(loader != null && options != null, "'loader' and 'options' must not be null");
+        return jedisService.getCacheAsideLoader().getOrLoad(key, options, HASH_STORE, loader);
+    }
+
+    @Override
+    public ScanIterator<Map.Entry<String, String>> hScan(String key, ScanOptions options) {
+        AbstractAssertUtils.notEmpty(key, message);
+        ScanParams params = options.toParams();
+        return new ScanIterator<>(cursor -> {
+            Jedis jedis = null;
+            try {
+                jedis = this.jedisService.getJedis();
+                return jedis.hscan(key, cursor, params);
+            } finally {
+                close(jedis);
+            }
+        });
+    }
 }
@@ -1,5 +1,6 @@
 package cn.vimor.toolkit.jedis.service.operations.impl;
 
+import cn.vimor.toolkit.jedis.scan.ScanIterator;
 import cn.vimor.toolkit.jedis.service.impl.JedisServiceImpl;
 import cn.vimor.toolkit.jedis.service.operations.ListOperations;
 import cn.vimor.toolkit.jedis.service.operations.abstracts.AbstractBashOperation;
@@ -9,6 +10,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.params.ScanParams;
+import redis.clients.jedis.resps.ScanResult;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -35,13 +38,7 @@ public class DefaultListOperations extends AbstractBashOperation implements List
 
     @Override
     protected void close(Jedis jedis) {
-        if (jedis != null) {
-            try {
-                jedis.close();
-            } catch (JedisException e) {
-                logger.error("ShardedJedis close fail", e);
-            }
-        }
+        jedisService.closeJedis(jedis);
     }
 
     @Override
@@ -245,4 +242,22 @@ public class DefaultListOperations extends AbstractBashOperation implements List
         }
     }
 
+    @Override
+    public ScanIterator<String> lRangeIterator(String key, int pageSize) {
+        AbstractAssertUtils.notEmpty(key, message);
+        AbstractAssertUtils.isTrue(pageSize > 0, "'pageSize' must be greater than 0");
+        //以下一页的开始下标作为游标，不足一页时结束
+        return new ScanIterator<>(cursor -> {
+            long start = Long.parseLong(cursor);
+            Jedis jedis = null;
+            try {
+                jedis = this.jedisService.getJedis();
+                List<String> page = jedis.lrange(key, start, start + pageSize - 1);
+                String next = page.size() < pageSize ? ScanParams.SCAN_POINTER_START : String.valueOf(start + pageSize);
+                return new ScanResult<>(next, page);
+            } finally {
+                close(jedis);
+            }
+        });
+    }
 }
@@ -1,5 +1,7 @@
 package cn.vimor.toolkit.jedis.service.operations.impl;
 
+import cn.vimor.toolkit.jedis.scan.ScanIterator;
+import cn.vimor.toolkit.jedis.scan.ScanOptions;
 import cn.vimor.toolkit.jedis.service.impl.JedisServiceImpl;
 import cn.vimor.toolkit.jedis.service.operations.SetOperations;
 import cn.vimor.toolkit.jedis.service.operations.abstracts.AbstractBashOperation;
@@ -9,6 +11,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.params.ScanParams;
 
 import java.util.Set;
 
@@ -32,13 +35,7 @@ public class DefaultSetOperations extends AbstractBashOperation implements SetOp
 
     @Override
     protected void close(Jedis jedis) {
-        if (jedis != null) {
-            try {
-                jedis.close();
-            } catch (JedisException e) {
-                logger.error("ShardedJedis close fail", e);
-            }
-        }
+        jedisService.closeJedis(jedis);
     }
 
     @Override
@@ -156,4 +153,19 @@ public class DefaultSetOperations extends AbstractBashOperation implements SetOp
         }
         return null;
     }
+
+    @Override
+    public ScanIterator<String> sScan(String key, ScanOptions options) {
+        AbstractAssertUtils.notEmpty(key, message);
+        ScanParams params = options.toParams();
+        return new ScanIterator<>(cursor -> {
+            Jedis jedis = null;
+            try {
+                jedis = this.jedisService.getJedis();
+                return jedis.sscan(key, cursor, params);
+            } finally {
+                close(jedis);
+            }
+        });
+    }
 }
@@ -0,0 +1,129 @@
+package cn.vimor.toolkit.jedis.service.operations.impl;
+
+import cn.vimor.toolkit.jedis.codec.ValueSerializer;
+import cn.vimor.toolkit.jedis.service.impl.JedisServiceImpl;
+import cn.vimor.toolkit.jedis.service.operations.BinaryHashOperations;
+import cn.vimor.toolkit.jedis.service.operations.TypedHashOperations;
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+import cn.vimor.toolkit.jedis.util.ChunkUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.ObjectUtils;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 默认类型化散列操作，基于{@link BinaryHashOperations}
+ *
+ * @param <T> 值类型
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class DefaultTypedHashOperations<T> implements TypedHashOperations<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(JedisServiceImpl.class);
+
+    private final BinaryHashOperations binaryOps;
+
+    private final ValueSerializer serializer;
+
+    private final Class<T> type;
+
+    private final String message = "'key' must not be null and empty";
+
+    public DefaultTypedHashOperations(BinaryHashOperations binaryOps, ValueSerializer serializer, Class<T> type) {
+        //没有编解码器支持的类型在创建时即失败，而不是在每次写入时
+        serializer.codecFor(type);
+        this.binaryOps = binaryOps;
+        this.serializer = serializer;
+        this.type = type;
+    }
+
+    @Override
+    public void hSet(String key, Map<String, T> map) {
+        AbstractAssertUtils.notEmpty(key, message);
+        if (ObjectUtils.isEmpty(map)) {
+            return;
+        }
+        try {
+            binaryOps.hSet(key, encode(serializer, map));
+        } catch (JedisException e) {
+            logger.error("'hSet' key fail, key: {} , type:{}", key, type.getName());
+            logger.error(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void hSet(String key, String filedKey, T filedValue) {
+        AbstractAssertUtils.notEmpty(key, message);
+        try {
+            binaryOps.hSet(key, filedKey, serializer.serialize(filedValue));
+        } catch (JedisException e) {
+            logger.error("'hSet' key fail, key: {} , filedKey:{}", key, filedKey);
+            logger.error(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public T hGet(String key, String filedKey) {
+        AbstractAssertUtils.notEmpty(key, message);
+        try {
+            return serializer.deserialize(binaryOps.hGet(key, filedKey), type);
+        } catch (JedisException e) {
+            logger.error("'hGet' key fail, key: {} , filedKey:{}", key, filedKey);
+            logger.error(e.getMessage(), e);
+        }
+        return null;
+    }
+
+    @Override
+    public Map<String, T> hGetAll(String key) {
+        AbstractAssertUtils.notEmpty(key, message);
+        Map<String, byte[]> values = binaryOps.hGetAll(key);
+        if (values == null) {
+            return null;
+        }
+        try {
+            return decode(serializer, values, type);
+        } catch (JedisException e) {
+            logger.error("'hGetAll' key fail, key: {} , type:{}", key, type.getName());
+            logger.error(e.getMessage(), e);
+        }
+        return null;
+    }
+
+    /**
+     * 编码map中的值
+     *
+     * @param serializer 序列化器
+     * @param map        filed-值
+     * @param <T>        值类型
+     * @return {@link Map}<{@link String}, byte[]>
+     */
+    public static <T> Map<String, byte[]> encode(ValueSerializer serializer, Map<String, T> map) {
+        Map<String, byte[]> encoded = new HashMap<>(ChunkUtil.capacity(map.size()));
+        for (Map.Entry<String, T> entry : map.entrySet()) {
+            encoded.put(entry.getKey(), serializer.serialize(entry.getValue()));
+        }
+        return encoded;
+    }
+
+    /**
+     * 解码map中的值
+     *
+     * @param serializer 序列化器
+     * @param map        filed-字节
+     * @param type       值类型
+     * @param <T>        值类型
+     * @return {@link Map}
+     */
+    public static <T> Map<String, T> decode(ValueSerializer serializer, Map<String, byte[]> map, Class<T> type) {
+        Map<String, T> decoded = new HashMap<>(ChunkUtil.capacity(map.size()));
+        for (Map.Entry<String, byte[]> entry : map.entrySet()) {
+            decoded.put(entry.getKey(), serializer.deserialize(entry.getValue(), type));
+        }
+        return decoded;
+    }
+}
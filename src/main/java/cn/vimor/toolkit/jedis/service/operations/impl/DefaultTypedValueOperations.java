@@ -0,0 +1,97 @@
+package cn.vimor.toolkit.jedis.service.operations.impl;
+
+import cn.vimor.toolkit.jedis.codec.ValueSerializer;
+import cn.vimor.toolkit.jedis.service.impl.JedisServiceImpl;
+import cn.vimor.toolkit.jedis.service.operations.BinaryValueOperations;
+import cn.vimor.toolkit.jedis.service.operations.TypedValueOperations;
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 默认类型化值操作，基于{@link BinaryValueOperations}
+ *
+ * @param <T> 值类型
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class DefaultTypedValueOperations<T> implements TypedValueOperations<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(JedisServiceImpl.class);
+
+    private final BinaryValueOperations binaryOps;
+
+    private final ValueSerializer serializer;
+
+    private final Class<T> type;
+
+    private final String message = "'key' must not be null and empty";
+
+    public DefaultTypedValueOperations(BinaryValueOperations binaryOps, ValueSerializer serializer, Class<T> type) {
+        //没有编解码器支持的类型在创建时即失败，而不是在每次写入时
+        serializer.codecFor(type);
+        this.binaryOps = binaryOps;
+        this.serializer = serializer;
+        this.type = type;
+    }
+
+    @Override
+    public T get(String key) {
+        AbstractAssertUtils.notEmpty(key, message);
+        try {
+            return serializer.deserialize(binaryOps.get(key), type);
+        } catch (JedisException e) {
+            logger.error("'get' key fail, key: {}, type: {}", key, type.getName());
+            logger.error(e.getMessage(), e);
+        }
+        return null;
+    }
+
+    @Override
+    public String set(String key, T value) {
+        AbstractAssertUtils.notEmpty(key, message);
+        try {
+            return binaryOps.set(key, serializer.serialize(value));
+        } catch (JedisException e) {
+            logger.error("'set' key fail, key: {}, type: {}", key, type.getName());
+            logger.error(e.getMessage(), e);
+        }
+        return null;
+    }
+
+    @Override
+    public String setEx(String key, int seconds, T value) {
+        AbstractAssertUtils.notEmpty(key, message);
+        try {
+            return binaryOps.setEx(key, seconds, serializer.serialize(value));
+        } catch (JedisException e) {
+            logger.error("'setex' key fail, key: {}, type: {}", key, type.getName());
+            logger.error(e.getMessage(), e);
+        }
+        return null;
+    }
+
+    @Override
+    public List<T> multiGet(List<String> keys) {
+        AbstractAssertUtils.notEmpty(keys, message);
+        List<byte[]> values = binaryOps.multiGet(keys);
+        if (values == null) {
+            return null;
+        }
+        List<T> result = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            try {
+                result.add(serializer.deserialize(values.get(i), type));
+            } catch (JedisException e) {
+                logger.error("'multiGet' decode fail, key: {}, type: {}", keys.get(i), type.getName());
+                logger.error(e.getMessage(), e);
+                result.add(null);
+            }
+        }
+        return result;
+    }
+}
@@ -1,18 +1,29 @@
 package cn.vimor.toolkit.jedis.service.operations.impl;
 
+import cn.vimor.toolkit.jedis.cache.CacheAsideLoader;
+import cn.vimor.toolkit.jedis.cache.LoadOptions;
+import cn.vimor.toolkit.jedis.cache.NearCache;
+import cn.vimor.toolkit.jedis.pipeline.AutoPipeliningExecutor;
 import cn.vimor.toolkit.jedis.service.impl.JedisServiceImpl;
 import cn.vimor.toolkit.jedis.service.operations.ValueOperations;
 import cn.vimor.toolkit.jedis.service.operations.abstracts.AbstractBashOperation;
 import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.util.ObjectUtils;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.exceptions.JedisException;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 
 /**
@@ -29,37 +40,69 @@ public class DefaultValueOperations extends AbstractBashOperation implements Val
 
     private final String message = "'key' must not be null and empty";
 
+    /**
+     * getOrLoad的读写方式：GET与PTTL一次往返读取，PSETEX写入
+     */
+    private static final CacheAsideLoader.CacheStore<String> STRING_STORE = new CacheAsideLoader.CacheStore<String>() {
+        @Override
+        public CacheAsideLoader.Entry<String> read(Jedis jedis, String key) {
+            Pipeline pipeline = jedis.pipelined();
+            Response<String> value = pipeline.get(key);
+            Response<Long> pttl = pipeline.pttl(key);
+            pipeline.sync();
+            return new CacheAsideLoader.Entry<>(value.get(), pttl.get());
+        }
+
+        @Override
+        public void write(Jedis jedis, String key, String value, long retainMillis) {
+            jedis.psetex(key, retainMillis, value);
+        }
+    };
+
     public DefaultValueOperations(JedisServiceImpl jedisService) {
         this.jedisService = jedisService;
     }
 
     @Override
     protected void close(Jedis jedis) {
-        if (jedis != null) {
-            try {
-                jedis.close();
-            } catch (JedisException e) {
-                logger.error("ShardedJedis close fail", e);
-            }
-        }
+        jedisService.closeJedis(jedis);
     }
 
     @Override
     public String get(String key) {
         AbstractAssertUtils.notEmpty(key, message);
 
-        Jedis jedis = null;
         try {
-            jedis = jedisService.getJedis();
-            return jedis.get(key);
+            NearCache nearCache = jedisService.getNearCache();
+            if (nearCache != null) {
+                return nearCache.get(key, NearCache.VALUE, () -> read(key));
+            }
+            return read(key);
         } catch (JedisException e) {
             logger.error("'get' key fail, key: {}", key);
             logger.error(e.getMessage(), e);
+        }
+        return null;
+    }
+
+    /**
+     * 从Redis读取值，开启自动管道时合并到管道中发出，失败时抛出异常(不写入近端缓存)
+     *
+     * @param key key
+     * @return {@link String}
+     */
+    private String read(String key) {
+        AutoPipeliningExecutor executor = jedisService.getAutoPipeliningExecutor();
+        if (executor != null) {
+            return executor.execute(executor.commands().get(key));
+        }
+        Jedis jedis = null;
+        try {
+            jedis = jedisService.getJedis();
+            return jedis.get(key);
         } finally {
             close(jedis);
         }
-
-        return null;
     }
 
     @Override
@@ -74,6 +117,7 @@ public class DefaultValueOperations extends AbstractBashOperation implements Val
             logger.error("'set' key fail, key: {}, value: {}", key, value);
             logger.error(e.getMessage(), e);
         } finally {
+            jedisService.invalidateNearCache(key);
             close(jedis);
         }
         return null;
@@ -91,6 +135,7 @@ public class DefaultValueOperations extends AbstractBashOperation implements Val
             logger.error("'setBit' key fail, key: {}, offset: {}, value: {}", key, offset, value);
             logger.error(e.getMessage(), e);
         } finally {
+            jedisService.invalidateNearCache(key);
             close(jedis);
         }
         return null;
@@ -143,6 +188,7 @@ public class DefaultValueOperations extends AbstractBashOperation implements Val
                 logger.error("'setex' key fail, key: {}, seconds: {}, value: {}", key, seconds, value);
                 logger.error(e.getMessage(), e);
             } finally {
+                jedisService.invalidateNearCache(key);
                 close(jedis);
             }
         } // 当seconds参数不合法(<= 0)时，后端会返回一个错误 ("JedisDataException: ERR invalid expire time in setex")，即操作失败
@@ -160,6 +206,7 @@ public class DefaultValueOperations extends AbstractBashOperation implements Val
             logger.error("'increment' key fail, key: {}", key);
             logger.error(e.getMessage(), e);
         } finally {
+            jedisService.invalidateNearCache(key);
             close(jedis);
         }
         return null;
@@ -176,6 +223,7 @@ public class DefaultValueOperations extends AbstractBashOperation implements Val
             logger.error("'incrementBy' key fail, key: {}, delta: {}", key, delta);
             logger.error(e.getMessage(), e);
         } finally {
+            jedisService.invalidateNearCache(key);
             close(jedis);
         }
         return null;
@@ -192,6 +240,7 @@ public class DefaultValueOperations extends AbstractBashOperation implements Val
             logger.error("'incrementByFloat' key fail, key: {}, delta: {}", key, delta);
             logger.error(e.getMessage(), e);
         } finally {
+            jedisService.invalidateNearCache(key);
             close(jedis);
         }
         return null;
@@ -214,34 +263,110 @@ public class DefaultValueOperations extends AbstractBashOperation implements Val
         return null;
     }
 
+    @Override
+    public String getOrLoad(String key, Supplier<String> loader, Duration ttl) {
+        return getOrLoad(key, loader, LoadOptions.ttl(ttl));
+    }
+
+    @Override
+    public String getOrLoad(String key, Supplier<String> loader, LoadOptions options) {
+        AbstractAssertUtils.notEmpty(key, message);
+        AbstractAssertUtils.isTrue(loader != null && options != null, "'loader' and 'options' must not be null");
+        return jedisService.getCacheAsideLoader().getOrLoad(key, options, STRING_STORE, loader);
+    }
+
     @Override
     public List<String> piplineGet(List<String> keys) {
-        long l = System.currentTimeMillis();
-        System.out.println("进入pipline时间" + l);
         AbstractAssertUtils.notEmpty(keys, message);
+        try {
+            return readBulk(keys);
+        } catch (JedisException e) {
+            logger.error("'piplineGet' key fail, key size: {}", keys.size());
+            logger.error(e.getMessage(), e);
+        }
+        return null;
+    }
+
+    /**
+     * 分块读取多个key，失败时抛出异常
+     *
+     * @param keys 全部key
+     * @return 值，下标与key一一对应
+     */
+    List<String> readBulk(List<String> keys) {
+        long start = System.nanoTime();
+        int chunkSize = jedisService.getBulkChunkSize();
+        int chunkCount = (keys.size() + chunkSize - 1) / chunkSize;
+        int parallelism = Math.min(jedisService.getBulkParallelism(), chunkCount);
+        String[] values = new String[keys.size()];
+        try {
+            if (parallelism <= 1) {
+                readChunks(keys, values, chunkSize, 0, 1);
+            } else {
+                //每个连接按步长负责一部分分块，结果直接写入各自的下标区间
+                CompletionService<Void> completion = new ExecutorCompletionService<>(jedisService.getBulkExecutor());
+                List<Future<Void>> futures = new ArrayList<>(parallelism);
+                for (int worker = 0; worker < parallelism; worker++) {
+                    int firstChunk = worker;
+                    futures.add(completion.submit(() -> readChunks(keys, values, chunkSize, firstChunk, parallelism),
+                            null));
+                }
+                try {
+                    //按完成顺序等待，任一连接失败时立即得知
+                    for (int i = 0; i < futures.size(); i++) {
+                        awaitNext(completion);
+                    }
+                } catch (RuntimeException e) {
+                    //第一个失败后取消其余分块，结果已经不会被使用
+                    for (Future<Void> future : futures) {
+                        future.cancel(true);
+                    }
+                    throw e;
+                }
+            }
+        } finally {
+            jedisService.getMetrics().recordBulkRead("piplineGet", keys.size(), chunkCount, System.nanoTime() - start);
+        }
+        return Arrays.asList(values);
+    }
+
+    /**
+     * 在一个连接上按顺序读取分块，每块一次MGET；线程被中断(取消)时不再读取后续分块
+     *
+     * @param keys       全部key
+     * @param values     结果，下标与key一一对应
+     * @param chunkSize  每块的key数量
+     * @param firstChunk 第一个分块的序号
+     * @param stride     分块步长
+     */
+    private void readChunks(List<String> keys, String[] values, int chunkSize, int firstChunk, int stride) {
         Jedis jedis = null;
         try {
             jedis = jedisService.getJedis();
-            System.out.println("获取jedis链接时间" + (System.currentTimeMillis() - l));
-            l = System.currentTimeMillis();
-            Pipeline pipelined = jedis.pipelined();
-            for (String key : keys) {
-                pipelined.get(key);
-            }
-            List<Object> list = pipelined.syncAndReturnAll();
-            System.out.println("得到管道时间" + (System.currentTimeMillis() - l));
-            l = System.currentTimeMillis();
-            if (!ObjectUtils.isEmpty(list)) {
-                List<String> collect = list.stream().map(String::valueOf).collect(Collectors.toList());
-                System.out.println("处理数据后时间" + (System.currentTimeMillis() - l));
-                return collect;
+            for (int from = firstChunk * chunkSize; from < keys.size() && !Thread.currentThread().isInterrupted();
+                 from += stride * chunkSize) {
+                int to = Math.min(from + chunkSize, keys.size());
+                List<String> chunk = jedis.mget(keys.subList(from, to).toArray(new String[0]));
+                for (int i = 0; i < chunk.size(); i++) {
+                    values[from + i] = chunk.get(i);
+                }
             }
-        } catch (JedisException e) {
-            logger.error("'incrementByFloat' key fail, key: {}", keys);
-            logger.error(e.getMessage(), e);
         } finally {
             close(jedis);
         }
-        return null;
+    }
+
+    private void awaitNext(CompletionService<Void> completion) {
+        try {
+            completion.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JedisException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof JedisException) {
+                throw (JedisException) e.getCause();
+            }
+            throw new JedisException(e.getCause());
+        }
     }
 }
@@ -1,5 +1,8 @@
 package cn.vimor.toolkit.jedis.service.operations.impl;
 
+import cn.vimor.toolkit.jedis.pipeline.AutoPipeliningExecutor;
+import cn.vimor.toolkit.jedis.scan.ScanIterator;
+import cn.vimor.toolkit.jedis.scan.ScanOptions;
 import cn.vimor.toolkit.jedis.service.impl.JedisServiceImpl;
 import cn.vimor.toolkit.jedis.service.operations.ZsetOperations;
 import cn.vimor.toolkit.jedis.service.operations.abstracts.AbstractBashOperation;
@@ -9,6 +12,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.exceptions.JedisException;
+import redis.clients.jedis.params.ScanParams;
 import redis.clients.jedis.resps.Tuple;
 
 import java.util.List;
@@ -35,13 +39,7 @@ public class DefaultZSetOperations extends AbstractBashOperation implements Zset
 
     @Override
     protected void close(Jedis jedis) {
-        if (jedis != null) {
-            try {
-                jedis.close();
-            } catch (JedisException e) {
-                logger.error("ShardedJedis close fail", e);
-            }
-        }
+        jedisService.closeJedis(jedis);
     }
 
     @Override
@@ -226,6 +224,16 @@ public class DefaultZSetOperations extends AbstractBashOperation implements Zset
     public Double zScore(String key, String member) {
         AbstractAssertUtils.notEmpty(key, message);
 
+        AutoPipeliningExecutor executor = jedisService.getAutoPipeliningExecutor();
+        if (executor != null) {
+            try {
+                return executor.execute(executor.commands().zscore(key, member));
+            } catch (JedisException e) {
+                logger.error("'zScore' key fail, key: {},member:{}", key, member);
+                logger.error(e.getMessage(), e);
+                return null;
+            }
+        }
         Jedis jedis = null;
         try {
             jedis = jedisService.getJedis();
@@ -341,4 +349,19 @@ public class DefaultZSetOperations extends AbstractBashOperation implements Zset
         }
         return null;
     }
+
+    @Override
+    public ScanIterator<Tuple> zScan(String key, ScanOptions options) {
+        AbstractAssertUtils.notEmpty(key, message);
+        ScanParams params = options.toParams();
+        return new ScanIterator<>(cursor -> {
+            Jedis jedis = null;
+            try {
+                jedis = this.jedisService.getJedis();
+                return jedis.zscan(key, cursor, params);
+            } finally {
+                close(jedis);
+            }
+        });
+    }
 }
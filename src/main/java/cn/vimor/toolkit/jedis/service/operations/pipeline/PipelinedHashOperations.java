@@ -0,0 +1,132 @@
+package cn.vimor.toolkit.jedis.service.operations.pipeline;
+
+import cn.vimor.toolkit.jedis.service.impl.DefaultJedisBatch;
+import cn.vimor.toolkit.jedis.service.operations.BaseHashOperations;
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+import cn.vimor.toolkit.jedis.util.ChunkUtil;
+import cn.vimor.toolkit.jedis.util.HashUtil;
+import cn.vimor.toolkit.jedis.util.StringArrayUtil;
+import org.springframework.util.ObjectUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 批量会话中的散列操作，调用只记录到会话的pipeline中，返回占位值
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class PipelinedHashOperations implements BaseHashOperations {
+
+    private final DefaultJedisBatch batch;
+
+    private final String message = "'key' must not be null and empty";
+
+    public PipelinedHashOperations(DefaultJedisBatch batch) {
+        this.batch = batch;
+    }
+
+    @Override
+    public void hSet(String key, Map<String, String> map) {
+        AbstractAssertUtils.notEmpty(key, message);
+        if (ObjectUtils.isEmpty(map)) {
+            //与同步操作一致不报错，记录一次新增0个filed的结果
+            batch.recordValue(0L);
+            return;
+        }
+        List<Supplier<Long>> responses = new ArrayList<>();
+        for (Map<String, String> chunk : ChunkUtil.split(map, batch.getBulkChunkSize())) {
+            responses.add(batch.queue(batch.commands().hset(key, chunk)));
+        }
+        //分块写入时只记录最后一个回复，结果为各块新增filed数之和
+        batch.record(responses.get(responses.size() - 1), last -> {
+            long added = 0;
+            for (Supplier<Long> response : responses) {
+                added += response.get();
+            }
+            return added;
+        });
+    }
+
+    @Override
+    public void hSet(String key, String filedKey, String filedValue) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().hset(key, filedKey, filedValue));
+    }
+
+    @Override
+    public Map<String, String> hGetAll(String key) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().hgetAll(key));
+        return null;
+    }
+
+    @Override
+    public Map<String, String> hGet(String key, Set<String> keySet) {
+        AbstractAssertUtils.notEmpty(key, message);
+        if (ObjectUtils.isEmpty(keySet)) {
+            //与同步操作一致不报错，记录一个空map的结果
+            batch.recordValue(new HashMap<String, String>(8));
+            return null;
+        }
+        List<String[]> chunks = ChunkUtil.split(StringArrayUtil.toArray(keySet), batch.getBulkChunkSize());
+        List<Supplier<List<String>>> responses = new ArrayList<>(chunks.size());
+        for (String[] chunk : chunks) {
+            responses.add(batch.queue(batch.commands().hmget(key, chunk)));
+        }
+        batch.record(responses.get(responses.size() - 1), last -> {
+            Map<String, String> map = new HashMap<>(ChunkUtil.capacity(keySet.size()));
+            for (int i = 0; i < chunks.size(); i++) {
+                map.putAll(HashUtil.toMap(chunks.get(i), responses.get(i).get()));
+            }
+            return map;
+        });
+        return null;
+    }
+
+    @Override
+    public Map<String, Map<String, String>> hMultiGet(List<String> keys, Set<String> keySet) {
+        AbstractAssertUtils.notEmpty(keys, message);
+        AbstractAssertUtils.notEmpty(keySet, "'keySet' must have elements");
+        String[] fields = StringArrayUtil.toArray(keySet);
+        List<Supplier<List<String>>> responses = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            responses.add(batch.queue(batch.commands().hmget(key, fields)));
+        }
+        batch.record(responses.get(responses.size() - 1), last -> {
+            Map<String, Map<String, String>> result = new LinkedHashMap<>(ChunkUtil.capacity(keys.size()));
+            for (int i = 0; i < keys.size(); i++) {
+                result.put(keys.get(i), HashUtil.toMap(fields, responses.get(i).get()));
+            }
+            return result;
+        });
+        return null;
+    }
+
+    @Override
+    public String hGet(String key, String filedKey) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().hget(key, filedKey));
+        return null;
+    }
+
+    @Override
+    public Boolean hExists(String key, String filedKey) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().hexists(key, filedKey));
+        return null;
+    }
+
+    @Override
+    public long hDel(String key, String... field) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().hdel(key, field));
+        return 0;
+    }
+}
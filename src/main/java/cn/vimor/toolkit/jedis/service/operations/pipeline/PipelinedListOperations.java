@@ -0,0 +1,102 @@
+package cn.vimor.toolkit.jedis.service.operations.pipeline;
+
+import cn.vimor.toolkit.jedis.service.impl.DefaultJedisBatch;
+import cn.vimor.toolkit.jedis.service.operations.BaseListOperations;
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+import cn.vimor.toolkit.jedis.util.StringArrayUtil;
+
+import java.util.List;
+
+/**
+ * 批量会话中的列表操作，调用只记录到会话的pipeline中，返回占位值
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class PipelinedListOperations implements BaseListOperations {
+
+    private final DefaultJedisBatch batch;
+
+    private final String message = "'key' must not be null and empty";
+
+    public PipelinedListOperations(DefaultJedisBatch batch) {
+        this.batch = batch;
+    }
+
+    @Override
+    public long lLen(String key) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().llen(key));
+        return 0;
+    }
+
+    @Override
+    public long lPush(String key, String... values) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().lpush(key, values));
+        return 0;
+    }
+
+    @Override
+    public String rPop(String key) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().rpop(key));
+        return null;
+    }
+
+    @Override
+    public List<String> lRange(String key, int start, int stop) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().lrange(key, start, stop));
+        return null;
+    }
+
+    @Override
+    public String ltrim(String key, int start, int stop) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().ltrim(key, start, stop));
+        return null;
+    }
+
+    @Override
+    public List<String> get(String key) {
+        return get(key, 0L, -1L);
+    }
+
+    @Override
+    public List<String> get(String key, Long endRange) {
+        return get(key, 0L, endRange);
+    }
+
+    @Override
+    public List<String> get(String key, Long startRange, Long endRange) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().lrange(key, startRange, endRange));
+        return null;
+    }
+
+    @Override
+    public String lPop(String key) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().lpop(key));
+        return null;
+    }
+
+    @Override
+    public void lRem(String key, String value) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().lrem(key, 0L, value));
+    }
+
+    @Override
+    public void rPush(String key, String... item) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().rpush(key, item));
+    }
+
+    @Override
+    public void rPush(String key, List<String> list) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().rpush(key, StringArrayUtil.toArray(list)));
+    }
+}
@@ -0,0 +1,71 @@
+package cn.vimor.toolkit.jedis.service.operations.pipeline;
+
+import cn.vimor.toolkit.jedis.service.impl.DefaultJedisBatch;
+import cn.vimor.toolkit.jedis.service.operations.BaseSetOperations;
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+import cn.vimor.toolkit.jedis.util.StringArrayUtil;
+
+import java.util.Set;
+
+/**
+ * 批量会话中的集合操作，调用只记录到会话的pipeline中，返回占位值
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class PipelinedSetOperations implements BaseSetOperations {
+
+    private final DefaultJedisBatch batch;
+
+    private final String message = "'key' must not be null and empty";
+
+    public PipelinedSetOperations(DefaultJedisBatch batch) {
+        this.batch = batch;
+    }
+
+    @Override
+    public void batchAdd(String key, Set<String> values) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().sadd(key, StringArrayUtil.toArray(values)));
+    }
+
+    @Override
+    public void add(String key, String setValue) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().sadd(key, setValue));
+    }
+
+    @Override
+    public Set<String> members(String key) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().smembers(key));
+        return null;
+    }
+
+    @Override
+    public Long sCard(String key) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().scard(key));
+        return null;
+    }
+
+    @Override
+    public Boolean isMember(String key, String member) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().sismember(key, member));
+        return null;
+    }
+
+    @Override
+    public void sRem(String key, String... member) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().srem(key, member));
+    }
+
+    @Override
+    public String sRandMember(String key) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().srandmember(key));
+        return null;
+    }
+}
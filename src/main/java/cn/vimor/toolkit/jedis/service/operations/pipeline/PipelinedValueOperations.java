@@ -0,0 +1,100 @@
+package cn.vimor.toolkit.jedis.service.operations.pipeline;
+
+import cn.vimor.toolkit.jedis.service.impl.DefaultJedisBatch;
+import cn.vimor.toolkit.jedis.service.operations.BaseValueOperations;
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+
+import java.util.List;
+
+/**
+ * 批量会话中的值操作，调用只记录到会话的pipeline中，返回占位值
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class PipelinedValueOperations implements BaseValueOperations {
+
+    private final DefaultJedisBatch batch;
+
+    private final String message = "'key' must not be null and empty";
+
+    public PipelinedValueOperations(DefaultJedisBatch batch) {
+        this.batch = batch;
+    }
+
+    @Override
+    public String get(String key) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().get(key));
+        return null;
+    }
+
+    @Override
+    public String set(String key, String value) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().set(key, value));
+        return null;
+    }
+
+    @Override
+    public Boolean setBit(String key, long offset, boolean value) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().setbit(key, offset, value));
+        return null;
+    }
+
+    @Override
+    public Boolean getBit(String key, long offset) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().getbit(key, offset));
+        return null;
+    }
+
+    @Override
+    public Long bitCount(String key) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().bitcount(key));
+        return null;
+    }
+
+    @Override
+    public String setEx(String key, int seconds, String value) {
+        AbstractAssertUtils.notEmpty(key, message);
+        AbstractAssertUtils.isTrue(seconds > 0, "'seconds' must be greater than 0");
+        batch.record(batch.commands().setex(key, seconds, value));
+        return null;
+    }
+
+    @Override
+    public Long increment(String key) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().incr(key));
+        return null;
+    }
+
+    @Override
+    public Long incrementBy(String key, long delta) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().incrBy(key, delta));
+        return null;
+    }
+
+    @Override
+    public Double incrementByFloat(String key, double delta) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().incrByFloat(key, delta));
+        return null;
+    }
+
+    @Override
+    public List<String> multiGet(List<String> keys) {
+        AbstractAssertUtils.notEmpty(keys, message);
+        batch.record(batch.commands().mget(keys.toArray(new String[0])));
+        return null;
+    }
+
+    @Override
+    public List<String> piplineGet(List<String> keys) {
+        return multiGet(keys);
+    }
+}
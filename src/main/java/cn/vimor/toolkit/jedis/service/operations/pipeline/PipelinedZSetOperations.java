@@ -0,0 +1,155 @@
+package cn.vimor.toolkit.jedis.service.operations.pipeline;
+
+import cn.vimor.toolkit.jedis.service.impl.DefaultJedisBatch;
+import cn.vimor.toolkit.jedis.service.operations.BaseZsetOperations;
+import cn.vimor.toolkit.jedis.util.AbstractAssertUtils;
+import cn.vimor.toolkit.jedis.util.StringArrayUtil;
+import redis.clients.jedis.resps.Tuple;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 批量会话中的有序集合操作，调用只记录到会话的pipeline中，返回占位值
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class PipelinedZSetOperations implements BaseZsetOperations {
+
+    private final DefaultJedisBatch batch;
+
+    private final String message = "'key' must not be null and empty";
+
+    public PipelinedZSetOperations(DefaultJedisBatch batch) {
+        this.batch = batch;
+    }
+
+    @Override
+    public long zAdd(String key, double score, String member) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().zadd(key, score, member));
+        return 0;
+    }
+
+    @Override
+    public long zAdd(String key, Map<String, Double> scoreMembers) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().zadd(key, scoreMembers));
+        return 0;
+    }
+
+    @Override
+    public double zIncrement(String key, double score, String member) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().zincrby(key, score, member));
+        return 0;
+    }
+
+    @Override
+    public List<String> zRange(String key) {
+        return zRange(key, 0L, -1L);
+    }
+
+    @Override
+    public List<String> zRange(String key, Long end) {
+        return zRange(key, 0L, end);
+    }
+
+    @Override
+    public List<String> zRange(String key, Long start, Long end) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().zrange(key, start, end));
+        return null;
+    }
+
+    @Override
+    public List<Tuple> zRangeWithScores(String key, Long start, Long end) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().zrangeWithScores(key, start, end));
+        return null;
+    }
+
+    @Override
+    public List<Tuple> zRangeWithScores(String key, double min, double max) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().zrangeByScoreWithScores(key, min, max));
+        return null;
+    }
+
+    @Override
+    public List<Tuple> zRangeWithScores(String key, double min, double max, Integer start, Integer end) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().zrangeByScoreWithScores(key, min, max, start, end));
+        return null;
+    }
+
+    @Override
+    public List<Tuple> zRevRangeWithScores(String key, double max, double min, Integer start, Integer end) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().zrevrangeByScoreWithScores(key, max, min, start, end));
+        return null;
+    }
+
+    @Override
+    public void zRem(String key, String value) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().zrem(key, value));
+    }
+
+    @Override
+    public void zRem(String key, Set<String> values) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().zrem(key, StringArrayUtil.toArray(values)));
+    }
+
+    @Override
+    public Double zScore(String key, String member) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().zscore(key, member));
+        return null;
+    }
+
+    @Override
+    public List<String> zRangeByScore(String key, double min, double max) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().zrangeByScore(key, min, max));
+        return null;
+    }
+
+    @Override
+    public Long zRemRangeByScore(String key, double min, double max) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().zremrangeByScore(key, min, max));
+        return null;
+    }
+
+    @Override
+    public List<String> rangeByScore(String key, double min, double max, int offset, int count) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().zrangeByScore(key, min, max, offset, count));
+        return null;
+    }
+
+    @Override
+    public Long count(String key, double min, double max) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().zlexcount(key, min + "", max + ""));
+        return null;
+    }
+
+    @Override
+    public Long zRank(String key, String member) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().zrank(key, member));
+        return null;
+    }
+
+    @Override
+    public Long zRevRank(String key, String member) {
+        AbstractAssertUtils.notEmpty(key, message);
+        batch.record(batch.commands().zrevrank(key, member));
+        return null;
+    }
+}
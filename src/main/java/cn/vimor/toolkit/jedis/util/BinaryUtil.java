@@ -0,0 +1,90 @@
+package cn.vimor.toolkit.jedis.util;
+
+import redis.clients.jedis.util.SafeEncoder;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 二进制工具类
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class BinaryUtil {
+
+    /**
+     * 字符串key编码为UTF-8字节
+     *
+     * @param key key
+     * @return byte[]
+     */
+    public static byte[] encode(String key) {
+        return SafeEncoder.encode(key);
+    }
+
+    /**
+     * 批量编码字符串key
+     *
+     * @param keys key
+     * @return byte[][]
+     */
+    public static byte[][] encode(List<String> keys) {
+        byte[][] encoded = new byte[keys.size()][];
+        for (int i = 0; i < encoded.length; i++) {
+            encoded[i] = SafeEncoder.encode(keys.get(i));
+        }
+        return encoded;
+    }
+
+    /**
+     * 编码map的key，值不做处理
+     *
+     * @param map map
+     * @return {@link Map}<byte[], byte[]>
+     */
+    public static Map<byte[], byte[]> encodeKeys(Map<String, byte[]> map) {
+        Map<byte[], byte[]> encoded = new HashMap<>(ChunkUtil.capacity(map.size()));
+        for (Map.Entry<String, byte[]> entry : map.entrySet()) {
+            encoded.put(SafeEncoder.encode(entry.getKey()), entry.getValue());
+        }
+        return encoded;
+    }
+
+    /**
+     * 解码map的key，值不做处理
+     *
+     * @param map map
+     * @return {@link Map}<{@link String}, byte[]>
+     */
+    public static Map<String, byte[]> decodeKeys(Map<byte[], byte[]> map) {
+        Map<String, byte[]> decoded = new HashMap<>(ChunkUtil.capacity(map.size()));
+        for (Map.Entry<byte[], byte[]> entry : map.entrySet()) {
+            decoded.put(SafeEncoder.encode(entry.getKey()), entry.getValue());
+        }
+        return decoded;
+    }
+
+    /**
+     * 取出缓冲区position到limit之间的字节，不改变position；缓冲区恰好包装了整个数组时直接返回该数组
+     *
+     * @param buffer 缓冲区
+     * @return byte[]
+     */
+    public static byte[] toArray(ByteBuffer buffer) {
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0
+                && buffer.remaining() == buffer.array().length) {
+            return buffer.array();
+        }
+        if (buffer.hasArray()) {
+            int from = buffer.arrayOffset() + buffer.position();
+            return Arrays.copyOfRange(buffer.array(), from, from + buffer.remaining());
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+}
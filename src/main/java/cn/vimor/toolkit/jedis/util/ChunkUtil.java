@@ -0,0 +1,72 @@
+package cn.vimor.toolkit.jedis.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 分块工具类
+ *
+ * @author Jani
+ * @date 2026/10/17
+ */
+public class ChunkUtil {
+
+    /**
+     * 按块大小拆分数组，数组长度不超过块大小时直接返回原数组
+     *
+     * @param array     数组
+     * @param chunkSize 块大小
+     * @return {@link List}<{@link String}[]>
+     */
+    public static List<String[]> split(String[] array, int chunkSize) {
+        List<String[]> chunks = new ArrayList<>(array.length / chunkSize + 1);
+        if (array.length <= chunkSize) {
+            chunks.add(array);
+            return chunks;
+        }
+        for (int from = 0; from < array.length; from += chunkSize) {
+            chunks.add(Arrays.copyOfRange(array, from, Math.min(from + chunkSize, array.length)));
+        }
+        return chunks;
+    }
+
+    /**
+     * 按块大小拆分map，map大小不超过块大小时直接返回原map
+     *
+     * @param map       map
+     * @param chunkSize 块大小
+     * @return {@link List}<{@link Map}>
+     */
+    public static <K, V> List<Map<K, V>> split(Map<K, V> map, int chunkSize) {
+        List<Map<K, V>> chunks = new ArrayList<>(map.size() / chunkSize + 1);
+        if (map.size() <= chunkSize) {
+            chunks.add(map);
+            return chunks;
+        }
+        Map<K, V> chunk = new HashMap<>(capacity(chunkSize));
+        for (Map.Entry<K, V> entry : map.entrySet()) {
+            chunk.put(entry.getKey(), entry.getValue());
+            if (chunk.size() == chunkSize) {
+                chunks.add(chunk);
+                chunk = new HashMap<>(capacity(chunkSize));
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    /**
+     * 容纳指定数量元素且不扩容的HashMap初始容量
+     *
+     * @param size 元素数量
+     * @return int
+     */
+    public static int capacity(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+}
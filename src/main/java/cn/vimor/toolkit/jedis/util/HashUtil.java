@@ -0,0 +1,29 @@
+package cn.vimor.toolkit.jedis.util;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 散列工具类
+ *
+ * @author Jani
+ * @date 2026/10/18
+ */
+public class HashUtil {
+
+    /**
+     * 将HMGET的结果按filed组装为map
+     *
+     * @param fields filed
+     * @param values 值，顺序与fields一致
+     * @return {@link Map}<{@link String}, {@link String}>
+     */
+    public static Map<String, String> toMap(String[] fields, List<String> values) {
+        Map<String, String> map = new HashMap<>(ChunkUtil.capacity(fields.length));
+        for (int i = 0; i < fields.length; i++) {
+            map.put(fields[i], values.get(i));
+        }
+        return map;
+    }
+}
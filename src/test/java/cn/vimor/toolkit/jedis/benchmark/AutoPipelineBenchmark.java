@@ -0,0 +1,107 @@
+package cn.vimor.toolkit.jedis.benchmark;
+
+import cn.vimor.toolkit.jedis.connection.PooledJedisConnectionProvider;
+import cn.vimor.toolkit.jedis.pipeline.AutoPipeliningExecutor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 自动管道的基准测试
+ * <p>
+ * 64个线程并发GET同一个key，对比直接借用连接与不同在途管道数的自动管道吞吐；需要可用的redis，
+ * 地址通过-Dredis.host/-Dredis.port指定，默认127.0.0.1:6379。
+ *
+ * @author Jani
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(64)
+public class AutoPipelineBenchmark {
+
+    private static final String KEY = "benchmark:auto-pipeline";
+
+    @Param({"1", "2", "4"})
+    private int maxInFlight;
+
+    private PooledJedisConnectionProvider provider;
+
+    private AutoPipeliningExecutor executor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        JedisPoolConfig poolConfig = new JedisPoolConfig();
+        poolConfig.setMaxTotal(16);
+        poolConfig.setMaxIdle(16);
+        poolConfig.setJmxEnabled(false);
+        JedisPool jedisPool = new JedisPool(poolConfig, System.getProperty("redis.host", "127.0.0.1"),
+                Integer.getInteger("redis.port", 6379));
+        provider = new PooledJedisConnectionProvider(jedisPool);
+        executor = new AutoPipeliningExecutor(provider, 100, TimeUnit.MICROSECONDS, 128, maxInFlight, 4000);
+        Jedis jedis = provider.getResource();
+        try {
+            jedis.set(KEY, "value");
+        } finally {
+            provider.release(jedis);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.close();
+        provider.close();
+    }
+
+    /**
+     * 直接借用连接执行，作为对照，与maxInFlight无关
+     *
+     * @return {@link String}
+     */
+    @Benchmark
+    public String direct() {
+        Jedis jedis = provider.getResource();
+        try {
+            return jedis.get(KEY);
+        } finally {
+            provider.release(jedis);
+        }
+    }
+
+    /**
+     * 经自动管道执行
+     *
+     * @return {@link String}
+     */
+    @Benchmark
+    public String autoPipelined() {
+        return executor.execute(executor.commands().get(KEY));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(AutoPipelineBenchmark.class.getSimpleName()).build()).run();
+    }
+}
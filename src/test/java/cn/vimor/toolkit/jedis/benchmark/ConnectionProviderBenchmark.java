@@ -0,0 +1,107 @@
+package cn.vimor.toolkit.jedis.benchmark;
+
+import cn.vimor.toolkit.jedis.connection.PooledJedisConnectionProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 连接借用竞争的基准测试
+ * <p>
+ * 争用8个连接，对比普通借用与线程亲和(固定持有上限为4)的吞吐随线程数的变化；{@link #main(String[])}依次以
+ * {@link #THREADS}中的线程数运行，命令行运行时通过-t指定线程数(默认32)。需要可用的redis，
+ * 地址通过-Dredis.host/-Dredis.port指定，默认127.0.0.1:6379。
+ *
+ * @author Jani
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+public class ConnectionProviderBenchmark {
+
+    private static final int MAX_TOTAL = 8;
+
+    /**
+     * main依次运行的线程数，覆盖少于、等于以及远多于连接数的情况
+     */
+    private static final int[] THREADS = {1, 8, 32, 128};
+
+    @Param({"false", "true"})
+    private boolean threadAffinity;
+
+    private PooledJedisConnectionProvider provider;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        JedisPoolConfig poolConfig = new JedisPoolConfig();
+        poolConfig.setMaxTotal(MAX_TOTAL);
+        poolConfig.setMaxIdle(MAX_TOTAL);
+        poolConfig.setJmxEnabled(false);
+        JedisPool jedisPool = new JedisPool(poolConfig, System.getProperty("redis.host", "127.0.0.1"),
+                Integer.getInteger("redis.port", 6379));
+        provider = new PooledJedisConnectionProvider(jedisPool, threadAffinity);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        provider.close();
+    }
+
+    /**
+     * 只借用和归还，衡量借用路径本身的竞争
+     *
+     * @return {@link Jedis}
+     */
+    @Benchmark
+    public Jedis borrow() {
+        Jedis jedis = provider.getResource();
+        provider.release(jedis);
+        return jedis;
+    }
+
+    /**
+     * 借用后执行一次PING
+     *
+     * @return {@link String}
+     */
+    @Benchmark
+    public String ping() {
+        Jedis jedis = provider.getResource();
+        try {
+            return jedis.ping();
+        } finally {
+            provider.release(jedis);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREADS) {
+            new Runner(new OptionsBuilder().include(ConnectionProviderBenchmark.class.getSimpleName())
+                    .threads(threads).build()).run();
+        }
+    }
+}
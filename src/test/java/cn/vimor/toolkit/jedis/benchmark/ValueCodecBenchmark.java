@@ -0,0 +1,136 @@
+package cn.vimor.toolkit.jedis.benchmark;
+
+import cn.vimor.toolkit.jedis.codec.BinaryValueCodec;
+import cn.vimor.toolkit.jedis.codec.JavaSerializationCodec;
+import cn.vimor.toolkit.jedis.codec.JsonValueCodec;
+import cn.vimor.toolkit.jedis.codec.ValueCodec;
+import cn.vimor.toolkit.jedis.codec.ValueSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 值编解码与压缩的基准测试
+ * <p>
+ * 对比JSON与Java序列化在不同大小对象上的编码/解码耗时，以及开启压缩阈值后的额外开销；
+ * 基本类型单独测试二进制编码。不需要redis。
+ *
+ * @author Jani
+ * @date 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueCodecBenchmark {
+
+    /**
+     * 对象使用的编解码器
+     */
+    @Param({"json", "java"})
+    private String codec;
+
+    /**
+     * 对象中字符串列表的长度
+     */
+    @Param({"8", "512"})
+    private int size;
+
+    /**
+     * 压缩阈值，0为不压缩
+     */
+    @Param({"0", "1024"})
+    private int compressThreshold;
+
+    private ValueSerializer serializer;
+
+    private Profile profile;
+
+    private byte[] profileBytes;
+
+    private byte[] longBytes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ValueCodec objectCodec = "java".equals(codec)
+                ? new JavaSerializationCodec(Profile.class.getName(), "java.util.", "java.lang.")
+                : new JsonValueCodec();
+        serializer = new ValueSerializer(Arrays.asList(new BinaryValueCodec(), objectCodec), compressThreshold);
+        List<String> tags = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tags.add("tag-" + (i % 32));
+        }
+        profile = new Profile(1001L, "Jani", tags);
+        profileBytes = serializer.serialize(profile);
+        longBytes = serializer.serialize(1001L);
+    }
+
+    @Benchmark
+    public byte[] serializeObject() {
+        return serializer.serialize(profile);
+    }
+
+    @Benchmark
+    public Profile deserializeObject() {
+        return serializer.deserialize(profileBytes, Profile.class);
+    }
+
+    @Benchmark
+    public byte[] serializeLong() {
+        return serializer.serialize(1001L);
+    }
+
+    @Benchmark
+    public Long deserializeLong() {
+        return serializer.deserialize(longBytes, Long.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ValueCodecBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    /**
+     * 测试对象
+     */
+    public static class Profile implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private long id;
+
+        private String name;
+
+        private List<String> tags;
+
+        public Profile() {
+            this.tags = Collections.emptyList();
+        }
+
+        public Profile(long id, String name, List<String> tags) {
+            this.id = id;
+            this.name = name;
+            this.tags = tags;
+        }
+    }
+}